@@ -0,0 +1,130 @@
+package com.EngCode.BFF_Agendador_de_Tarefas;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Teste de carga do BFF inteiro com e sem threads virtuais ('spring.threads.virtual.enabled').
+ * CENÁRIO: Lotes de 'concorrencia' GET /tarefas simultâneos; o Microsserviço de Agendamento é um stub
+ * que responde depois de 'atrasoMs'. Os limites contra o destino (pool de conexões e bulkhead) são os mesmos
+ * nos dois modos: só muda quem espera a resposta (pool de 'assincrono.threads-maximas' threads de plataforma
+ * ou uma thread virtual por requisição, até 'assincrono.concorrencia-virtual').
+ * Medida: requisições por segundo (um lote = 'concorrencia' operações).
+ * Execução: gradle jmh -Pbenchmark=CargaThreadsVirtuaisBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(CargaThreadsVirtuaisBenchmark.CONCORRENCIA)
+public class CargaThreadsVirtuaisBenchmark {
+
+    // Abaixo de 'threads-maximas' + 'fila' do executor assíncrono, para o modo de plataforma não recusar (503).
+    static final int CONCORRENCIA = 500;
+
+    private static final String TAREFAS = """
+            [{"id":"1","nomeTarefa":"Reunião","descricao":"Semanal","emailUsuario":"carga@bff.com",\
+            "dataEvento":"01-01-2030 10:00:00","statusNotificacaoEnum":"PENDENTE"}]""";
+
+    @Param({"false", "true"})
+    private boolean threadsVirtuais;
+
+    @Param({"50"})
+    private int atrasoMs;
+
+    private HttpServer agendamento;
+    private ExecutorService threadsDoStub;
+    private ConfigurableApplicationContext bff;
+    private HttpClient cliente;
+    private URI uriTarefas;
+
+    @Setup
+    public void sobe() throws Exception {
+        // Stub do Microsserviço de Agendamento: uma thread virtual por requisição, para não ser o gargalo.
+        System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(CONCORRENCIA * 2));
+        byte[] corpo = TAREFAS.getBytes(StandardCharsets.UTF_8);
+        threadsDoStub = Executors.newVirtualThreadPerTaskExecutor();
+        agendamento = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+        agendamento.setExecutor(threadsDoStub);
+        agendamento.createContext("/tarefas", troca -> {
+            try {
+                Thread.sleep(atrasoMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            troca.getResponseHeaders().add("Content-Type", "application/json");
+            troca.sendResponseHeaders(200, corpo.length);
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(corpo);
+            }
+        });
+        agendamento.start();
+
+        // Argumentos de linha de comando: têm prioridade sobre o application.properties.
+        bff = new SpringApplicationBuilder(BffAgendadorDeTarefasApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + threadsVirtuais,
+                "--agendador-tarefas.url=localhost:" + agendamento.getAddress().getPort() + "/tarefas",
+                "--cron.horario=0 0 0 1 1 ?",
+                "--tarefas.cache.habilitado=false",
+                "--coalescencia.habilitado=false",
+                "--http-cliente.padrao.hedge.habilitado=false",
+                "--http-cliente.agendador-tarefas.hedge.habilitado=false",
+                "--http-cliente.agendador-tarefas.maximo-conexoes=" + CONCORRENCIA * 2,
+                "--http-cliente.agendador-tarefas.maximo-por-rota=" + CONCORRENCIA * 2,
+                "--http-cliente.agendador-tarefas.bulkhead.maximo-concorrente=" + CONCORRENCIA * 2,
+                "--logging.level.root=WARN");
+
+        String porta = bff.getEnvironment().getProperty("local.server.port");
+        uriTarefas = URI.create("http://localhost:" + porta + "/tarefas");
+        cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @TearDown
+    public void desce() {
+        bff.close();
+        agendamento.stop(0);
+        threadsDoStub.shutdownNow();
+        cliente.close();
+    }
+
+    @Benchmark
+    public int lote() {
+        HttpRequest requisicao = HttpRequest.newBuilder(uriTarefas)
+                .header("Authorization", "Bearer carga")
+                .GET()
+                .build();
+        List<CompletableFuture<HttpResponse<Void>>> respostas = new ArrayList<>(CONCORRENCIA);
+        for (int i = 0; i < CONCORRENCIA; i++) {
+            respostas.add(cliente.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding()));
+        }
+
+        int sucessos = 0;
+        for (CompletableFuture<HttpResponse<Void>> resposta : respostas) {
+            int status = resposta.join().statusCode();
+            if (status != 200) {
+                throw new IllegalStateException("BFF respondeu " + status + " durante a carga.");
+            }
+            sucessos++;
+        }
+        return sucessos;
+    }
+}
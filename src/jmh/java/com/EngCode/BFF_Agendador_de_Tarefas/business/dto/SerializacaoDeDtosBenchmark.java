@@ -0,0 +1,134 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business.dto;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EnderecoDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TelefoneDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.UsuarioDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.enums.StatusNotificacaoEnum;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.json.ModuloDeDataHora;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Custo de (des)serializar os DTOs que passam pelo BFF em toda chamada: a lista de tarefas (três LocalDateTime
+ * com @JsonFormat "dd-MM-yyyy HH:mm:ss" por tarefa) e o usuário com as listas de endereços e telefones.
+ * PADRAO: ObjectMapper como o Spring Boot montava antes (JavaTimeModule e DateTimeFormatter do @JsonFormat).
+ * CODEC: Mesmo ObjectMapper com o ModuloDeDataHora, como a aplicação registra hoje.
+ * O @Setup confere que os dois mapeadores produzem e leem exatamente o mesmo JSON.
+ * Execução: gradle jmh -Pbenchmark=SerializacaoDeDtosBenchmark (alocação: acrescente '-prof gc' nos argumentos do JMH).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializacaoDeDtosBenchmark {
+
+    public enum Mapeador { PADRAO, CODEC }
+
+    // De um usuário com poucas tarefas até a listagem completa do GET /tarefas.
+    @Param({"10", "1000", "100000"})
+    private int quantidadeTarefas;
+
+    @Param({"PADRAO", "CODEC"})
+    private Mapeador mapeador;
+
+    private ObjectWriter escritorTarefas;
+    private ObjectReader leitorTarefas;
+    private ObjectWriter escritorUsuario;
+    private ObjectReader leitorUsuario;
+
+    private List<TarefasDTOResponse> tarefas;
+    private byte[] jsonTarefas;
+    private UsuarioDTOResponse usuario;
+    private byte[] jsonUsuario;
+
+    @Setup
+    public void prepara() throws IOException {
+        ObjectMapper objectMapper = novoMapeador(mapeador);
+        TypeReference<List<TarefasDTOResponse>> tipoLista = new TypeReference<>() { };
+        escritorTarefas = objectMapper.writerFor(tipoLista);
+        leitorTarefas = objectMapper.readerFor(tipoLista);
+        escritorUsuario = objectMapper.writerFor(UsuarioDTOResponse.class);
+        leitorUsuario = objectMapper.readerFor(UsuarioDTOResponse.class);
+
+        tarefas = IntStream.range(0, quantidadeTarefas).mapToObj(SerializacaoDeDtosBenchmark::tarefa).toList();
+        jsonTarefas = escritorTarefas.writeValueAsBytes(tarefas);
+        usuario = usuario();
+        jsonUsuario = escritorUsuario.writeValueAsBytes(usuario);
+
+        // O caminho rápido não pode mudar o JSON: compara com o mapeador padrão nos dois sentidos.
+        ObjectMapper padrao = novoMapeador(Mapeador.PADRAO);
+        byte[] jsonPadrao = padrao.writerFor(tipoLista).writeValueAsBytes(tarefas);
+        List<TarefasDTOResponse> lidas = leitorTarefas.readValue(jsonPadrao);
+        if (!Arrays.equals(jsonTarefas, jsonPadrao)
+                || !Arrays.equals(padrao.writerFor(tipoLista).writeValueAsBytes(lidas), jsonPadrao)) {
+            throw new IllegalStateException("JSON das tarefas diferente do mapeador padrão");
+        }
+    }
+
+    @Benchmark
+    public byte[] serializaTarefas() throws IOException {
+        return escritorTarefas.writeValueAsBytes(tarefas);
+    }
+
+    @Benchmark
+    public List<TarefasDTOResponse> desserializaTarefas() throws IOException {
+        return leitorTarefas.readValue(jsonTarefas);
+    }
+
+    @Benchmark
+    public byte[] serializaUsuario() throws IOException {
+        return escritorUsuario.writeValueAsBytes(usuario);
+    }
+
+    @Benchmark
+    public UsuarioDTOResponse desserializaUsuario() throws IOException {
+        return leitorUsuario.readValue(jsonUsuario);
+    }
+
+    // Mesmo caminho do Spring Boot: os beans Module entram por modulesToInstall, depois dos módulos conhecidos.
+    private static ObjectMapper novoMapeador(Mapeador mapeador) {
+        Jackson2ObjectMapperBuilder construtor = Jackson2ObjectMapperBuilder.json();
+        if (mapeador == Mapeador.CODEC) {
+            construtor.modulesToInstall(new ModuloDeDataHora());
+        }
+        return construtor.build();
+    }
+
+    private static TarefasDTOResponse tarefa(int indice) {
+        LocalDateTime criacao = LocalDateTime.of(2025, 1, 1, 8, 0).plusMinutes(indice * 37L);
+        return TarefasDTOResponse.builder()
+                .id(String.format("%024x", indice))
+                .nomeTarefa("Tarefa " + indice)
+                .descricao("Lembrete da reunião de acompanhamento número " + indice)
+                .dataCriacao(criacao)
+                .dataEvento(criacao.plusDays(3).plusSeconds(indice % 60))
+                .emailUsuario("usuario" + indice % 50 + "@email.com")
+                .dataAlteracao(criacao.plusHours(2))
+                .statusNotificacaoEnum(StatusNotificacaoEnum.values()[indice % StatusNotificacaoEnum.values().length])
+                .build();
+    }
+
+    private static UsuarioDTOResponse usuario() {
+        List<EnderecoDTOResponse> enderecos = new ArrayList<>();
+        List<TelefoneDTOResponse> telefones = new ArrayList<>();
+        for (long i = 1; i <= 3; i++) {
+            enderecos.add(EnderecoDTOResponse.builder().id(i).rua("Rua das Flores").numero(100 + i)
+                    .complemento("Apto " + i).cidade("São Paulo").estado("SP").cep("01000-00" + i).build());
+            telefones.add(TelefoneDTOResponse.builder().id(i).numero("99999-000" + i).ddd("11").build());
+        }
+        return UsuarioDTOResponse.builder().nome("Usuário").email("usuario@email.com").senha("")
+                .enderecos(enderecos).telefones(telefones).build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config.FeingError;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config.RegistroDeDisjuntores;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk.ClienteHttpJdk;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk.TarefasClientJdk;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.enums.StatusNotificacaoEnum;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.metricas.MetricasDosClientes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import feign.Feign;
+import feign.Request;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compara as duas pilhas de cliente HTTP com 'concorrencia' chamadas simultâneas a um destino lento ('atrasoMs').
+ * FEIGN: Cliente bloqueante (Apache HttpClient 5 com pool): cada chamada em andamento ocupa uma thread.
+ * JDK: TarefasClientJdk (java.net.http assíncrono): as chamadas ficam pendentes sem ocupar threads.
+ * Medida: tempo para concluir um lote de 'concorrencia' chamadas GET /tarefas (lista de 5 tarefas).
+ * Execução: gradle jmh -Pbenchmark=ClientesHttpBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClientesHttpBenchmark {
+
+    private static final String TOKEN = "Bearer benchmark";
+
+    @Param({"64", "512"})
+    private int concorrencia;
+
+    @Param({"20"})
+    private int atrasoMs;
+
+    private HttpServer servidor;
+    private ExecutorService threadsDoServidor;
+    private ExecutorService threadsDoFeign;
+    private CloseableHttpClient httpClientDoFeign;
+    private TarefasClient feign;
+    private TarefasClientJdk jdk;
+
+    @Setup
+    public void sobe() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        byte[] corpo = objectMapper.writeValueAsBytes(tarefas());
+
+        // Destino lento: responde depois de 'atrasoMs' (uma thread do servidor por requisição em andamento).
+        // O servidor embutido fecha conexões ociosas acima de 200 por padrão, o que quebraria o pool do Feign.
+        System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(concorrencia * 2));
+        threadsDoServidor = Executors.newCachedThreadPool();
+        servidor = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+        servidor.setExecutor(threadsDoServidor);
+        servidor.createContext("/tarefas", troca -> {
+            try {
+                Thread.sleep(atrasoMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            troca.getResponseHeaders().add("Content-Type", "application/json");
+            troca.sendResponseHeaders(200, corpo.length);
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(corpo);
+            }
+        });
+        servidor.start();
+        String url = "localhost:" + servidor.getAddress().getPort() + "/tarefas";
+
+        // Feign: pool e threads do tamanho da concorrência, para que só o modelo de I/O seja comparado.
+        httpClientDoFeign = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(concorrencia)
+                        .setMaxConnPerRoute(concorrencia)
+                        .build())
+                .disableAutomaticRetries() // Como no BFF (ClientePorDestinoConfig).
+                .build();
+        feign = Feign.builder()
+                .client(new ApacheHttp5Client(httpClientDoFeign))
+                .contract(new SpringMvcContract())
+                .decoder((resposta, tipo) -> objectMapper.readValue(resposta.body().asInputStream(), objectMapper.constructType(tipo)))
+                .errorDecoder(new FeingError())
+                .options(new Request.Options(2, TimeUnit.SECONDS, 10, TimeUnit.SECONDS, true))
+                .target(TarefasClient.class, "http://" + url);
+        threadsDoFeign = Executors.newFixedThreadPool(concorrencia);
+
+        // JDK: mesma implementação usada com 'http-cliente.implementacao=jdk' (com disjuntor e bulkhead).
+        StandardEnvironment ambiente = new StandardEnvironment();
+        ambiente.getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("http-cliente.padrao.bulkhead.maximo-concorrente", String.valueOf(concorrencia))));
+        ClienteHttpJdk clienteHttp = new ClienteHttpJdk(objectMapper, ambiente, new RegistroDeDisjuntores(ambiente),
+                new MetricasDosClientes(new SimpleMeterRegistry()), "50ms");
+        jdk = new TarefasClientJdk(clienteHttp, url);
+    }
+
+    @TearDown
+    public void desce() throws Exception {
+        threadsDoFeign.shutdownNow();
+        httpClientDoFeign.close();
+        servidor.stop(0);
+        threadsDoServidor.shutdownNow();
+    }
+
+    @Benchmark
+    public int feignBloqueante() throws Exception {
+        List<Future<List<TarefasDTOResponse>>> chamadas = new ArrayList<>(concorrencia);
+        for (int i = 0; i < concorrencia; i++) {
+            chamadas.add(threadsDoFeign.submit(() -> feign.buscarListaTarefasPorEmail(TOKEN)));
+        }
+        int total = 0;
+        for (Future<List<TarefasDTOResponse>> chamada : chamadas) {
+            total += chamada.get().size();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int jdkNaoBloqueante() {
+        List<CompletableFuture<List<TarefasDTOResponse>>> chamadas = new ArrayList<>(concorrencia);
+        for (int i = 0; i < concorrencia; i++) {
+            chamadas.add(jdk.buscarListaTarefasPorEmailAsync(TOKEN));
+        }
+        CompletableFuture.allOf(chamadas.toArray(CompletableFuture[]::new)).join();
+        return chamadas.stream().mapToInt(chamada -> chamada.join().size()).sum();
+    }
+
+    private static List<TarefasDTOResponse> tarefas() {
+        LocalDateTime agora = LocalDateTime.now().withNano(0);
+        return IntStream.range(0, 5)
+                .mapToObj(i -> TarefasDTOResponse.builder()
+                        .id("tarefa-" + i)
+                        .nomeTarefa("Tarefa " + i)
+                        .descricao("Descrição da tarefa " + i)
+                        .dataCriacao(agora)
+                        .dataEvento(agora.plusDays(i))
+                        .emailUsuario("usuario@email.com")
+                        .statusNotificacaoEnum(StatusNotificacaoEnum.PENDENTE)
+                        .build())
+                .toList();
+    }
+}
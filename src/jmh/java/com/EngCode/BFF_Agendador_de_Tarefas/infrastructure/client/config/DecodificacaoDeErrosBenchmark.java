@@ -0,0 +1,61 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.UnauthorizedException;
+import feign.Request;
+import feign.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de decodificar uma resposta de erro do Feign (ex: 401 de uma onda de tokens expirados).
+ * REFERENCIA: Como o FeingError fazia antes: corpo inteiro (readAllBytes), "Erro: " + corpo e exceção com stack trace.
+ * DECODE: FeingError atual: corpo limitado (ErroDoMicrosservico.LIMITE_BYTES), exceção sem stack trace e sem mensagem montada.
+ * DECODE_E_MENSAGEM: Idem, lendo getMessage() como faz o GlobalExceptionHandler.
+ * Execução: gradle jmh -Pbenchmark=DecodificacaoDeErrosBenchmark (alocação: acrescente '-prof gc' nos argumentos do JMH).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DecodificacaoDeErrosBenchmark {
+
+    // Mensagem curta de um microsserviço ou página de erro grande (ex: HTML de um proxy).
+    @Param({"80", "65536"})
+    private int tamanhoCorpo;
+
+    private final FeingError feingError = new FeingError();
+    private Response resposta;
+
+    @Setup
+    public void prepara() {
+        byte[] corpo = "Token expirado. ".repeat(tamanhoCorpo / 16 + 1).substring(0, tamanhoCorpo).getBytes(StandardCharsets.UTF_8);
+        Request requisicao = Request.create(Request.HttpMethod.GET, "http://localhost:8080/usuario",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        resposta = Response.builder()
+                .status(401)
+                .reason("Unauthorized")
+                .request(requisicao)
+                .headers(Map.of())
+                .body(corpo) // Corpo em memória: cada asInputStream() começa do início.
+                .build();
+    }
+
+    @Benchmark
+    public Exception referencia() throws IOException {
+        String mensagemErro = new String(resposta.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        return new UnauthorizedException("Erro: " + mensagemErro);
+    }
+
+    @Benchmark
+    public Exception decode() {
+        return feingError.decode("UsuarioClient#buscaUsuarioPorEmail(String,String)", resposta);
+    }
+
+    @Benchmark
+    public String decodeEMensagem() {
+        return feingError.decode("UsuarioClient#buscaUsuarioPorEmail(String,String)", resposta).getMessage();
+    }
+}
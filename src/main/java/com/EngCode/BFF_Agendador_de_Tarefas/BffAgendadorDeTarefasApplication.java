@@ -1,5 +1,6 @@
 package com.EngCode.BFF_Agendador_de_Tarefas;
 
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config.ClientePorDestinoConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
@@ -7,7 +8,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
-@EnableFeignClients
+@EnableFeignClients(defaultConfiguration = ClientePorDestinoConfig.class) // Um pool de conexões por Feign Client.
 @EnableScheduling
 public class BffAgendadorDeTarefasApplication {
 
@@ -0,0 +1,345 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.enums.StatusNotificacaoEnum;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Agendador em memória que dispara cada notificação no horário 'dataEvento - antecedência'.
+ * ESTRUTURA: Roda de tempo com hash (hashed timing wheel). A roda tem 'tamanho-roda' baldes;
+ * a cada 'tick' o ponteiro avança um balde e dispara as entradas que venceram. Prazos maiores
+ * que uma volta completa guardam o número de 'voltas' restantes.
+ * CUSTO: agendar, reagendar e cancelar são O(1) (lista duplamente ligada + índice por ID).
+ * MEMÓRIA: limitada por 'capacidade-maxima'; acima disso o agendamento é recusado e o
+ * CronService envia a tarefa na hora (comportamento antigo). Cada entrada guarda só o ID, o 'dataEvento'
+ * e o e-mail (não o DTO inteiro); o CronService recarrega a tarefa do Agendamento no disparo.
+ */
+
+// BLOCÃO 2: ESTRUTURA E CONFIGURAÇÃO
+// -------------------------------------------------------------------------
+@Slf4j
+@Component
+public class AgendadorDeNotificacoes {
+
+    // INJEÇÃO DE VALORES
+    @Value("${notificacao.agendador.habilitado:false}")
+    private boolean habilitado;
+    // Quanto tempo antes do 'dataEvento' a notificação é disparada.
+    @Value("${notificacao.agendador.antecedencia:PT0S}")
+    private Duration antecedencia;
+    // Resolução da roda (precisão do disparo).
+    @Value("${notificacao.agendador.tick:PT1S}")
+    private Duration tick;
+    // Quantidade de baldes (arredondada para potência de 2). 4096 ticks de 1s cobrem ~68 minutos.
+    @Value("${notificacao.agendador.tamanho-roda:4096}")
+    private int tamanhoRoda;
+    // Limite de entradas simultâneas na roda.
+    @Value("${notificacao.agendador.capacidade-maxima:1000000}")
+    private int capacidadeMaxima;
+
+    /**
+     * Tarefa vencida entregue à ação de disparo. É só a referência para recarregar a tarefa: o estado guardado
+     * na roda pode ter mudado (tarefa excluída, reagendada ou alterada em outra réplica).
+     */
+    public record TarefaAgendada(String id, LocalDateTime dataEvento, String emailUsuario) {
+
+        public static TarefaAgendada de(TarefasDTOResponse tarefa) {
+            return new TarefaAgendada(tarefa.getId(), tarefa.getDataEvento(), tarefa.getEmailUsuario());
+        }
+    }
+
+    // Uma tarefa agendada. Fica em um balde (lista duplamente ligada) e no índice por ID.
+    // MEMÓRIA: ~1M entradas pendentes; o 'dataEvento' fica em segundos (long) em vez de um LocalDateTime.
+    private static final class Entrada {
+        private final String id;
+        private String emailUsuario;
+        private long dataEventoSegundos;
+        private long voltas;
+        private int balde;
+        private Entrada anterior;
+        private Entrada proxima;
+
+        private Entrada(String id) {
+            this.id = id;
+        }
+    }
+
+    // BLOCÃO 3: ESTADO DA RODA (protegido pelo lock)
+    // -------------------------------------------------------------------------
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Entrada> entradasPorId = new HashMap<>();
+    private Entrada[] baldes;
+    private int mascara;
+    private long tickAtual; // Próximo tick a ser processado pelo worker.
+    private long inicioMillis; // Instante do tick zero.
+    private long tickMillis;
+
+    // Até onde o CronService já pré-carregou a roda (tarefas alteradas antes disso são agendadas aqui).
+    private volatile LocalDateTime horizonte;
+
+    // Ação executada com as tarefas vencidas em cada tick (registrada pelo CronService).
+    private volatile Consumer<List<TarefaAgendada>> acaoDeDisparo = tarefas -> { };
+
+    private Thread worker;
+    private volatile boolean executando;
+
+    @PostConstruct
+    void inicia() {
+        if (!habilitado) {
+            return;
+        }
+        preparaRoda(System.currentTimeMillis());
+
+        executando = true;
+        worker = new Thread(this::executaRoda, "agendador-notificacoes");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Agendador de notificações iniciado ({} baldes de {} ms, capacidade {}).", baldes.length, tickMillis, capacidadeMaxima);
+    }
+
+    // Monta a roda vazia com o tick zero em 'inicio' (separado do worker para os testes avançarem a roda à mão).
+    void preparaRoda(long inicio) {
+        int tamanho = Integer.highestOneBit(Math.max(2, tamanhoRoda - 1)) << 1; // Próxima potência de 2.
+        baldes = new Entrada[tamanho];
+        mascara = tamanho - 1;
+        tickMillis = Math.max(1, tick.toMillis());
+        inicioMillis = inicio;
+    }
+
+    @PreDestroy
+    void encerra() {
+        executando = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    public void registraAcaoDeDisparo(Consumer<List<TarefaAgendada>> acao) {
+        this.acaoDeDisparo = Objects.requireNonNull(acao);
+    }
+
+    public void atualizaHorizonte(LocalDateTime horizonte) {
+        this.horizonte = horizonte;
+    }
+
+    public int getQuantidadeAgendada() {
+        lock.lock();
+        try {
+            return entradasPorId.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // BLOCÃO 4: OPERAÇÕES PÚBLICAS (agendar, atualizar, cancelar)
+    // -------------------------------------------------------------------------
+
+    /**
+     * MÉTODO: agenda(TarefasDTOResponse)
+     * FUNÇÃO: Agenda (ou reagenda, se o ID já estiver na roda) o disparo da tarefa.
+     * RETORNO: 'false' quando a tarefa NÃO foi agendada (agendador desligado, prazo já vencido
+     * ou roda cheia) — nesse caso quem chamou deve enviar a notificação imediatamente.
+     */
+    public boolean agenda(TarefasDTOResponse tarefa) {
+        if (!habilitado || tarefa.getDataEvento() == null) {
+            return false;
+        }
+        long disparoMillis = tarefa.getDataEvento().minus(antecedencia)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        lock.lock();
+        try {
+            long ticksAteDisparo = (disparoMillis - inicioMillis + tickMillis - 1) / tickMillis - tickAtual;
+            Entrada existente = entradasPorId.get(tarefa.getId());
+            if (ticksAteDisparo < 0) {
+                // Prazo já vencido: remove uma eventual entrada antiga e deixa o chamador enviar agora.
+                if (existente != null) {
+                    remove(existente);
+                }
+                return false;
+            }
+            if (existente == null && entradasPorId.size() >= capacidadeMaxima) {
+                log.warn("Agendador de notificações cheio ({} entradas). Tarefa {} será enviada imediatamente.",
+                        capacidadeMaxima, tarefa.getId());
+                return false;
+            }
+
+            Entrada entrada = existente;
+            if (entrada == null) {
+                entrada = new Entrada(tarefa.getId());
+                entradasPorId.put(entrada.id, entrada);
+            } else {
+                desliga(entrada);
+            }
+            long tickAlvo = tickAtual + ticksAteDisparo;
+            entrada.emailUsuario = tarefa.getEmailUsuario();
+            entrada.dataEventoSegundos = tarefa.getDataEvento().toEpochSecond(ZoneOffset.UTC);
+            entrada.voltas = ticksAteDisparo / baldes.length;
+            entrada.balde = (int) (tickAlvo & mascara);
+            liga(entrada);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * MÉTODO: atualiza(TarefasDTOResponse)
+     * FUNÇÃO: Reflete uma alteração feita pelo usuário (PUT/PATCH) na roda.
+     * - Tarefa que deixou de estar PENDENTE (ex: CANCELADO) é removida.
+     * - Tarefa já agendada, ou cuja nova data cai dentro do horizonte já pré-carregado, é (re)agendada.
+     */
+    public void atualiza(TarefasDTOResponse tarefa) {
+        if (!habilitado || tarefa == null || tarefa.getId() == null) {
+            return;
+        }
+        if (tarefa.getStatusNotificacaoEnum() != null && tarefa.getStatusNotificacaoEnum() != StatusNotificacaoEnum.PENDENTE) {
+            cancela(tarefa.getId());
+            return;
+        }
+        boolean agendada;
+        lock.lock();
+        try {
+            agendada = entradasPorId.containsKey(tarefa.getId());
+        } finally {
+            lock.unlock();
+        }
+        LocalDateTime limite = horizonte;
+        boolean dentroDoHorizonte = limite != null && tarefa.getDataEvento() != null && !tarefa.getDataEvento().isAfter(limite);
+        if ((agendada || dentroDoHorizonte) && !agenda(tarefa)) {
+            cancela(tarefa.getId());
+            if (tarefa.getDataEvento() != null && tarefa.getDataEvento().isAfter(LocalDateTime.now())) {
+                // Dentro da antecedência (ou roda cheia), mas o evento ainda não passou: envia agora.
+                acaoDeDisparo.accept(List.of(TarefaAgendada.de(tarefa)));
+            }
+        }
+    }
+
+    /**
+     * MÉTODO: cancela(String)
+     * FUNÇÃO: Remove a tarefa da roda (ex: tarefa deletada ou CANCELADO).
+     */
+    public void cancela(String id) {
+        if (!habilitado) {
+            return;
+        }
+        lock.lock();
+        try {
+            Entrada entrada = entradasPorId.get(id);
+            if (entrada != null) {
+                remove(entrada);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // BLOCÃO 5: WORKER (avanço do ponteiro da roda)
+    // -------------------------------------------------------------------------
+
+    private void executaRoda() {
+        while (executando) {
+            try {
+                long proximoTickMillis;
+                lock.lock();
+                try {
+                    proximoTickMillis = inicioMillis + tickAtual * tickMillis;
+                } finally {
+                    lock.unlock();
+                }
+                long espera = proximoTickMillis - System.currentTimeMillis();
+                if (espera > 0) {
+                    TimeUnit.MILLISECONDS.sleep(espera);
+                }
+                List<TarefaAgendada> vencidas = processaTick();
+                if (!vencidas.isEmpty()) {
+                    acaoDeDisparo.accept(vencidas);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Falha no disparo de notificações agendadas: {}", e.getMessage());
+            }
+        }
+    }
+
+    // Processa o balde do tick atual: dispara quem está na última volta e desconta uma volta dos demais.
+    List<TarefaAgendada> processaTick() {
+        List<TarefaAgendada> vencidas = new ArrayList<>();
+        lock.lock();
+        try {
+            Entrada entrada = baldes[(int) (tickAtual & mascara)];
+            while (entrada != null) {
+                Entrada proxima = entrada.proxima;
+                if (entrada.voltas <= 0) {
+                    vencidas.add(new TarefaAgendada(entrada.id,
+                            LocalDateTime.ofEpochSecond(entrada.dataEventoSegundos, 0, ZoneOffset.UTC), entrada.emailUsuario));
+                    remove(entrada);
+                } else {
+                    entrada.voltas--;
+                }
+                entrada = proxima;
+            }
+            tickAtual++;
+        } finally {
+            lock.unlock();
+        }
+        return vencidas;
+    }
+
+    // BLOCÃO 6: LISTAS DOS BALDES (chamar sempre com o lock adquirido)
+    // -------------------------------------------------------------------------
+
+    private void liga(Entrada entrada) {
+        Entrada cabeca = baldes[entrada.balde];
+        entrada.anterior = null;
+        entrada.proxima = cabeca;
+        if (cabeca != null) {
+            cabeca.anterior = entrada;
+        }
+        baldes[entrada.balde] = entrada;
+    }
+
+    private void desliga(Entrada entrada) {
+        if (entrada.anterior != null) {
+            entrada.anterior.proxima = entrada.proxima;
+        } else {
+            baldes[entrada.balde] = entrada.proxima;
+        }
+        if (entrada.proxima != null) {
+            entrada.proxima.anterior = entrada.anterior;
+        }
+        entrada.anterior = null;
+        entrada.proxima = null;
+    }
+
+    private void remove(Entrada entrada) {
+        desliga(entrada);
+        entradasPorId.remove(entrada.id);
+    }
+}
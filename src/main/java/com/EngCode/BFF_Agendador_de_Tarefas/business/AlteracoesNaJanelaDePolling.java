@@ -0,0 +1,71 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tarefas PENDENTE criadas ou alteradas por esta réplica desde o último ciclo do CronService.
+ * FUNÇÃO: No polling incremental, a marca d'água já passou das fatias consultadas; uma tarefa criada (ou movida)
+ * para dentro de uma delas só seria vista na próxima varredura completa, talvez depois do 'dataEvento'.
+ * O TarefasService registra aqui o 'dataEvento' de cada escrita e o CronService recua o início da janela
+ * até o menor deles.
+ * CONSISTÊNCIA: Cada registro incrementa uma sequência. O ciclo só limpa o que leu (mesma sequência);
+ * escritas que chegam durante o ciclo ficam para o próximo.
+ */
+@Component
+public class AlteracoesNaJanelaDePolling {
+
+    // Leitura feita no início de um ciclo.
+    public record Leitura(LocalDateTime maisAntiga, long sequencia) {
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private LocalDateTime maisAntiga; // Menor 'dataEvento' registrado desde a última limpeza (null = nenhum).
+    private long sequencia;
+
+    /**
+     * MÉTODO: registra(LocalDateTime)
+     * FUNÇÃO: Uma tarefa PENDENTE passou a ter este 'dataEvento' (criação, PUT ou volta a PENDENTE).
+     */
+    public void registra(LocalDateTime dataEvento) {
+        if (dataEvento == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (maisAntiga == null || dataEvento.isBefore(maisAntiga)) {
+                maisAntiga = dataEvento;
+            }
+            sequencia++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Leitura le() {
+        lock.lock();
+        try {
+            return new Leitura(maisAntiga, sequencia);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * MÉTODO: limpa(Leitura)
+     * FUNÇÃO: Chamado quando o ciclo que fez a 'leitura' avançou a marca. Se houve escrita depois da leitura,
+     * nada é limpo (o próximo ciclo recua de novo, no máximo consultando uma fatia a mais).
+     */
+    public void limpa(Leitura leitura) {
+        lock.lock();
+        try {
+            if (sequencia == leitura.sequencia()) {
+                maisAntiga = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
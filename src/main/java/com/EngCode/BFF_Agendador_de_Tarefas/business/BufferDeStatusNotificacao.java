@@ -0,0 +1,99 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Acumula os IDs das tarefas cujo e-mail já foi enviado e descarrega em lotes.
+ * FUNÇÃO: Troca N PATCHs individuais por N / tamanhoLote PATCHs em lote.
+ * CONCEITO: Um buffer por ciclo do CronService; seguro para uso pelas threads do envio concorrente.
+ */
+@Slf4j
+class BufferDeStatusNotificacao {
+
+    private final int tamanhoLote;
+    // Ação que envia um lote (ex: PATCH /lote no Agendamento) e devolve os IDs que ficaram sem status (falha transitória).
+    private final Function<List<String>, Collection<String>> descarga;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<String> pendentes;
+
+    // Contadores para o resumo do ciclo.
+    private final AtomicInteger confirmadas = new AtomicInteger();
+    private final AtomicInteger falhas = new AtomicInteger();
+
+    BufferDeStatusNotificacao(int tamanhoLote, Function<List<String>, Collection<String>> descarga) {
+        this.tamanhoLote = Math.max(1, tamanhoLote);
+        this.descarga = descarga;
+        this.pendentes = new ArrayList<>(this.tamanhoLote);
+    }
+
+    /**
+     * MÉTODO: adiciona(String)
+     * FUNÇÃO: Registra uma tarefa já notificada. Ao completar o lote, descarrega-o na thread chamadora
+     * (fora do lock, para que as outras threads continuem acumulando enquanto o PATCH acontece).
+     */
+    void adiciona(String id) {
+        List<String> loteCheio = null;
+        lock.lock();
+        try {
+            pendentes.add(id);
+            if (pendentes.size() >= tamanhoLote) {
+                loteCheio = pendentes;
+                pendentes = new ArrayList<>(tamanhoLote);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (loteCheio != null) {
+            descarrega(loteCheio);
+        }
+    }
+
+    /**
+     * MÉTODO: descarregaRestante()
+     * FUNÇÃO: Envia o último lote (incompleto) ao final do ciclo.
+     */
+    void descarregaRestante() {
+        List<String> resto;
+        lock.lock();
+        try {
+            resto = pendentes;
+            pendentes = new ArrayList<>(tamanhoLote);
+        } finally {
+            lock.unlock();
+        }
+        if (!resto.isEmpty()) {
+            descarrega(resto);
+        }
+    }
+
+    int getConfirmadas() {
+        return confirmadas.get();
+    }
+
+    int getFalhas() {
+        return falhas.get();
+    }
+
+    private void descarrega(List<String> lote) {
+        try {
+            int semStatus = descarga.apply(lote).size();
+            confirmadas.addAndGet(lote.size() - semStatus);
+            falhas.addAndGet(semStatus);
+            if (semStatus > 0) {
+                log.error("Status de {} de {} tarefas do lote não foi atualizado.", semStatus, lote.size());
+            }
+        } catch (RuntimeException e) {
+            // As tarefas do lote continuam PENDENTE no Agendamento e voltam no próximo ciclo.
+            falhas.addAndGet(lote.size());
+            log.error("Falha ao atualizar o status de um lote de {} tarefas: {}", lote.size(), e.getMessage());
+        }
+    }
+}
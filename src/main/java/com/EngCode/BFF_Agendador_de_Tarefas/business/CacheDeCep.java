@@ -0,0 +1,127 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasCacheDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.ViaCepDTORespose;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Cache em memória das consultas de CEP (GET /usuario/endereco/{cep}).
+ * FUNÇÃO: CEPs praticamente não mudam e os formulários de cadastro repetem as mesmas consultas,
+ * então cada CEP vai ao Microsserviço de Usuários (e à ViaCEP) no máximo uma vez por 'ttl'.
+ * CHAVE: Só os dígitos do CEP ('01001-000' e '01001000' compartilham a entrada).
+ * CACHE NEGATIVO: CEP inexistente (404 ou resposta sem 'cep') também é guardado, com o TTL menor 'ttl-negativo'.
+ * CONCORRÊNCIA: Consultas simultâneas ao mesmo CEP esperam uma única chamada ao microsserviço.
+ */
+
+// BLOCÃO 2: ESTRUTURA E CONFIGURAÇÃO
+// -------------------------------------------------------------------------
+@Slf4j
+@Component
+public class CacheDeCep implements CacheMonitorado {
+
+    private static final Pattern NAO_DIGITOS = Pattern.compile("\\D");
+    private static final int DIGITOS_DO_CEP = 8;
+
+    @Value("${cep.cache.habilitado:true}")
+    private boolean habilitado;
+    @Value("${cep.cache.tamanho-maximo:10000}")
+    private long tamanhoMaximo;
+    @Value("${cep.cache.ttl:P1D}")
+    private Duration ttl;
+    @Value("${cep.cache.ttl-negativo:PT10M}")
+    private Duration ttlNegativo;
+
+    // Resultado guardado: o endereço encontrado ou a mensagem do "não encontrado" (entrada negativa).
+    private record EntradaDeCep(ViaCepDTORespose endereco, String mensagemNaoEncontrado) {
+
+        boolean negativa() {
+            return mensagemNaoEncontrado != null || endereco == null || endereco.getCep() == null;
+        }
+    }
+
+    private Cache<String, EntradaDeCep> cache;
+
+    @PostConstruct
+    void iniciaCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                // TTL por entrada: positivas duram 'ttl', negativas duram 'ttl-negativo'.
+                .expireAfter(Expiry.<String, EntradaDeCep>writing((cep, entrada) ->
+                        entrada.negativa() ? ttlNegativo : ttl))
+                .recordStats()
+                .build();
+    }
+
+    // BLOCÃO 3: CONSULTA
+    // -------------------------------------------------------------------------
+
+    /**
+     * MÉTODO: busca(String, Function)
+     * FUNÇÃO: Devolve o endereço do CEP pelo cache; em caso de falha no cache chama 'consulta' com o CEP normalizado.
+     * ERROS: CEP inexistente lança ResourceNotFoundException (também quando vem do cache negativo).
+     * Erros de formato (400) e de comunicação NÃO são guardados.
+     */
+    public ViaCepDTORespose busca(String cep, Function<String, ViaCepDTORespose> consulta) {
+        String chave = normaliza(cep);
+        if (!habilitado || chave == null) {
+            // Sem cache (ou CEP fora do formato): o microsserviço valida e responde como antes.
+            return consulta.apply(cep);
+        }
+
+        EntradaDeCep entrada = cache.get(chave, naoEncontrado -> carrega(chave, consulta));
+        if (entrada.mensagemNaoEncontrado() != null) {
+            throw new ResourceNotFoundException(entrada.mensagemNaoEncontrado());
+        }
+        return entrada.endereco();
+    }
+
+    private EntradaDeCep carrega(String chave, Function<String, ViaCepDTORespose> consulta) {
+        try {
+            return new EntradaDeCep(consulta.apply(chave), null);
+        } catch (ResourceNotFoundException e) {
+            log.debug("CEP {} não encontrado; guardado no cache negativo por {}.", chave, ttlNegativo);
+            return new EntradaDeCep(null, e.getMessage());
+        }
+    }
+
+    // Mantém só os dígitos; 'null' se o resultado não tiver exatamente 8 dígitos.
+    private String normaliza(String cep) {
+        if (cep == null) {
+            return null;
+        }
+        String digitos = NAO_DIGITOS.matcher(cep).replaceAll("");
+        return digitos.length() == DIGITOS_DO_CEP ? digitos : null;
+    }
+
+    // BLOCÃO 4: MÉTRICAS
+    // -------------------------------------------------------------------------
+
+    @Override
+    public EstatisticasCacheDTOResponse estatisticas() {
+        CacheStats stats = cache.stats();
+        return EstatisticasCacheDTOResponse.builder()
+                .nome("cep")
+                .tamanho(cache.estimatedSize())
+                .tamanhoMaximo(tamanhoMaximo)
+                .acertos(stats.hitCount())
+                .falhas(stats.missCount())
+                .taxaDeAcerto(stats.hitRate())
+                .remocoes(stats.evictionCount())
+                .build();
+    }
+}
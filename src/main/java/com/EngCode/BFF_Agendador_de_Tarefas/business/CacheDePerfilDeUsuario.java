@@ -0,0 +1,161 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasCacheDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.UsuarioDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security.LeitorDeJwt;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Cache read-through do perfil do usuário (GET /usuario?email=).
+ * ESCOPO: A chave é (e-mail, SHA-256 do Token). Um Token só lê o que ELE MESMO já buscou com sucesso
+ * (o Microsserviço de Usuário autorizou aquele Token para aquele e-mail); outro Token nunca acerta essa entrada.
+ * VALIDADE: 'ttl', limitado ao 'exp' do Token (a entrada não sobrevive ao Token que a autorizou).
+ * INVALIDAÇÃO: Toda escrita do usuário (dados, endereço, telefone, exclusão) remove todas as entradas
+ * do e-mail dele, de todos os Tokens (índice por e-mail, sem varrer o cache).
+ */
+
+// BLOCÃO 2: ESTRUTURA E CONFIGURAÇÃO
+// -------------------------------------------------------------------------
+@Component
+@RequiredArgsConstructor
+public class CacheDePerfilDeUsuario implements CacheMonitorado {
+
+    private final LeitorDeJwt leitorDeJwt; // Lê 'sub' (e-mail) e 'exp' do Token.
+
+    @Value("${usuario.cache.habilitado:true}")
+    private boolean habilitado;
+    @Value("${usuario.cache.tamanho-maximo:10000}")
+    private long tamanhoMaximo;
+    @Value("${usuario.cache.ttl:PT5M}")
+    private Duration ttl;
+
+    private record ChaveDePerfil(String email, String hashDoToken) {
+    }
+
+    // Perfil guardado junto com o prazo máximo da entrada (menor entre agora + ttl e o 'exp' do Token).
+    private record EntradaDePerfil(UsuarioDTOResponse usuario, Instant expiraEm) {
+    }
+
+    private Cache<ChaveDePerfil, EntradaDePerfil> cache;
+    // Índice e-mail -> chaves no cache (um usuário pode ter vários Tokens/sessões).
+    private final IndicePorEmail<ChaveDePerfil> indice = new IndicePorEmail<>();
+
+    @PostConstruct
+    void iniciaCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfter(Expiry.<ChaveDePerfil, EntradaDePerfil>writing((chave, entrada) ->
+                        maximoEntre(Duration.ZERO, Duration.between(Instant.now(), entrada.expiraEm()))))
+                // Executado na própria thread: o índice fica coerente assim que a entrada sai do cache.
+                .executor(Runnable::run)
+                .removalListener((ChaveDePerfil chave, EntradaDePerfil entrada, RemovalCause causa) -> {
+                    if (chave != null && causa != RemovalCause.REPLACED) {
+                        indice.remove(chave.email(), chave, cache.asMap()::containsKey);
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    // BLOCÃO 3: LEITURA (read-through)
+    // -------------------------------------------------------------------------
+
+    /**
+     * MÉTODO: busca(String, String, Supplier)
+     * FUNÇÃO: Devolve o perfil do cache ou, na falta dele, chama 'consulta' e guarda o resultado.
+     * Erros da consulta (401, 404...) não são guardados.
+     */
+    public UsuarioDTOResponse busca(String email, String token, Supplier<UsuarioDTOResponse> consulta) {
+        if (!habilitado || email == null || token == null || token.isBlank()) {
+            return consulta.get();
+        }
+        ChaveDePerfil chave = new ChaveDePerfil(IndicePorEmail.normaliza(email), LeitorDeJwt.hash(token));
+
+        // Indexa ANTES da carga (como no CacheDeTarefasDoUsuario): uma invalidação concorrente encontra a chave
+        // e o invalidate do Caffeine espera a carga em andamento terminar para então removê-la.
+        // Indexar só depois deixava uma janela em que a escrita não via a chave e o perfil antigo ficava no cache.
+        indice.adiciona(chave.email(), chave);
+        boolean[] carregada = {false};
+        EntradaDePerfil entrada;
+        try {
+            entrada = cache.get(chave, naoEncontrada -> {
+                carregada[0] = true;
+                Instant limite = Instant.now().plus(ttl);
+                Instant expiraEm = leitorDeJwt.expiracao(token).filter(exp -> exp.isBefore(limite)).orElse(limite);
+                return new EntradaDePerfil(consulta.get(), expiraEm);
+            });
+        } catch (RuntimeException e) {
+            indice.remove(chave.email(), chave, cache.asMap()::containsKey); // Carga falhou: nada foi guardado.
+            throw e;
+        }
+        if (carregada[0]) {
+            indice.readiciona(chave.email(), chave, cache.asMap()::containsKey);
+        }
+        return entrada.usuario();
+    }
+
+    // BLOCÃO 4: INVALIDAÇÃO
+    // -------------------------------------------------------------------------
+
+    /**
+     * MÉTODO: invalidaUsuarioDoToken(String)
+     * FUNÇÃO: Remove o perfil do usuário dono do Token (claim 'sub'), após uma escrita dele.
+     * Token sem 'sub' legível: remove as entradas lidas com esse mesmo Token.
+     */
+    public void invalidaUsuarioDoToken(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        leitorDeJwt.assunto(token).ifPresentOrElse(this::invalidaEmail, () -> {
+            String hashDoToken = LeitorDeJwt.hash(token);
+            cache.asMap().keySet().removeIf(chave -> chave.hashDoToken().equals(hashDoToken));
+        });
+    }
+
+    /**
+     * MÉTODO: invalidaEmail(String)
+     * FUNÇÃO: Remove o perfil do e-mail em todos os Tokens (ex: usuário excluído).
+     */
+    public void invalidaEmail(String email) {
+        if (email == null) {
+            return;
+        }
+        cache.invalidateAll(indice.retira(email));
+    }
+
+    private static Duration maximoEntre(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    // BLOCÃO 5: MÉTRICAS
+    // -------------------------------------------------------------------------
+
+    @Override
+    public EstatisticasCacheDTOResponse estatisticas() {
+        CacheStats stats = cache.stats();
+        return EstatisticasCacheDTOResponse.builder()
+                .nome("perfil-usuario")
+                .tamanho(cache.estimatedSize())
+                .tamanhoMaximo(tamanhoMaximo)
+                .acertos(stats.hitCount())
+                .falhas(stats.missCount())
+                .taxaDeAcerto(stats.hitRate())
+                .remocoes(stats.evictionCount())
+                .build();
+    }
+}
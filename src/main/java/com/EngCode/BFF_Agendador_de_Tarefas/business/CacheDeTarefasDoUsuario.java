@@ -0,0 +1,209 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasCacheDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security.LeitorDeJwt;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Cache da lista de tarefas do usuário logado (GET /tarefas), que traz o histórico inteiro dele.
+ * ESCOPO: A chave é (e-mail do 'sub' do Token, SHA-256 do Token), como no CacheDePerfilDeUsuario:
+ * um Token só lê a lista que ELE MESMO já buscou. Token sem 'sub' legível não usa o cache.
+ * ATUALIZAÇÃO: As escritas (criação, PUT, PATCH de status, exclusão, e o PATCH em lote do CronService)
+ * corrigem a lista guardada no lugar (write-through), em todas as entradas do e-mail dono da tarefa,
+ * em vez de descartá-la. As listas guardadas são imutáveis: cada correção troca a lista inteira.
+ * REMOÇÃO: Por tamanho (total de tarefas guardadas, 'tarefas-maximas') e por ociosidade ('ociosidade').
+ */
+
+// BLOCÃO 2: ESTRUTURA E CONFIGURAÇÃO
+// -------------------------------------------------------------------------
+@Component
+@RequiredArgsConstructor
+public class CacheDeTarefasDoUsuario implements CacheMonitorado {
+
+    private final LeitorDeJwt leitorDeJwt; // Lê 'sub' (e-mail) do Token.
+
+    @Value("${tarefas.cache.habilitado:true}")
+    private boolean habilitado;
+    @Value("${tarefas.cache.tarefas-maximas:200000}")
+    private long tarefasMaximas;
+    @Value("${tarefas.cache.ociosidade:PT10M}")
+    private Duration ociosidade;
+
+    private record ChaveDeTarefas(String email, String hashDoToken) {
+    }
+
+    private Cache<ChaveDeTarefas, List<TarefasDTOResponse>> cache;
+    // Índice e-mail -> chaves no cache (um usuário pode ter vários Tokens/sessões).
+    private final IndicePorEmail<ChaveDeTarefas> indice = new IndicePorEmail<>();
+
+    @PostConstruct
+    void iniciaCache() {
+        cache = Caffeine.newBuilder()
+                // PESO: Uma lista "pesa" o número de tarefas (+1 para listas vazias), limitando a memória real do cache.
+                .maximumWeight(tarefasMaximas)
+                .weigher((ChaveDeTarefas chave, List<TarefasDTOResponse> tarefas) -> tarefas.size() + 1)
+                .expireAfterAccess(ociosidade)
+                // Executado na própria thread: o índice fica coerente assim que a entrada sai do cache.
+                .executor(Runnable::run)
+                .removalListener((ChaveDeTarefas chave, List<TarefasDTOResponse> tarefas, RemovalCause causa) -> {
+                    if (chave != null && causa != RemovalCause.REPLACED) {
+                        indice.remove(chave.email(), chave, cache.asMap()::containsKey);
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    // BLOCÃO 3: LEITURA (read-through)
+    // -------------------------------------------------------------------------
+
+    /**
+     * MÉTODO: busca(String, Supplier)
+     * FUNÇÃO: Devolve a lista do cache ou, na falta dela, chama 'consulta' e guarda o resultado.
+     * Erros da consulta (401, 5xx...) não são guardados.
+     */
+    public List<TarefasDTOResponse> busca(String token, Supplier<List<TarefasDTOResponse>> consulta) {
+        Optional<String> email = habilitado ? leitorDeJwt.assunto(token) : Optional.empty();
+        if (email.isEmpty()) {
+            return consulta.get();
+        }
+        ChaveDeTarefas chave = new ChaveDeTarefas(IndicePorEmail.normaliza(email.get()), LeitorDeJwt.hash(token));
+
+        // Indexa ANTES da carga: uma escrita concorrente encontra a chave e espera a carga terminar
+        // (o compute do Caffeine aguarda o cálculo em andamento da mesma chave) para então corrigi-la.
+        indice.adiciona(chave.email(), chave);
+        boolean[] carregada = {false};
+        List<TarefasDTOResponse> lista;
+        try {
+            lista = cache.get(chave, naoEncontrada -> {
+                carregada[0] = true;
+                List<TarefasDTOResponse> tarefas = consulta.get();
+                return tarefas != null ? List.copyOf(tarefas) : List.of();
+            });
+        } catch (RuntimeException e) {
+            indice.remove(chave.email(), chave, cache.asMap()::containsKey); // Carga falhou: nada foi guardado.
+            throw e;
+        }
+        if (carregada[0]) {
+            indice.readiciona(chave.email(), chave, cache.asMap()::containsKey);
+        }
+        return lista;
+    }
+
+    // BLOCÃO 4: CORREÇÕES NO LUGAR (write-through)
+    // -------------------------------------------------------------------------
+
+    /**
+     * MÉTODO: registraGravacao(TarefasDTOResponse)
+     * FUNÇÃO: Tarefa criada ou alterada (PUT/PATCH): substitui a tarefa de mesmo ID ou, se não existir, acrescenta.
+     */
+    public void registraGravacao(TarefasDTOResponse tarefa) {
+        if (tarefa == null || tarefa.getId() == null || tarefa.getEmailUsuario() == null) {
+            return;
+        }
+        corrige(indice.chaves(tarefa.getEmailUsuario()), tarefas -> substituiOuAcrescenta(tarefas, tarefa));
+    }
+
+    /**
+     * MÉTODO: registraGravacoes(Collection, Collection)
+     * FUNÇÃO: Alteração em lote (ex: CronService marcando NOTIFICADO). Cada tarefa devolvida é corrigida
+     * nas listas do dono dela; IDs pedidos que não voltaram na resposta têm as listas que os contêm descartadas.
+     */
+    public void registraGravacoes(Collection<String> idsAlterados, Collection<TarefasDTOResponse> tarefas) {
+        tarefas.forEach(this::registraGravacao);
+
+        Set<String> idsDevolvidos = tarefas.stream()
+                .filter(tarefa -> tarefa != null && tarefa.getEmailUsuario() != null)
+                .map(TarefasDTOResponse::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> semResposta = idsAlterados.stream()
+                .filter(id -> !idsDevolvidos.contains(id))
+                .collect(Collectors.toSet());
+        if (!semResposta.isEmpty()) {
+            cache.asMap().values().removeIf(lista -> lista.stream().anyMatch(tarefa -> semResposta.contains(tarefa.getId())));
+        }
+    }
+
+    /**
+     * MÉTODO: registraExclusao(String, String)
+     * FUNÇÃO: Remove a tarefa das listas do usuário dono do Token (claim 'sub').
+     * Token sem 'sub' legível: procura a tarefa em todas as listas guardadas.
+     */
+    public void registraExclusao(String id, String token) {
+        if (id == null) {
+            return;
+        }
+        UnaryOperator<List<TarefasDTOResponse>> semATarefa = tarefas -> tarefas.stream()
+                .filter(tarefa -> !id.equals(tarefa.getId()))
+                .toList();
+        leitorDeJwt.assunto(token).ifPresentOrElse(
+                email -> corrige(indice.chaves(email), semATarefa),
+                () -> corrige(Set.copyOf(cache.asMap().keySet()), semATarefa));
+    }
+
+    // Troca a lista de cada chave ainda presente (chaves já removidas do cache são ignoradas).
+    // compute, e não computeIfPresent: o computeIfPresent do Caffeine devolve null sem esperar uma carga em
+    // andamento da chave, e a lista carregada (anterior à escrita) ficaria no cache.
+    private void corrige(Set<ChaveDeTarefas> chaves, UnaryOperator<List<TarefasDTOResponse>> correcao) {
+        for (ChaveDeTarefas chave : chaves) {
+            cache.asMap().compute(chave, (mesmaChave, tarefas) -> tarefas != null ? correcao.apply(tarefas) : null);
+        }
+    }
+
+    private static List<TarefasDTOResponse> substituiOuAcrescenta(List<TarefasDTOResponse> tarefas, TarefasDTOResponse tarefa) {
+        List<TarefasDTOResponse> corrigidas = new ArrayList<>(tarefas.size() + 1);
+        boolean substituida = false;
+        for (TarefasDTOResponse atual : tarefas) {
+            if (tarefa.getId().equals(atual.getId())) {
+                corrigidas.add(tarefa);
+                substituida = true;
+            } else {
+                corrigidas.add(atual);
+            }
+        }
+        if (!substituida) {
+            corrigidas.add(tarefa);
+        }
+        return List.copyOf(corrigidas);
+    }
+
+    // BLOCÃO 5: MÉTRICAS
+    // -------------------------------------------------------------------------
+
+    @Override
+    public EstatisticasCacheDTOResponse estatisticas() {
+        CacheStats stats = cache.stats();
+        return EstatisticasCacheDTOResponse.builder()
+                .nome("tarefas-usuario")
+                .tamanho(cache.estimatedSize())
+                .tamanhoMaximo(tarefasMaximas) // Aqui em tarefas (peso), não em listas.
+                .acertos(stats.hitCount())
+                .falhas(stats.missCount())
+                .taxaDeAcerto(stats.hitRate())
+                .remocoes(stats.evictionCount())
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasCacheDTOResponse;
+
+/**
+ * Cache em memória do BFF cujas estatísticas aparecem em GET /admin/monitoramento/caches.
+ */
+public interface CacheMonitorado {
+
+    EstatisticasCacheDTOResponse estatisticas();
+}
@@ -0,0 +1,131 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasCoalescenciaDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security.LeitorDeJwt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescência ("single-flight") de chamadas idênticas e simultâneas aos microsserviços.
+ * FUNÇÃO: Ao carregar uma tela, o frontend dispara várias vezes o mesmo GET ao mesmo tempo. A primeira chamada
+ * (a "líder") vai ao microsserviço; as que chegam enquanto ela está em andamento esperam e recebem o MESMO
+ * resultado (ou a mesma exceção), sem nova chamada. Nada é guardado depois que a líder termina (não é um cache).
+ * CHAVE: método + argumentos + SHA-256 do Token (só chamadas com o mesmo Token são compartilhadas).
+ * CONCORRÊNCIA: Sem locks: ConcurrentHashMap (putIfAbsent) para as chamadas em andamento e LongAdder
+ * (contadores distribuídos por célula) para as estatísticas.
+ * ATENÇÃO: O resultado é o mesmo objeto para todas as chamadas coalescidas; quem o recebe não deve alterá-lo.
+ */
+
+// BLOCÃO 2: ESTRUTURA E CONFIGURAÇÃO
+// -------------------------------------------------------------------------
+@Component
+public class CoalescedorDeChamadas {
+
+    @Value("${coalescencia.habilitado:true}")
+    private boolean habilitado;
+
+    private record ChaveDeChamada(String metodo, List<Object> argumentos, String hashDoToken) {
+    }
+
+    // Contadores de um método: chamadas recebidas e quantas pegaram carona numa chamada em andamento.
+    private record Contadores(LongAdder chamadas, LongAdder colapsadas) {
+
+        Contadores() {
+            this(new LongAdder(), new LongAdder());
+        }
+    }
+
+    private final Map<ChaveDeChamada, CompletableFuture<Object>> emAndamento = new ConcurrentHashMap<>();
+    private final Map<String, Contadores> contadoresPorMetodo = new ConcurrentHashMap<>();
+
+    // BLOCÃO 3: EXECUÇÃO
+    // -------------------------------------------------------------------------
+
+    /**
+     * MÉTODO: executa(String, String, Supplier, Object...)
+     * FUNÇÃO: Executa 'chamada' ou, se uma chamada idêntica já estiver em andamento, espera o resultado dela.
+     * ERROS: A exceção da líder é relançada para todas as chamadas coalescidas.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T executa(String metodo, String token, Supplier<T> chamada, Object... argumentos) {
+        if (!habilitado) {
+            return chamada.get();
+        }
+        Contadores contadores = contadoresPorMetodo.computeIfAbsent(metodo, nome -> new Contadores());
+        contadores.chamadas().increment();
+
+        ChaveDeChamada chave = new ChaveDeChamada(metodo, Arrays.asList(argumentos),
+                token == null ? "" : LeitorDeJwt.hash(token));
+        CompletableFuture<Object> minha = new CompletableFuture<>();
+        CompletableFuture<Object> lider = emAndamento.putIfAbsent(chave, minha);
+
+        if (lider != null) {
+            // CARONA: Já existe uma chamada idêntica em andamento.
+            contadores.colapsadas().increment();
+            return (T) aguarda(lider);
+        }
+
+        try {
+            T resultado = chamada.get();
+            minha.complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error e) {
+            minha.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Remove só a própria chamada: a próxima chamada idêntica vai de novo ao microsserviço.
+            emAndamento.remove(chave, minha);
+        }
+    }
+
+    private static Object aguarda(CompletableFuture<Object> lider) {
+        try {
+            return lider.join();
+        } catch (CompletionException e) {
+            // Relança a exceção original da líder (ex: UnauthorizedException), tratada pelo GlobalExceptionHandler.
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw e;
+        }
+    }
+
+    // BLOCÃO 4: MÉTRICAS
+    // -------------------------------------------------------------------------
+
+    public EstatisticasCoalescenciaDTOResponse estatisticas() {
+        Map<String, Long> chamadasPorMetodo = new TreeMap<>();
+        Map<String, Long> colapsadasPorMetodo = new TreeMap<>();
+        contadoresPorMetodo.forEach((metodo, contadores) -> {
+            chamadasPorMetodo.put(metodo, contadores.chamadas().sum());
+            colapsadasPorMetodo.put(metodo, contadores.colapsadas().sum());
+        });
+        long chamadas = chamadasPorMetodo.values().stream().mapToLong(Long::longValue).sum();
+        long colapsadas = colapsadasPorMetodo.values().stream().mapToLong(Long::longValue).sum();
+
+        return EstatisticasCoalescenciaDTOResponse.builder()
+                .chamadas(chamadas)
+                .colapsadas(colapsadas)
+                .taxaDeColapso(chamadas == 0 ? 0.0 : (double) colapsadas / chamadas)
+                .emAndamento(emAndamento.size())
+                .chamadasPorMetodo(chamadasPorMetodo)
+                .colapsadasPorMetodo(colapsadasPorMetodo)
+                .build();
+    }
+}
@@ -4,19 +4,39 @@ package com.EngCode.BFF_Agendador_de_Tarefas.business;
 // -------------------------------------------------------------------------
 
 // DTOs de comunicação e resposta
-import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.in.LoginDTORequest;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.PaginaTarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.ResultadoEnvioEmailDTOResponse;
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.assincrono.FabricaDeThreads;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.cluster.CoordenadorCluster;
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.enums.StatusNotificacaoEnum; // Enum de status da notificação
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.journal.JournalDeNotificacoes;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.metricas.MetricasDoCron;
 
 // Lombok e Spring
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; // Anotação para Logs
 import org.springframework.beans.factory.annotation.Value; // Para puxar variáveis de configuração
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled; // Anotação principal para agendamento
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 // BLOCÃO 2: ESTRUTURA E INJEÇÃO DE DEPENDÊNCIA
 // -------------------------------------------------------------------------
@@ -28,13 +48,109 @@ public class CronService {
     // Dependências de outros Services (Orquestração Inter-Serviços)
     private final TarefasService tarefasService; // Para buscar e atualizar tarefas (via FeignClient).
     private final EmailService emailService; // Para disparar o e-mail (via FeignClient).
-    private final UsuarioService usuarioService; // Para realizar o login e obter o Token JWT.
+    private final TokenServicoManager tokenServicoManager; // Fornece o Token JWT de serviço (em cache, renovado antes de expirar).
+    private final AgendadorDeNotificacoes agendadorDeNotificacoes; // Roda de tempo que dispara cada tarefa no horário certo.
+    private final JournalDeNotificacoes journalDeNotificacoes; // Journal local: envio e confirmação sobrevivem a uma queda.
+    private final RetentativaDeNotificacoes retentativaDeNotificacoes; // Fila de retentativas com backoff e dead-letter.
+    private final CoordenadorCluster coordenadorCluster; // Define quais tarefas pertencem a esta réplica (cluster.modo).
+    private final FabricaDeThreads fabricaDeThreads; // Threads de plataforma ou virtuais (spring.threads.virtual.enabled).
+    private final MetricasDoCron metricasDoCron; // Duração dos ciclos, tarefas buscadas/enviadas/com falha e atraso (Micrometer).
+    private final AlteracoesNaJanelaDePolling alteracoesNaJanela; // Escritas que caíram em fatias já consultadas.
 
-    // INJEÇÃO DE VALORES: Credenciais de um 'usuário de serviço' para obter o Token JWT.
-    @Value("${usuario.email}")
-    private  String email;
-    @Value("${usuario.senha}")
-    private  String senha;
+    // INJEÇÃO DE VALORES: Controle do envio concorrente das notificações.
+    // 'concorrente = false' mantém o envio sequencial (uma tarefa por vez, na thread do agendador).
+    @Value("${cron.envio.concorrente:true}")
+    private boolean envioConcorrente;
+    // Limite de paralelismo: quantas tarefas podem estar em envio (e-mail + PATCH) ao mesmo tempo.
+    @Value("${cron.envio.paralelismo:8}")
+    private int paralelismo;
+    // Envio de e-mails em lote para o Microsserviço de Notificação (POST /lote).
+    @Value("${cron.envio.email-em-lote:false}")
+    private boolean emailEmLote;
+    // Quantas tarefas são marcadas como NOTIFICADO por requisição PATCH em lote.
+    @Value("${cron.status.tamanho-lote:50}")
+    private int tamanhoLoteStatus;
+
+    // INJEÇÃO DE VALORES: Polling incremental por marca d'água (high-water mark) de 'dataEvento'.
+    // Desligado por padrão: cada ciclo consulta a janela completa.
+    @Value("${cron.polling.incremental:false}")
+    private boolean pollingIncremental;
+    // Até onde o ciclo olha para frente (antes fixo em 1 hora).
+    @Value("${cron.polling.antecedencia:PT1H}")
+    private Duration antecedenciaDeBusca;
+    // Se o último ciclo bem-sucedido for mais antigo que isso, houve uma lacuna: volta para a janela completa.
+    @Value("${cron.polling.intervalo-maximo:PT5M}")
+    private Duration intervaloMaximoEntreCiclos;
+    // A cada N ciclos incrementais, faz uma varredura completa da janela.
+    @Value("${cron.polling.varredura-completa-a-cada:15}")
+    private int varreduraCompletaACada;
+    // Tarefas por página na busca do período (0 = busca a janela inteira em uma única chamada, sem paginação).
+    @Value("${cron.polling.tamanho-pagina:500}")
+    private int tamanhoPagina;
+
+    // Estado do polling incremental (o @Scheduled não executa ciclos sobrepostos).
+    private volatile LocalDateTime marcaDagua; // Fim da última janela processada sem falhas.
+    private volatile LocalDateTime ultimaExecucao; // Início do último ciclo que avançou a marca.
+    private volatile int ciclosIncrementais; // Ciclos incrementais desde a última varredura completa.
+    private volatile long versaoDosMembros = -1; // Membros do cluster na última marca; mudou = fatias redistribuídas.
+
+    // Tarefas da roda com 'dataEvento' a até 1 minuto umas das outras são recarregadas em uma única busca por período.
+    private static final Duration AGRUPAMENTO_DA_RECARGA = Duration.ofMinutes(1);
+
+    // Contadores de um processamento (ciclo agendado ou disparo do agendador).
+    private record ResumoDoProcessamento(int processadas, int falhasNoEnvio, int statusConfirmados, int falhasNoStatus) {
+
+        static final ResumoDoProcessamento VAZIO = new ResumoDoProcessamento(0, 0, 0, 0);
+
+        // Acumula os contadores das páginas de um mesmo ciclo.
+        ResumoDoProcessamento soma(ResumoDoProcessamento outro) {
+            return new ResumoDoProcessamento(processadas + outro.processadas, falhasNoEnvio + outro.falhasNoEnvio,
+                    statusConfirmados + outro.statusConfirmados, falhasNoStatus + outro.falhasNoStatus);
+        }
+
+        boolean semFalhasDeStatus() {
+            return falhasNoStatus == 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Tarefas processadas: %d (falhas no envio: %d, status confirmados: %d, falhas no status: %d).",
+                    processadas, falhasNoEnvio, statusConfirmados, falhasNoStatus);
+        }
+    }
+
+    // Intervalo de 'dataEvento' consultado em um ciclo.
+    private record JanelaDeBusca(LocalDateTime inicio, LocalDateTime fim, boolean completa, long versaoDosMembros,
+                                 AlteracoesNaJanelaDePolling.Leitura alteracoes) {
+    }
+
+    // Executor limitado (pool fixo) usado no modo concorrente. Criado no @PostConstruct
+    // porque depende do valor de 'paralelismo' já injetado.
+    private ExecutorService executorDeEnvio;
+    // Thread única que processa as tarefas disparadas pelo AgendadorDeNotificacoes (fora da thread da roda).
+    private ExecutorService executorDeDisparo;
+
+    @PostConstruct
+    // Cria o pool fixo com 'paralelismo' threads nomeadas (facilita a leitura dos logs).
+    void iniciaExecutorDeEnvio() {
+        executorDeEnvio = Executors.newFixedThreadPool(Math.max(1, paralelismo), fabricaDeThreads.fabrica("cron-envio-", false));
+        executorDeDisparo = Executors.newSingleThreadExecutor(fabricaDeThreads.fabrica("cron-disparo-", false));
+
+        // As tarefas vencidas na roda de tempo são recarregadas e passam pelo mesmo processamento do ciclo agendado.
+        agendadorDeNotificacoes.registraAcaoDeDisparo(agendadas -> executorDeDisparo.execute(() -> disparaAgendadas(agendadas, false)));
+        // As retentativas (e os reprocessamentos da dead-letter) também: a tarefa guardada na falha pode ser só a
+        // referência da roda, ou ter sido excluída, reagendada ou notificada desde então.
+        // Síncrono, na thread da fila de retentativas: ao retornar, a fila sabe se a tarefa ainda é dela.
+        retentativaDeNotificacoes.registraAcaoDeReenvio(tarefas ->
+                disparaAgendadas(tarefas.stream().map(AgendadorDeNotificacoes.TarefaAgendada::de).toList(), true));
+    }
+
+    @PreDestroy
+    // Encerra os pools junto com a aplicação, sem aceitar novas tarefas.
+    void encerraExecutorDeEnvio() {
+        executorDeDisparo.shutdown();
+        executorDeEnvio.shutdown();
+    }
 
     // BLOCÃO 3: MÉTODO AGENDADO
     // -------------------------------------------------------------------------
@@ -45,61 +161,421 @@ public class CronService {
 
     // O @Slf4j estava aqui, mas ele deve ficar no nível da classe. Foi corrigido.
     public void buscarTarefasDaProximaHora () {
+        // MÉTRICAS: O ciclo inteiro é cronometrado (bff.cron.ciclo), inclusive quando termina com exceção.
+        metricasDoCron.cronometraCiclo(this::executaCiclo);
+    }
 
-        // 1. AUTENTICAÇÃO: Realiza o login usando as credenciais injetadas.
-        String token = login(converterParaDTORequest());
+    private void executaCiclo () {
 
         // LOG MELHORADO: Inicia o processo.
         log.info(">>> Iniciando o ciclo agendado de busca e notificação de Tarefas.");
 
-        // 2. CÁLCULO DE TEMPO: Define o período de busca (agora até a próxima hora).
+        // 0. JOURNAL: Conclui primeiro os PATCHs de status que ficaram pendentes.
+        retomaConfirmacoesPendentes();
+
+        // 1. CÁLCULO DE TEMPO: Define o período de busca (janela completa ou só a fatia nova, ver calculaJanelaDeBusca).
         LocalDateTime horaAtual = LocalDateTime.now();
-        LocalDateTime horaFutura = LocalDateTime.now().plusHours(1);
+        JanelaDeBusca janela = calculaJanelaDeBusca(horaAtual);
 
-        // 3. BUSCA DE DADOS: Chama o TarefasService para buscar as tarefas do período, repassando o Token.
-        List<TarefasDTOResponse> listaDeTarefas = tarefasService.buscaTarefasAgendadasPorPeriodo(horaAtual, horaFutura, token);
+        // 2. BUSCA PAGINADA: Chama o TarefasService para buscar as tarefas do período, uma página por vez.
+        // MEMÓRIA: Cada página é pré-carregada e notificada antes de buscar a próxima, então o pico de
+        // memória acompanha 'cron.polling.tamanho-pagina', e não o tamanho da janela.
+        ResumoDoProcessamento resumo = ResumoDoProcessamento.VAZIO;
+        int encontradas = 0;
+        int preCarregadas = 0;
+        int paginas = 0;
+        String cursor = null;
+        do {
+            PaginaTarefasDTOResponse pagina = buscaPagina(janela.inicio(), janela.fim(), cursor);
+            paginas++;
+            metricasDoCron.registraBuscadas(pagina.getTarefas().size());
 
-        // LOG MELHORADO: Informa quantas tarefas foram encontradas.
-        log.info("Encontradas {} tarefas agendadas para notificação na próxima hora.", listaDeTarefas.size());
+            // CLUSTER: Só seguem as tarefas da fatia deste nó (cada réplica notifica uma parte, sem e-mail duplicado).
+            // RETENTATIVAS: Tarefas que já estão na fila de retentativas (ou na dead-letter) ficam com ela.
+            List<TarefasDTOResponse> listaDeTarefas = tarefasDesteNo(pagina.getTarefas()).stream()
+                    .filter(tarefa -> !retentativaDeNotificacoes.controla(tarefa.getId()))
+                    .toList();
+            encontradas += listaDeTarefas.size();
 
-        // 4. PROCESSAMENTO E NOTIFICAÇÃO (Loop)
-        listaDeTarefas.forEach(tarefa -> {
+            // 3. PRÉ-CARGA NO AGENDADOR: Com o agendador habilitado, as tarefas entram na roda de tempo e são
+            // disparadas em 'dataEvento - antecedência'. As que não couberem (ou já venceram) seguem agora.
+            List<TarefasDTOResponse> tarefasParaEnviarAgora = listaDeTarefas;
+            if (agendadorDeNotificacoes.isHabilitado()) {
+                tarefasParaEnviarAgora = listaDeTarefas.stream()
+                        .filter(tarefa -> !agendadorDeNotificacoes.agenda(tarefa))
+                        .toList();
+                preCarregadas += listaDeTarefas.size() - tarefasParaEnviarAgora.size();
+            }
 
-            emailService.enviaEmail(tarefa); // Envia o e-mail para a tarefa atual.
+            // 4. PROCESSAMENTO E NOTIFICAÇÃO
+            resumo = resumo.soma(processaTarefas(tarefasParaEnviarAgora));
 
-            // LOG MELHORADO: Registra o sucesso do envio para rastreabilidade.
-            log.info("E-mail de notificação disparado com sucesso para o usuário: {}.", tarefa.getEmailUsuario());
+            if (pagina.getProximoCursor() != null && pagina.getProximoCursor().equals(cursor)) {
+                // Proteção: um cursor que não avança levaria a um laço infinito.
+                log.warn("Cursor de paginação não avançou ({}). Encerrando a busca do ciclo.", cursor);
+                break;
+            }
+            cursor = pagina.getProximoCursor();
+        } while (cursor != null);
 
-            // Altera o status da tarefa para evitar que o e-mail seja enviado novamente no próximo ciclo.
-            // O Microsserviço de Agendamento lida com a lógica de PATCH.
-            tarefasService.alteraStatusDaTarefa(StatusNotificacaoEnum.NOTIFICADO, tarefa.getId(), token);
+        if (agendadorDeNotificacoes.isHabilitado()) {
+            agendadorDeNotificacoes.atualizaHorizonte(janela.fim());
+            log.info("{} tarefas pré-carregadas no agendador ({} no total).",
+                    preCarregadas, agendadorDeNotificacoes.getQuantidadeAgendada());
+        }
 
-        });
+        // LOG MELHORADO: Informa quantas tarefas foram encontradas.
+        log.info("Encontradas {} tarefas agendadas para notificação entre {} e {} (janela {}, {} páginas).",
+                encontradas, janela.inicio(), janela.fim(), janela.completa() ? "completa" : "incremental", paginas);
+
+        // 5. MARCA D'ÁGUA: Só avança se o ciclo terminou sem falhas de status; caso contrário a mesma fatia
+        // é consultada de novo no próximo ciclo (as tarefas já NOTIFICADO não voltam a ser enviadas).
+        // Falhas no envio não seguram a marca: essas tarefas já estão com a fila de retentativas.
+        if (resumo.semFalhasDeStatus()) {
+            avancaMarcaDagua(horaAtual, janela);
+        }
 
         // LOG MELHORADO: Finaliza o processo.
-        log.info("<<< Finalizado o ciclo agendado de notificação. Tarefas processadas: {}.", listaDeTarefas.size());
+        log.info("<<< Finalizado o ciclo agendado de notificação. {}", resumo);
+    }
+
+    /**
+     * MÉTODO: processaTarefas(List)
+     * FUNÇÃO: Envia as notificações de uma lista de tarefas e marca as enviadas como NOTIFICADO.
+     * CONCEITO: Usado pelo ciclo agendado e pelos disparos do AgendadorDeNotificacoes.
+     */
+    private ResumoDoProcessamento processaTarefas (List<TarefasDTOResponse> listaDeTarefas) {
+
+        // Os IDs notificados são acumulados e marcados como NOTIFICADO em lotes (PATCH /lote).
+        BufferDeStatusNotificacao bufferDeStatus = novoBufferDeStatus();
+
+        AtomicInteger falhas = new AtomicInteger();
+        List<TarefasDTOResponse> tarefasAEnviar = listaDeTarefas;
+
+        if (journalDeNotificacoes.isHabilitado()) {
+            // JOURNAL: Tarefas com e-mail já enviado em uma execução anterior (ENVIADO sem confirmação)
+            // não recebem o e-mail de novo; só o PATCH de status é refeito.
+            Map<Boolean, List<TarefasDTOResponse>> jaEnviadas = listaDeTarefas.stream()
+                    .collect(Collectors.partitioningBy(tarefa ->
+                            journalDeNotificacoes.estado(tarefa.getId()) == JournalDeNotificacoes.EstadoNotificacao.ENVIADO));
+            jaEnviadas.get(true).forEach(tarefa -> bufferDeStatus.adiciona(tarefa.getId()));
+            tarefasAEnviar = jaEnviadas.get(false);
+            // Uma única gravação (e um único fsync) registra a intenção de envio de todo o grupo.
+            journalDeNotificacoes.registraIntencoes(tarefasAEnviar.stream().map(TarefasDTOResponse::getId).toList());
+        }
+
+        if (emailEmLote) {
+            // MODO LOTE: Os e-mails seguem agrupados para o Microsserviço de Notificação (POST /lote).
+            // Só as tarefas com resultado 'enviado' entram no buffer de status (falha parcial por tarefa).
+            CompletableFuture<?>[] envios = tarefasAEnviar.stream()
+                    .filter(this::aindaEDono)
+                    .map(tarefa -> emailService.enviaEmailEmLote(tarefa)
+                            .thenAcceptAsync(resultado -> confirmaEnvio(tarefa, resultado, bufferDeStatus, falhas), executorDeEnvio)
+                            .handle((ignorado, erro) -> registraFalha(tarefa, erro, falhas)))
+                    .toArray(CompletableFuture[]::new);
+
+            // Todas as tarefas já foram entregues: o último lote (incompleto) não precisa esperar o prazo máximo.
+            emailService.descarregaLoteDeEmails();
+            CompletableFuture.allOf(envios).join();
+
+        } else if (envioConcorrente) {
+            // MODO CONCORRENTE: Cada tarefa vira uma unidade de trabalho no pool limitado.
+            // A sequência "envia e-mail -> altera status" continua ordenada DENTRO de cada tarefa.
+            CompletableFuture<?>[] envios = tarefasAEnviar.stream()
+                    .map(tarefa -> CompletableFuture
+                            .runAsync(() -> notificaTarefa(tarefa, bufferDeStatus), executorDeEnvio)
+                            .handle((ignorado, erro) -> registraFalha(tarefa, erro, falhas)))
+                    .toArray(CompletableFuture[]::new);
+
+            // Aguarda TODAS as tarefas antes de descarregar o último lote e registrar o resumo do ciclo.
+            CompletableFuture.allOf(envios).join();
+
+        } else {
+            // MODO SEQUENCIAL (Loop): a falha de uma tarefa não interrompe as seguintes.
+            tarefasAEnviar.forEach(tarefa -> {
+                try {
+                    notificaTarefa(tarefa, bufferDeStatus);
+                } catch (RuntimeException e) {
+                    registraFalha(tarefa, e, falhas);
+                }
+            });
+        }
+
+        bufferDeStatus.descarregaRestante();
+
+        return new ResumoDoProcessamento(listaDeTarefas.size(), falhas.get(),
+                bufferDeStatus.getConfirmadas(), bufferDeStatus.getFalhas());
     }
 
     /**
-     * MÉTODO: login(LoginDTORequest)
-     * FUNÇÃO: Executa o login no Microsserviço de Usuário.
-     * CONCEITO: Pass-through (Passagem direta) para o UsuarioService.
+     * MÉTODO: buscaPagina(LocalDateTime, LocalDateTime, String)
+     * FUNÇÃO: Busca a página do período que começa no 'cursor' (null = primeira página).
+     * AUTENTICAÇÃO: O Token vem do cache do TokenServicoManager (sem login a cada ciclo ou página).
      */
-    public String login (LoginDTORequest loginDTORequest){
+    private PaginaTarefasDTOResponse buscaPagina (LocalDateTime inicio, LocalDateTime fim, String cursor) {
+        if (tamanhoPagina <= 0) {
+            // SEM PAGINAÇÃO: o período inteiro vira uma única "página".
+            return PaginaTarefasDTOResponse.builder()
+                    .tarefas(tokenServicoManager.executaComToken(
+                            token -> tarefasService.buscaTarefasAgendadasPorPeriodo(inicio, fim, token)))
+                    .build();
+        }
+        return tokenServicoManager.executaComToken(token -> tarefasService.buscaPaginaDeTarefasPorPeriodo(
+                inicio, fim, cursor, tamanhoPagina, token));
+    }
 
-        return usuarioService.loginUsuario(loginDTORequest);
+    /**
+     * MÉTODO: disparaAgendadas(List, boolean)
+     * FUNÇÃO: Processa as tarefas vencidas na roda de tempo ('retentativa = false') ou na fila de retentativas.
+     * ESTADO ATUAL: A entrada da roda é só uma referência (ID, 'dataEvento', e-mail). A tarefa é recarregada do
+     * Agendamento e só é enviada se ainda existir, estiver PENDENTE e com o mesmo 'dataEvento' — exclusões e
+     * alterações feitas em outra réplica (ou depois da pré-carga) não chegam à roda deste nó.
+     * CLUSTER: A posse é conferida de novo, porque as fatias podem ter mudado desde a pré-carga.
+     */
+    private void disparaAgendadas (List<AgendadorDeNotificacoes.TarefaAgendada> agendadas, boolean retentativa) {
+        List<AgendadorDeNotificacoes.TarefaAgendada> desteNo = agendadas.stream()
+                .filter(agendada -> coordenadorCluster.isDono(agendada.id()))
+                .toList();
+        List<TarefasDTOResponse> pendentes;
+        try {
+            pendentes = recarregaPendentes(desteNo);
+        } catch (RuntimeException e) {
+            // Sem o estado atual nada é enviado agora; a fila de retentativas tenta de novo (e recarrega de novo).
+            log.error("Não foi possível recarregar {} tarefas vencidas no agendador: {}", desteNo.size(), e.getMessage());
+            desteNo.forEach(agendada -> retentativaDeNotificacoes.registraFalha(referenciaDe(agendada), e));
+            return;
+        }
+        // Da roda: tarefas que já estão com a fila de retentativas ficam com ela.
+        List<TarefasDTOResponse> aEnviar = retentativa ? pendentes : pendentes.stream()
+                .filter(tarefa -> !retentativaDeNotificacoes.controla(tarefa.getId()))
+                .toList();
+        log.info("{} concluído ({} de {} tarefas ainda pendentes). {}", retentativa ? "Retentativa" : "Disparo agendado",
+                aEnviar.size(), agendadas.size(), processaTarefas(aEnviar));
     }
 
     /**
-     * MÉTODO: converterParaDTORequest()
-     * FUNÇÃO: Converte as variáveis @Value (e-mail e senha) em um DTO de Requisição.
-     * CONCEITO: Criação do Objeto de Transferência de Dados para o login.
+     * MÉTODO: recarregaPendentes(List)
+     * FUNÇÃO: Devolve o estado atual das tarefas que ainda devem ser notificadas (existem, PENDENTE e com o mesmo
+     * 'dataEvento'). As demais (excluídas, reagendadas, já NOTIFICADO) ficam de fora.
+     * COMO: O Agendamento não tem busca por ID; a busca por período (só PENDENTE) é feita exatamente nos
+     * 'dataEvento' esperados, agrupando em um só intervalo os que estão a até AGRUPAMENTO_DA_RECARGA uns dos outros.
      */
-    public LoginDTORequest converterParaDTORequest () {
-        return LoginDTORequest.builder()
-                .email(email)
-                .senha(senha)
+    private List<TarefasDTOResponse> recarregaPendentes (List<AgendadorDeNotificacoes.TarefaAgendada> agendadas) {
+        Map<String, LocalDateTime> esperadas = new HashMap<>();
+        agendadas.stream()
+                .filter(agendada -> agendada.id() != null && agendada.dataEvento() != null)
+                .forEach(agendada -> esperadas.put(agendada.id(), agendada.dataEvento().truncatedTo(ChronoUnit.SECONDS)));
+        List<LocalDateTime> datas = esperadas.values().stream().distinct().sorted().toList();
+
+        List<TarefasDTOResponse> pendentes = new ArrayList<>();
+        int inicioDoGrupo = 0;
+        for (int i = 1; i <= datas.size(); i++) {
+            if (i < datas.size() && !datas.get(i).isAfter(datas.get(i - 1).plus(AGRUPAMENTO_DA_RECARGA))) {
+                continue;
+            }
+            LocalDateTime inicio = datas.get(inicioDoGrupo);
+            LocalDateTime fim = datas.get(i - 1);
+            String cursor = null;
+            do {
+                PaginaTarefasDTOResponse pagina = buscaPagina(inicio, fim, cursor);
+                pagina.getTarefas().stream()
+                        .filter(tarefa -> tarefa.getDataEvento() != null
+                                && tarefa.getDataEvento().truncatedTo(ChronoUnit.SECONDS).equals(esperadas.get(tarefa.getId()))
+                                && (tarefa.getStatusNotificacaoEnum() == null || tarefa.getStatusNotificacaoEnum() == StatusNotificacaoEnum.PENDENTE))
+                        .forEach(pendentes::add);
+                if (pagina.getProximoCursor() != null && pagina.getProximoCursor().equals(cursor)) {
+                    break; // Mesma proteção do ciclo contra um cursor que não avança.
+                }
+                cursor = pagina.getProximoCursor();
+            } while (cursor != null);
+            inicioDoGrupo = i;
+        }
+        return pendentes;
+    }
+
+    // DTO mínimo de uma tarefa da roda, para a fila de retentativas (que recarrega a tarefa antes de reenviar).
+    private static TarefasDTOResponse referenciaDe (AgendadorDeNotificacoes.TarefaAgendada agendada) {
+        return TarefasDTOResponse.builder()
+                .id(agendada.id())
+                .dataEvento(agendada.dataEvento())
+                .emailUsuario(agendada.emailUsuario())
+                .statusNotificacaoEnum(StatusNotificacaoEnum.PENDENTE)
                 .build();
     }
 
+    /**
+     * MÉTODO: tarefasDesteNo(List)
+     * FUNÇÃO: Mantém só as tarefas cujo ID cai na fatia deste nó do cluster (hash consistente).
+     */
+    private List<TarefasDTOResponse> tarefasDesteNo (List<TarefasDTOResponse> tarefas) {
+        return tarefas.stream()
+                .filter(tarefa -> coordenadorCluster.isDono(tarefa.getId()))
+                .toList();
+    }
+
+    /**
+     * MÉTODO: novoBufferDeStatus()
+     * FUNÇÃO: Cria o buffer que marca as tarefas como NOTIFICADO em lotes e registra a confirmação no journal.
+     * CONFIRMAÇÃO POR ID: Entram no journal os IDs alterados e os recusados de forma definitiva (ex: 404 de uma
+     * tarefa excluída depois do envio; o e-mail já saiu e não há status a marcar). Só os IDs com falha transitória
+     * continuam ENVIADO, para a próxima retomada — um ID ruim não prende o lote inteiro.
+     */
+    private BufferDeStatusNotificacao novoBufferDeStatus () {
+        return new BufferDeStatusNotificacao(tamanhoLoteStatus, ids -> {
+            TarefasService.ResultadoDoLote resultado = tokenServicoManager.executaComToken(
+                    token -> tarefasService.alteraStatusDasTarefasEmLoteDetalhado(StatusNotificacaoEnum.NOTIFICADO, ids, token));
+            List<String> resolvidos = new ArrayList<>(resultado.confirmados());
+            resolvidos.addAll(resultado.recusados());
+            journalDeNotificacoes.registraConfirmacoes(resolvidos);
+            return resultado.comFalha();
+        });
+    }
+
+    /**
+     * MÉTODO: retomaConfirmacoesPendentes()
+     * FUNÇÃO: Refaz o PATCH NOTIFICADO das tarefas que o journal mostra como enviadas e não confirmadas
+     * (ex: o BFF caiu entre o e-mail e o PATCH, ou o PATCH falhou no ciclo anterior).
+     */
+    private void retomaConfirmacoesPendentes () {
+        List<String> pendentes = journalDeNotificacoes.enviadasSemConfirmacao();
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        BufferDeStatusNotificacao bufferDeStatus = novoBufferDeStatus();
+        pendentes.forEach(bufferDeStatus::adiciona);
+        bufferDeStatus.descarregaRestante();
+        log.info("Journal: {} confirmações de status retomadas ({} com falha).", bufferDeStatus.getConfirmadas(), bufferDeStatus.getFalhas());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    // Na inicialização, retoma em segundo plano o trabalho que ficou pela metade na execução anterior.
+    void retomaNaInicializacao () {
+        executorDeDisparo.execute(() -> {
+            try {
+                retomaConfirmacoesPendentes();
+            } catch (RuntimeException e) {
+                log.warn("Não foi possível retomar as confirmações pendentes na inicialização: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * MÉTODO: calculaJanelaDeBusca(LocalDateTime)
+     * FUNÇÃO: Decide qual intervalo de 'dataEvento' consultar neste ciclo.
+     * INCREMENTAL: [marca d'água, agora + antecedência] — só a fatia que entrou na janela desde o último ciclo.
+     * O início recua até o menor 'dataEvento' das tarefas criadas/alteradas por esta réplica desde o último ciclo
+     * (AlteracoesNaJanelaDePolling), para que elas não fiquem esperando a próxima varredura completa.
+     * COMPLETA: [agora, agora + antecedência] — na inicialização, após uma lacuna entre ciclos, a cada
+     * 'varredura-completa-a-cada' ciclos, depois de um rebalanceamento do cluster (este nó pode ter herdado tarefas
+     * já cobertas pela marca de outro), quando o cluster tem mais de um membro (as escritas recebidas pelas outras
+     * réplicas não recuam a marca deste nó) ou quando o modo incremental está desligado.
+     */
+    private JanelaDeBusca calculaJanelaDeBusca (LocalDateTime horaAtual) {
+        LocalDateTime fim = horaAtual.plus(antecedenciaDeBusca);
+        LocalDateTime marca = marcaDagua;
+        LocalDateTime ultima = ultimaExecucao;
+        long versaoAtual = coordenadorCluster.getVersaoDosMembros();
+        AlteracoesNaJanelaDePolling.Leitura alteracoes = alteracoesNaJanela.le();
+
+        boolean variosMembros = coordenadorCluster.getMembros().size() > 1;
+        boolean lacuna = ultima == null || ultima.plus(intervaloMaximoEntreCiclos).isBefore(horaAtual);
+        boolean varreduraPeriodica = ciclosIncrementais >= varreduraCompletaACada;
+        boolean rebalanceado = versaoAtual != versaoDosMembros;
+
+        if (!pollingIncremental || variosMembros || marca == null || lacuna || varreduraPeriodica || rebalanceado
+                || !marca.isBefore(fim)) {
+            return new JanelaDeBusca(horaAtual, fim, true, versaoAtual, alteracoes);
+        }
+        // Escrita dentro da fatia já processada: a janela recomeça no 'dataEvento' dela.
+        LocalDateTime inicio = alteracoes.maisAntiga() != null && alteracoes.maisAntiga().isBefore(marca)
+                ? alteracoes.maisAntiga() : marca;
+        // O início nunca fica para trás de 'agora' (tarefas no passado não são notificadas).
+        return new JanelaDeBusca(inicio.isAfter(horaAtual) ? inicio : horaAtual, fim, false, versaoAtual, alteracoes);
+    }
+
+    /**
+     * MÉTODO: avancaMarcaDagua(LocalDateTime, JanelaDeBusca)
+     * FUNÇÃO: Registra que todas as tarefas até 'janela.fim()' foram processadas.
+     */
+    private void avancaMarcaDagua (LocalDateTime horaAtual, JanelaDeBusca janela) {
+        marcaDagua = janela.fim();
+        ultimaExecucao = horaAtual;
+        ciclosIncrementais = janela.completa() ? 0 : ciclosIncrementais + 1;
+        versaoDosMembros = janela.versaoDosMembros();
+        alteracoesNaJanela.limpa(janela.alteracoes()); // As escritas lidas no início do ciclo já foram cobertas.
+    }
+
+    /**
+     * MÉTODO: confirmaEnvio(TarefasDTOResponse, ResultadoEnvioEmailDTOResponse, ...)
+     * FUNÇÃO: Trata o resultado individual de uma tarefa enviada em lote.
+     */
+    private void confirmaEnvio (TarefasDTOResponse tarefa, ResultadoEnvioEmailDTOResponse resultado,
+                                BufferDeStatusNotificacao bufferDeStatus, AtomicInteger falhas) {
+        if (!resultado.isEnviado()) {
+            // Não entregue: continua PENDENTE no Agendamento e segue para a fila de retentativas.
+            falhas.incrementAndGet();
+            metricasDoCron.registraFalha();
+            log.warn("E-mail da tarefa {} não foi entregue: {}", tarefa.getId(), resultado.getMensagemErro());
+            retentativaDeNotificacoes.registraFalha(tarefa, new IllegalStateException(resultado.getMensagemErro()));
+            return;
+        }
+        log.info("E-mail de notificação disparado com sucesso para o usuário: {}.", tarefa.getEmailUsuario());
+        metricasDoCron.registraEnvio(tarefa.getDataEvento());
+        journalDeNotificacoes.registraEnvio(tarefa.getId());
+        retentativaDeNotificacoes.registraSucesso(tarefa.getId());
+        bufferDeStatus.adiciona(tarefa.getId());
+    }
+
+    /**
+     * MÉTODO: registraFalha(TarefasDTOResponse, Throwable, AtomicInteger)
+     * FUNÇÃO: Contabiliza a falha de uma tarefa sem derrubar as demais tarefas do ciclo
+     * e entrega a tarefa à fila de retentativas (backoff exponencial, depois dead-letter).
+     */
+    private Void registraFalha (TarefasDTOResponse tarefa, Throwable erro, AtomicInteger falhas) {
+        if (erro != null) {
+            Throwable causa = erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
+            falhas.incrementAndGet();
+            metricasDoCron.registraFalha();
+            log.error("Falha ao notificar a tarefa {}: {}", tarefa.getId(), causa.getMessage());
+            retentativaDeNotificacoes.registraFalha(tarefa, causa);
+        }
+        return null;
+    }
+
+    /**
+     * MÉTODO: aindaEDono(TarefasDTOResponse)
+     * FUNÇÃO: Confere a posse de novo imediatamente antes do envio: entre a busca (ou o disparo da roda) e o envio
+     * o cluster pode ter rebalanceado, ou a concessão deste nó pode ter vencido. A tarefa fica para o novo dono.
+     */
+    private boolean aindaEDono (TarefasDTOResponse tarefa) {
+        if (coordenadorCluster.isDono(tarefa.getId())) {
+            return true;
+        }
+        log.info("Tarefa {} deixou de pertencer a este nó antes do envio. Ignorada.", tarefa.getId());
+        return false;
+    }
+
+    /**
+     * MÉTODO: notificaTarefa(TarefasDTOResponse, BufferDeStatusNotificacao)
+     * FUNÇÃO: Envia o e-mail da tarefa e, em seguida, entrega o ID ao buffer que a marca como NOTIFICADO.
+     * CONCEITO: Unidade de trabalho do ciclo; a ordem "envio -> status" nunca se inverte.
+     */
+    private void notificaTarefa (TarefasDTOResponse tarefa, BufferDeStatusNotificacao bufferDeStatus) {
+
+        if (!aindaEDono(tarefa)) {
+            return;
+        }
+        emailService.enviaEmail(tarefa); // Envia o e-mail para a tarefa atual.
+        metricasDoCron.registraEnvio(tarefa.getDataEvento());
+        journalDeNotificacoes.registraEnvio(tarefa.getId()); // Durável: a partir daqui o e-mail não é reenviado.
+        retentativaDeNotificacoes.registraSucesso(tarefa.getId());
+
+        // LOG MELHORADO: Registra o sucesso do envio para rastreabilidade.
+        log.info("E-mail de notificação disparado com sucesso para o usuário: {}.", tarefa.getEmailUsuario());
+
+        // Altera o status da tarefa para evitar que o e-mail seja enviado novamente no próximo ciclo.
+        // Só entra no buffer quem teve o e-mail enviado; o PATCH sai quando o lote completa.
+        bufferDeStatus.adiciona(tarefa.getId());
+    }
+
 }
\ No newline at end of file
@@ -1,16 +1,71 @@
 package com.EngCode.BFF_Agendador_de_Tarefas.business;
 
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.ResultadoEnvioEmailDTOResponse;
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.assincrono.FabricaDeThreads;
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.EmailClient;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk.EmailClientJdk;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service // ANOTAÇÃO SPRING: Marca esta classe como um Componente de Serviço, contendo a lógica de negócio principal.
 @RequiredArgsConstructor // LOMBOK: Gera um construtor com todos os campos 'final', essencial para a Injeção de Dependência.
 public class EmailService {
 
     // INJEÇÃO DE DEPENDÊNCIA: O Spring inicializa e fornece estas duas ferramentas essenciais.
     private final EmailClient emailClient;
+    private final ExecucaoAssincrona execucaoAssincrona; // Executor da variante 'enviaEmailAsync'.
+    private final FabricaDeThreads fabricaDeThreads; // Threads de plataforma ou virtuais (spring.threads.virtual.enabled).
+
+    // INJEÇÃO DE VALORES: Regras de descarga do envio em lote.
+    // O lote é enviado quando atinge 'tamanho' OU quando o primeiro e-mail do lote espera 'espera-maxima'.
+    @Value("${notificacao.lote.tamanho:50}")
+    private int tamanhoLote;
+    @Value("${notificacao.lote.espera-maxima:PT0.5S}")
+    private Duration esperaMaxima;
+    // Quantos lotes podem estar em envio ao mesmo tempo.
+    @Value("${notificacao.lote.paralelismo:2}")
+    private int paralelismoLote;
+
+    // Estado do lote em formação (protegido pelo lock).
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<EnvioPendente> pendentes = new ArrayList<>();
+    private ScheduledFuture<?> descargaAgendada;
+
+    // Executor que envia os lotes e dispara a descarga por tempo.
+    private ScheduledExecutorService executorDeLotes;
+
+    // Uma tarefa aguardando no lote, junto com a promessa do seu resultado individual.
+    private record EnvioPendente(TarefasDTOResponse tarefa, CompletableFuture<ResultadoEnvioEmailDTOResponse> resultado) {
+    }
+
+    @PostConstruct
+    void iniciaExecutorDeLotes() {
+        executorDeLotes = Executors.newScheduledThreadPool(Math.max(1, paralelismoLote), fabricaDeThreads.fabrica("email-lote-", false));
+    }
+
+    @PreDestroy
+    void encerraExecutorDeLotes() {
+        executorDeLotes.shutdown();
+    }
 
     // MÉTODO PRINCIPAL: Recebe o DTO (objeto de dados) da tarefa e inicia o envio.
     public void enviaEmail (TarefasDTOResponse tarefasDTOResponse) {
@@ -19,4 +74,108 @@ public class EmailService {
 
     }
 
-}
\ No newline at end of file
+    /**
+     * MÉTODO: enviaEmailAsync(TarefasDTOResponse)
+     * FUNÇÃO: Envio individual sem bloquear quem chama: com a pilha JDK, o futuro do EmailClientJdk;
+     * com o Feign, a chamada síncrona no executor assíncrono.
+     */
+    public CompletableFuture<Void> enviaEmailAsync (TarefasDTOResponse tarefasDTOResponse) {
+        if (emailClient instanceof EmailClientJdk jdk) {
+            return jdk.enviarEmailAsync(tarefasDTOResponse);
+        }
+        return execucaoAssincrona.executa(() -> enviaEmail(tarefasDTOResponse));
+    }
+
+    /**
+     * MÉTODO: enviaEmailEmLote(TarefasDTOResponse)
+     * FUNÇÃO: Coloca a tarefa no lote em formação e devolve, sem bloquear, o resultado individual dela.
+     * CONCEITO: Usado pelo CronService; o lote sai por tamanho (na hora) ou por tempo (espera máxima).
+     */
+    public CompletableFuture<ResultadoEnvioEmailDTOResponse> enviaEmailEmLote (TarefasDTOResponse tarefasDTOResponse) {
+        EnvioPendente envio = new EnvioPendente(tarefasDTOResponse, new CompletableFuture<>());
+        List<EnvioPendente> loteCheio = null;
+
+        lock.lock();
+        try {
+            pendentes.add(envio);
+            if (pendentes.size() >= tamanhoLote) {
+                // DESCARGA POR TAMANHO: o lote completou.
+                loteCheio = retiraPendentes();
+            } else if (pendentes.size() == 1) {
+                // DESCARGA POR TEMPO: o primeiro e-mail do lote agenda o prazo máximo de espera.
+                descargaAgendada = executorDeLotes.schedule(this::descarregaLoteDeEmails,
+                        esperaMaxima.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (loteCheio != null) {
+            List<EnvioPendente> lote = loteCheio;
+            executorDeLotes.execute(() -> enviaLote(lote));
+        }
+        return envio.resultado();
+    }
+
+    /**
+     * MÉTODO: descarregaLoteDeEmails()
+     * FUNÇÃO: Envia imediatamente o lote em formação (ex: quando o CronService já entregou todas as tarefas do ciclo).
+     */
+    public void descarregaLoteDeEmails () {
+        List<EnvioPendente> lote;
+        lock.lock();
+        try {
+            lote = retiraPendentes();
+        } finally {
+            lock.unlock();
+        }
+        if (!lote.isEmpty()) {
+            executorDeLotes.execute(() -> enviaLote(lote));
+        }
+    }
+
+    // Deve ser chamado com o lock adquirido: troca o lote em formação por um novo e cancela a descarga por tempo.
+    private List<EnvioPendente> retiraPendentes () {
+        if (descargaAgendada != null) {
+            descargaAgendada.cancel(false);
+            descargaAgendada = null;
+        }
+        List<EnvioPendente> lote = pendentes;
+        pendentes = new ArrayList<>();
+        return lote;
+    }
+
+    /**
+     * MÉTODO: enviaLote(List)
+     * FUNÇÃO: Faz o POST /lote e completa o resultado de cada tarefa.
+     * FALHA PARCIAL: Tarefas sem resultado na resposta são tratadas como não enviadas.
+     * FALHA TOTAL: Se a chamada inteira falhar, todas as tarefas do lote recebem a exceção.
+     */
+    private void enviaLote (List<EnvioPendente> lote) {
+        try {
+            List<ResultadoEnvioEmailDTOResponse> resultados = emailClient.enviarEmailsEmLote(
+                    lote.stream().map(EnvioPendente::tarefa).toList());
+
+            // Resultados sem ID (ou nulos) não identificam nenhuma tarefa e são ignorados; com ID repetido vale o último.
+            // Uma resposta malformada não pode derrubar o lote inteiro: as tarefas sem resultado seguem para retentativa.
+            Map<String, ResultadoEnvioEmailDTOResponse> resultadosPorId = (resultados != null ? resultados : List.<ResultadoEnvioEmailDTOResponse>of())
+                    .stream()
+                    .filter(resultado -> resultado != null && resultado.getIdTarefa() != null)
+                    .collect(Collectors.toMap(ResultadoEnvioEmailDTOResponse::getIdTarefa, Function.identity(),
+                            (primeiro, ultimo) -> ultimo));
+
+            lote.forEach(envio -> {
+                String id = envio.tarefa().getId();
+                envio.resultado().complete(resultadosPorId.getOrDefault(id, ResultadoEnvioEmailDTOResponse.builder()
+                        .idTarefa(id)
+                        .enviado(false)
+                        .mensagemErro("Sem resultado na resposta do envio em lote.")
+                        .build()));
+            });
+        } catch (RuntimeException e) {
+            log.error("Falha ao enviar um lote de {} e-mails: {}", lote.size(), e.getMessage());
+            lote.forEach(envio -> envio.resultado().completeExceptionally(e));
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ServiceUnavailableException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Ponto único das variantes assíncronas dos serviços (métodos '...Async').
+ * FUNÇÃO: Roda a chamada síncrona no executor assíncrono (ExecutorAssincronoConfig) e devolve um CompletableFuture.
+ * ERROS: Exceções da chamada completam o CompletableFuture (o Spring MVC as entrega ao GlobalExceptionHandler);
+ * executor lotado vira ServiceUnavailableException (503).
+ */
+@Component
+@RequiredArgsConstructor
+public class ExecucaoAssincrona {
+
+    private final AsyncTaskExecutor executorAssincrono;
+
+    public <T> CompletableFuture<T> executa(Supplier<T> chamada) {
+        try {
+            return CompletableFuture.supplyAsync(chamada, executorAssincrono);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException(
+                    "Erro: BFF sobrecarregado no momento. Tente novamente em instantes.", e));
+        }
+    }
+
+    public CompletableFuture<Void> executa(Runnable chamada) {
+        return executa(() -> {
+            chamada.run();
+            return null;
+        });
+    }
+}
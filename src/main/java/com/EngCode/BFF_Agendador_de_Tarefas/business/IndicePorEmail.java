@@ -0,0 +1,62 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Índice e-mail -> chaves de um cache com escopo por Token (um usuário pode ter vários Tokens/sessões).
+ * FUNÇÃO: Encontra as entradas de um usuário sem varrer o cache (invalidação e atualização por e-mail).
+ * O e-mail é normalizado (sem espaços, minúsculo).
+ */
+class IndicePorEmail<K> {
+
+    private final Map<String, Set<K>> chavesPorEmail = new ConcurrentHashMap<>();
+
+    static String normaliza(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Chamar ANTES de carregar a entrada: quem invalida ou corrige pelo e-mail encontra a chave
+    // e espera a carga em andamento (o Caffeine serializa as operações da mesma chave).
+    void adiciona(String email, K chave) {
+        chavesPorEmail.compute(normaliza(email), (emailNormalizado, chaves) -> {
+            Set<K> atualizadas = chaves != null ? chaves : ConcurrentHashMap.newKeySet();
+            atualizadas.add(chave);
+            return atualizadas;
+        });
+    }
+
+    // Chamado quando a entrada sai do cache. Se ela já foi recarregada por outra thread
+    // ('aindaNoCache'), a chave continua no índice.
+    void remove(String email, K chave, Predicate<K> aindaNoCache) {
+        chavesPorEmail.computeIfPresent(normaliza(email), (emailNormalizado, chaves) -> {
+            if (!aindaNoCache.test(chave)) {
+                chaves.remove(chave);
+            }
+            return chaves.isEmpty() ? null : chaves;
+        });
+    }
+
+    // Chamado depois da carga: a remoção de uma entrada anterior da mesma chave, concorrente com a carga,
+    // pode ter tirado a chave do índice (a entrada em carga ainda não é visível). Só volta se está no cache.
+    void readiciona(String email, K chave, Predicate<K> noCache) {
+        if (noCache.test(chave)) {
+            adiciona(email, chave);
+        }
+    }
+
+    // Chaves atuais do e-mail (cópia).
+    Set<K> chaves(String email) {
+        Set<K> chaves = chavesPorEmail.get(normaliza(email));
+        return chaves != null ? Set.copyOf(chaves) : Set.of();
+    }
+
+    // Remove e devolve as chaves do e-mail.
+    Set<K> retira(String email) {
+        Set<K> chaves = chavesPorEmail.remove(normaliza(email));
+        return chaves != null ? chaves : Set.of();
+    }
+}
@@ -0,0 +1,246 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.FalhaNotificacaoDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Retentativas das notificações que falharam no CronService.
+ * FUNÇÃO: Cada tarefa que falha entra em uma fila de atraso (sem bloquear as tarefas saudáveis) e é
+ * reenviada com backoff exponencial + jitter. Depois de 'maximo-tentativas' ela vai para a fila de
+ * falhas definitivas (dead-letter), que os administradores inspecionam e reprocessam via /admin/notificacoes.
+ * POSSE: Enquanto a tarefa está em retentativa ou na dead-letter, o ciclo agendado não a envia
+ * (evita e-mail duplicado entre o ciclo e a retentativa). A posse termina em toda saída do reenvio: sucesso,
+ * nova falha (reagendada com outra geração) ou tarefa descartada no caminho (excluída, reagendada, já NOTIFICADO
+ * ou agora de outro nó do cluster).
+ */
+
+// BLOCÃO 2: ESTRUTURA E CONFIGURAÇÃO
+// -------------------------------------------------------------------------
+@Slf4j
+@Component
+public class RetentativaDeNotificacoes {
+
+    @Value("${notificacao.retentativa.maximo-tentativas:5}")
+    private int maximoTentativas;
+    // Espera antes da 1ª retentativa; dobra a cada nova falha até 'espera-maxima'.
+    @Value("${notificacao.retentativa.espera-inicial:PT10S}")
+    private Duration esperaInicial;
+    @Value("${notificacao.retentativa.espera-maxima:PT10M}")
+    private Duration esperaMaxima;
+    // Limite da dead-letter em memória; acima dele a falha mais antiga é descartada (com log).
+    @Value("${notificacao.retentativa.capacidade-fila-morta:10000}")
+    private int capacidadeFilaMorta;
+
+    // Tentativas já feitas por tarefa que está aguardando (ou executando) uma retentativa.
+    // A geração identifica o reenvio agendado: ao fim dele, a posse só é mantida se uma nova falha trocou a geração.
+    private record Controle(int tentativas, long geracao) {
+    }
+
+    private final Map<String, Controle> emRetentativa = new ConcurrentHashMap<>();
+    private final AtomicLong geracoes = new AtomicLong();
+    // Dead-letter: falhas definitivas, em ordem de chegada (protegida por 'travaFilaMorta').
+    // ReentrantLock em vez de 'synchronized': o descarte loga dentro da seção crítica, e um monitor prenderia
+    // a thread virtual (spring.threads.virtual.enabled) à thread do sistema operacional durante o I/O do log.
+    private final Map<String, FalhaNaFila> filaMorta = new LinkedHashMap<>();
+    private final ReentrantLock travaFilaMorta = new ReentrantLock();
+
+    // Ação que reenvia uma tarefa (registrada pelo CronService). Executada na thread da fila de atraso,
+    // de forma síncrona: quando ela retorna, a tarefa foi enviada, falhou de novo ou foi descartada.
+    private volatile Consumer<List<TarefasDTOResponse>> acaoDeReenvio = tarefas -> { };
+
+    private ScheduledExecutorService filaDeAtraso;
+
+    // A tarefa original fica guardada para permitir o reprocessamento.
+    private record FalhaNaFila(TarefasDTOResponse tarefa, int tentativas, String ultimoErro, LocalDateTime dataUltimaFalha) {
+    }
+
+    @PostConstruct
+    void inicia() {
+        filaDeAtraso = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notificacao-retentativa");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void encerra() {
+        filaDeAtraso.shutdownNow();
+    }
+
+    public void registraAcaoDeReenvio(Consumer<List<TarefasDTOResponse>> acao) {
+        this.acaoDeReenvio = Objects.requireNonNull(acao);
+    }
+
+    // BLOCÃO 3: CICLO DE VIDA DE UMA FALHA
+    // -------------------------------------------------------------------------
+
+    /**
+     * MÉTODO: controla(String)
+     * FUNÇÃO: 'true' se a tarefa está aguardando retentativa ou na dead-letter.
+     */
+    public boolean controla(String id) {
+        if (emRetentativa.containsKey(id)) {
+            return true;
+        }
+        travaFilaMorta.lock();
+        try {
+            return filaMorta.containsKey(id);
+        } finally {
+            travaFilaMorta.unlock();
+        }
+    }
+
+    /**
+     * MÉTODO: registraFalha(TarefasDTOResponse, Throwable)
+     * FUNÇÃO: Agenda a próxima tentativa com backoff exponencial e jitter, ou move a tarefa para a dead-letter.
+     */
+    public void registraFalha(TarefasDTOResponse tarefa, Throwable erro) {
+        Controle controle = emRetentativa.merge(tarefa.getId(), new Controle(1, geracoes.incrementAndGet()),
+                (atual, nova) -> new Controle(atual.tentativas() + 1, nova.geracao()));
+        int tentativas = controle.tentativas();
+        String mensagem = erro == null ? "Falha no envio." : erro.getMessage();
+
+        if (tentativas >= maximoTentativas) {
+            emRetentativa.remove(tarefa.getId());
+            moveParaFilaMorta(new FalhaNaFila(tarefa, tentativas, mensagem, LocalDateTime.now()));
+            return;
+        }
+
+        long espera = calculaEspera(tentativas);
+        log.warn("Tarefa {} falhou (tentativa {}/{}). Nova tentativa em {} ms.", tarefa.getId(), tentativas, maximoTentativas, espera);
+        filaDeAtraso.schedule(() -> reenvia(tarefa, controle.geracao()), espera, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * MÉTODO: reenvia(TarefasDTOResponse, long)
+     * FUNÇÃO: Executa o reenvio e, em qualquer saída, libera a tarefa — a não ser que o próprio reenvio tenha
+     * registrado uma nova falha (outra geração, já reagendada ou na dead-letter).
+     */
+    private void reenvia(TarefasDTOResponse tarefa, long geracao) {
+        try {
+            acaoDeReenvio.accept(List.of(tarefa));
+        } catch (RuntimeException e) {
+            registraFalha(tarefa, e);
+        } finally {
+            emRetentativa.computeIfPresent(tarefa.getId(), (id, controle) -> controle.geracao() == geracao ? null : controle);
+        }
+    }
+
+    /**
+     * MÉTODO: registraSucesso(String)
+     * FUNÇÃO: Encerra o controle da tarefa depois de um envio bem-sucedido.
+     */
+    public void registraSucesso(String id) {
+        emRetentativa.remove(id);
+    }
+
+    // BACKOFF EXPONENCIAL COM JITTER: espera = min(máxima, inicial * 2^(n-1)), sorteada entre 50% e 100% desse valor.
+    private long calculaEspera(int tentativas) {
+        long base = esperaInicial.toMillis() << Math.min(tentativas - 1, 30);
+        long limite = Math.min(Math.max(base, 1), esperaMaxima.toMillis());
+        return limite / 2 + ThreadLocalRandom.current().nextLong(limite / 2 + 1);
+    }
+
+    private void moveParaFilaMorta(FalhaNaFila falha) {
+        log.error("Tarefa {} movida para a fila de falhas definitivas após {} tentativas: {}",
+                falha.tarefa().getId(), falha.tentativas(), falha.ultimoErro());
+        travaFilaMorta.lock();
+        try {
+            filaMorta.remove(falha.tarefa().getId());
+            filaMorta.put(falha.tarefa().getId(), falha);
+            if (filaMorta.size() > capacidadeFilaMorta) {
+                Iterator<String> maisAntiga = filaMorta.keySet().iterator();
+                log.warn("Fila de falhas definitivas cheia. Descartando a tarefa {}.", maisAntiga.next());
+                maisAntiga.remove();
+            }
+        } finally {
+            travaFilaMorta.unlock();
+        }
+    }
+
+    // BLOCÃO 4: OPERAÇÕES ADMINISTRATIVAS (dead-letter)
+    // -------------------------------------------------------------------------
+
+    public List<FalhaNotificacaoDTOResponse> listaFalhas() {
+        List<FalhaNaFila> falhas;
+        travaFilaMorta.lock();
+        try {
+            falhas = new ArrayList<>(filaMorta.values());
+        } finally {
+            travaFilaMorta.unlock();
+        }
+        return falhas.stream()
+                .map(falha -> FalhaNotificacaoDTOResponse.builder()
+                        .idTarefa(falha.tarefa().getId())
+                        .nomeTarefa(falha.tarefa().getNomeTarefa())
+                        .emailUsuario(falha.tarefa().getEmailUsuario())
+                        .dataEvento(falha.tarefa().getDataEvento())
+                        .tentativas(falha.tentativas())
+                        .ultimoErro(falha.ultimoErro())
+                        .dataUltimaFalha(falha.dataUltimaFalha())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * MÉTODO: reprocessa(String)
+     * FUNÇÃO: Tira a tarefa da dead-letter e a reenvia imediatamente, com o contador de tentativas zerado.
+     */
+    public void reprocessa(String id) {
+        FalhaNaFila falha = retiraDaFilaMorta(id);
+        log.info("Reprocessando a tarefa {} a pedido de um administrador.", id);
+        // O ciclo agendado não a envia enquanto o reprocessamento está em andamento.
+        long geracao = geracoes.incrementAndGet();
+        emRetentativa.put(id, new Controle(0, geracao));
+        filaDeAtraso.execute(() -> reenvia(falha.tarefa(), geracao));
+    }
+
+    /**
+     * MÉTODO: descarta(String)
+     * FUNÇÃO: Remove a tarefa da dead-letter sem reenviar (o ciclo agendado volta a considerá-la).
+     */
+    public void descarta(String id) {
+        retiraDaFilaMorta(id);
+    }
+
+    private FalhaNaFila retiraDaFilaMorta(String id) {
+        FalhaNaFila falha;
+        travaFilaMorta.lock();
+        try {
+            falha = filaMorta.remove(id);
+        } finally {
+            travaFilaMorta.unlock();
+        }
+        if (falha == null) {
+            throw new ResourceNotFoundException("Erro: Tarefa " + id + " não está na fila de falhas.");
+        }
+        return falha;
+    }
+}
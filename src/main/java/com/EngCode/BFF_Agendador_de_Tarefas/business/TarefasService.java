@@ -5,15 +5,30 @@ package com.EngCode.BFF_Agendador_de_Tarefas.business;
 // DTOs de comunicação.
 
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.in.TarefasDTORequest;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.PaginaTarefasDTOResponse;
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.TarefasClient;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config.RepasseDeResposta;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk.TarefasClientJdk;
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.enums.StatusNotificacaoEnum;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.BusinessException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ConflictException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.IllegalArgumentException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ResourceNotFoundException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 @Service
 // ANOTAÇÃO SPRING: Marca a classe como um Componente de Serviço.
 @RequiredArgsConstructor
@@ -23,6 +38,28 @@ public class TarefasService {
     // BLOCÃO 2: INJEÇÃO DE DEPENDÊNCIA (O Feign Client)
     // -------------------------------------------------------------------------
     private final TarefasClient tarefasClient; // Interface Feign que conecta ao Microsserviço de Agendamento.
+    private final AgendadorDeNotificacoes agendadorDeNotificacoes; // Mantém a roda de tempo coerente com as alterações.
+    private final CacheDeTarefasDoUsuario cacheDeTarefas; // Lista de tarefas por usuário, corrigida a cada escrita.
+    private final CoalescedorDeChamadas coalescedor; // Compartilha GETs idênticos e simultâneos ao microsserviço.
+    private final ExecucaoAssincrona execucaoAssincrona; // Executor das variantes '...Async'.
+    private final AlteracoesNaJanelaDePolling alteracoesNaJanela; // Faz o polling incremental reconsultar a fatia alterada.
+
+    // INJEÇÃO DE VALORES: Indica se o Microsserviço de Agendamento expõe o PATCH em lote (/lote).
+    // Com 'false' (padrão, o endpoint ainda não existe no Agendamento), o lote é atendido localmente
+    // com um PATCH por tarefa (mesmo resultado, mais chamadas).
+    @Value("${agendador-tarefas.status-em-lote.habilitado:false}")
+    private boolean statusEmLoteHabilitado;
+
+    /**
+     * Resultado por ID de uma alteração de status em lote.
+     * - confirmados: o status foi alterado.
+     * - recusados: erro definitivo para o ID (403/404: tarefa excluída ou de outro usuário; 409: conflito);
+     *   repetir o PATCH daria o mesmo erro.
+     * - comFalha: erro transitório (5xx, timeout, disjuntor aberto); vale tentar de novo.
+     */
+    public record ResultadoDoLote(List<TarefasDTOResponse> atualizadas, List<String> confirmados,
+                                  List<String> recusados, List<String> comFalha) {
+    }
 
     /**
      * MÉTODO: gravarTarefa(String token, TarefasDTO tarefasDTO)
@@ -32,7 +69,7 @@ public class TarefasService {
     public TarefasDTOResponse gravarTarefa(String token, TarefasDTORequest tarefasDTO) {
         // FUNÇÃO: O BFF não calcula o e-mail nem a data de criação; ele envia o DTO e o Token.
         // O Microsserviço de Agendamento fará toda a lógica (extração do e-mail do token, data, status).
-        return tarefasClient.gravarTarefas(tarefasDTO, token);
+        return registraGravacao(tarefasClient.gravarTarefas(tarefasDTO, token));
     }
 
     /**
@@ -44,13 +81,59 @@ public class TarefasService {
         return tarefasClient.buscarListaTarefasPorPeriodo(dataInicial, dataFinal, token);
     }
 
+    /**
+     * MÉTODO: buscaPaginaDeTarefasPorPeriodo(LocalDateTime, LocalDateTime, String, int, String)
+     * FUNÇÃO: Busca uma página (no máximo 'tamanho' tarefas) do período, a partir do 'cursor'.
+     * CONCEITO: Quem percorre o período inteiro mantém em memória só uma página por vez.
+     */
+    public PaginaTarefasDTOResponse buscaPaginaDeTarefasPorPeriodo(LocalDateTime dataInicial, LocalDateTime dataFinal,
+                                                                   String cursor, int tamanho, String token) {
+        validaTamanho(tamanho);
+        return paraPagina(tarefasClient.buscarPaginaTarefasPorPeriodo(dataInicial, dataFinal, cursor, tamanho, token));
+    }
+
+    private static PaginaTarefasDTOResponse paraPagina(ResponseEntity<List<TarefasDTOResponse>> resposta) {
+        String proximoCursor = resposta.getHeaders().getFirst(TarefasClient.CABECALHO_PROXIMO_CURSOR);
+
+        return PaginaTarefasDTOResponse.builder()
+                .tarefas(resposta.getBody() != null ? resposta.getBody() : List.of())
+                .proximoCursor(proximoCursor == null || proximoCursor.isBlank() ? null : proximoCursor)
+                .build();
+    }
+
     /**
      * MÉTODO: buscaTarefasPorEmail(String token)
      * FUNÇÃO: Delega a busca de tarefas do usuário logado.
      */
     public List<TarefasDTOResponse> buscaTarefasPorEmail(String token) {
         // FUNÇÃO: O BFF repassa o Token, e o Microsserviço de Agendamento extrai o e-mail para buscar as tarefas.
-        return tarefasClient.buscarListaTarefasPorEmail(token);
+        // CACHE: A lista fica guardada por usuário; as escritas abaixo a corrigem no lugar.
+        // COALESCÊNCIA: Tokens sem 'sub' legível (fora do cache) também fazem uma única chamada por rajada.
+        return cacheDeTarefas.busca(token, () -> coalescedor.executa("TarefasClient.buscarListaTarefasPorEmail", token,
+                () -> tarefasClient.buscarListaTarefasPorEmail(token)));
+    }
+
+    /**
+     * MÉTODO: repassaTarefasPorEmail(String token)
+     * FUNÇÃO: Mesma busca de buscaTarefasPorEmail, com o JSON do Microsserviço copiado direto para o frontend
+     * (sem virar List<TarefasDTOResponse> e voltar a JSON). Não passa pelo cache nem pela coalescência.
+     */
+    public ResponseEntity<Resource> repassaTarefasPorEmail(String token) {
+        return RepasseDeResposta.paraEntidade(tarefasClient.repassarListaTarefasPorEmail(token));
+    }
+
+    /**
+     * MÉTODO: repassaTarefasPorPeriodo(LocalDateTime, LocalDateTime, String, Integer, String)
+     * FUNÇÃO: Busca por período (inteira ou paginada) sem conversão; o cursor da próxima página segue no cabeçalho.
+     */
+    public ResponseEntity<Resource> repassaTarefasPorPeriodo(LocalDateTime dataInicial, LocalDateTime dataFinal,
+                                                             String cursor, Integer tamanho, String token) {
+        if (tamanho != null) {
+            validaTamanho(tamanho);
+        }
+        return RepasseDeResposta.paraEntidade(
+                tarefasClient.repassarTarefasPorPeriodo(dataInicial, dataFinal, tamanho != null ? cursor : null, tamanho, token),
+                TarefasClient.CABECALHO_PROXIMO_CURSOR);
     }
 
     /**
@@ -60,6 +143,7 @@ public class TarefasService {
     public void deletaTarefaPorId(String id, String token) {
         // FUNÇÃO: O BFF repassa o ID e o Token para o Microsserviço de Agendamento validar se o usuário pode deletar.
         tarefasClient.deletaTarefaPorId(id, token);
+        registraExclusao(id, token);
     }
 
     /**
@@ -68,7 +152,90 @@ public class TarefasService {
      */
     public TarefasDTOResponse alteraStatusDaTarefa(StatusNotificacaoEnum statusNotificacaoEnum, String id, String token) {
         // FUNÇÃO: Repassa o novo status, o ID e o Token de autorização.
-        return tarefasClient.alteraStatusDeNotificacao(statusNotificacaoEnum, id, token);
+        return registraStatus(statusNotificacaoEnum, id, tarefasClient.alteraStatusDeNotificacao(statusNotificacaoEnum, id, token));
+    }
+
+    // Status alterado: a roda de tempo e a lista em cache acompanham o novo status.
+    private TarefasDTOResponse registraStatus(StatusNotificacaoEnum statusNotificacaoEnum, String id, TarefasDTOResponse tarefaAtualizada) {
+        if (statusNotificacaoEnum != StatusNotificacaoEnum.PENDENTE) {
+            agendadorDeNotificacoes.cancela(id); // CANCELADO/NOTIFICADO: sai da roda de tempo.
+        } else {
+            agendadorDeNotificacoes.atualiza(tarefaAtualizada); // Voltou a PENDENTE: pode voltar para a roda.
+            registraAlteracaoPendente(tarefaAtualizada);
+        }
+        cacheDeTarefas.registraGravacao(tarefaAtualizada);
+        return tarefaAtualizada;
+    }
+
+    /**
+     * MÉTODO: alteraStatusDasTarefasEmLote(StatusNotificacaoEnum, List, String)
+     * FUNÇÃO: Atualiza o status de várias tarefas de uma vez (N tarefas -> 1 requisição).
+     */
+    public List<TarefasDTOResponse> alteraStatusDasTarefasEmLote(StatusNotificacaoEnum statusNotificacaoEnum, List<String> ids, String token) {
+        ResultadoDoLote resultado = alteraStatusDasTarefasEmLoteDetalhado(statusNotificacaoEnum, ids, token);
+        int falhas = resultado.recusados().size() + resultado.comFalha().size();
+        if (falhas > 0) {
+            throw new BusinessException("Erro: Falha ao alterar o status de " + falhas + " de " + ids.size() + " tarefas.");
+        }
+        return resultado.atualizadas();
+    }
+
+    /**
+     * MÉTODO: alteraStatusDasTarefasEmLoteDetalhado(StatusNotificacaoEnum, List, String)
+     * FUNÇÃO: Mesma alteração em lote, sem lançar exceção por falhas parciais: devolve o resultado de cada ID
+     * (o CronService confirma no journal exatamente os IDs resolvidos). Só o 401 é relançado.
+     */
+    public ResultadoDoLote alteraStatusDasTarefasEmLoteDetalhado(StatusNotificacaoEnum statusNotificacaoEnum, List<String> ids, String token) {
+        if (ids.isEmpty()) {
+            return new ResultadoDoLote(List.of(), List.of(), List.of(), List.of());
+        }
+        ResultadoDoLote resultado = null;
+        if (statusEmLoteHabilitado) {
+            try {
+                List<TarefasDTOResponse> resposta = tarefasClient.alteraStatusDeNotificacaoEmLote(statusNotificacaoEnum, ids, token);
+                resultado = new ResultadoDoLote(resposta != null ? resposta : List.of(), List.copyOf(ids), List.of(), List.of());
+            } catch (UnauthorizedException e) {
+                throw e; // Token expirado: quem chama renova o Token e repete (o PATCH individual falharia igual).
+            } catch (RuntimeException e) {
+                // O lote falhou (ex: downstream sem PATCH /lote): as tarefas precisam sair de PENDENTE ainda neste
+                // ciclo, senão o próximo ciclo as encontra de novo e reenvia o e-mail.
+                log.warn("PATCH em lote de {} tarefas falhou ({}). Refazendo com um PATCH por tarefa.", ids.size(), e.getMessage());
+            }
+        }
+        if (resultado == null) {
+            resultado = alteraStatusUmaAUma(statusNotificacaoEnum, ids, token);
+        }
+        if (statusNotificacaoEnum != StatusNotificacaoEnum.PENDENTE) {
+            resultado.confirmados().forEach(agendadorDeNotificacoes::cancela);
+        } else {
+            resultado.atualizadas().forEach(this::registraAlteracaoPendente);
+        }
+        // Também chamado pelo CronService (Token de serviço): corrige as listas em cache de cada dono.
+        cacheDeTarefas.registraGravacoes(ids, resultado.atualizadas());
+        return resultado;
+    }
+
+    // FALLBACK do lote: um PATCH por ID. A falha de um ID não impede os demais; cada ID sai classificado.
+    private ResultadoDoLote alteraStatusUmaAUma(StatusNotificacaoEnum statusNotificacaoEnum, List<String> ids, String token) {
+        List<TarefasDTOResponse> atualizadas = new ArrayList<>(ids.size());
+        List<String> confirmados = new ArrayList<>(ids.size());
+        List<String> recusados = new ArrayList<>();
+        List<String> comFalha = new ArrayList<>();
+        for (String id : ids) {
+            try {
+                atualizadas.add(tarefasClient.alteraStatusDeNotificacao(statusNotificacaoEnum, id, token));
+                confirmados.add(id);
+            } catch (UnauthorizedException e) {
+                throw e;
+            } catch (ResourceNotFoundException | ConflictException e) {
+                log.warn("Status da tarefa {} recusado de forma definitiva: {}", id, e.getMessage());
+                recusados.add(id);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao alterar o status da tarefa {}: {}", id, e.getMessage());
+                comFalha.add(id);
+            }
+        }
+        return new ResultadoDoLote(atualizadas, confirmados, recusados, comFalha);
     }
 
     /**
@@ -79,6 +246,120 @@ public class TarefasService {
 
         // FUNÇÃO: O BFF repassa o DTO completo, o ID da tarefa e o Token de autorização.
         // Toda a lógica de merge/atualização é feita no Microsserviço de Agendamento.
-        return tarefasClient.updateDeTarefas(tarefasDTO, id, token);
+        return registraGravacao(tarefasClient.updateDeTarefas(tarefasDTO, id, token));
     }
-}
\ No newline at end of file
+
+    // Tarefa criada (POST) ou alterada (PUT): entra/é corrigida na lista em cache do dono e na roda de tempo
+    // (dentro do horizonte já pré-carregado; nova 'dataEvento' reagenda o disparo).
+    private TarefasDTOResponse registraGravacao(TarefasDTOResponse tarefa) {
+        cacheDeTarefas.registraGravacao(tarefa);
+        agendadorDeNotificacoes.atualiza(tarefa);
+        registraAlteracaoPendente(tarefa);
+        return tarefa;
+    }
+
+    private void registraExclusao(String id, String token) {
+        agendadorDeNotificacoes.cancela(id); // Tarefa removida não deve mais ser notificada.
+        cacheDeTarefas.registraExclusao(id, token);
+    }
+
+    private static void validaTamanho(int tamanho) {
+        if (tamanho <= 0) {
+            throw new IllegalArgumentException("Erro: O tamanho da página deve ser maior que zero.");
+        }
+    }
+
+    // Tarefa PENDENTE criada ou alterada: a fatia do 'dataEvento' dela volta a ser consultada pelo CronService.
+    private void registraAlteracaoPendente(TarefasDTOResponse tarefa) {
+        if (tarefa != null && (tarefa.getStatusNotificacaoEnum() == null || tarefa.getStatusNotificacaoEnum() == StatusNotificacaoEnum.PENDENTE)) {
+            alteracoesNaJanela.registra(tarefa.getDataEvento());
+        }
+    }
+
+    // BLOCÃO 3: VARIANTES ASSÍNCRONAS (CompletableFuture)
+    // -------------------------------------------------------------------------
+    // Mesma lógica dos métodos acima: quem chama (ex: o controller) não bloqueia a própria thread enquanto o
+    // Microsserviço de Agendamento responde.
+    // PILHA JDK ('http-cliente.implementacao=jdk'): o TarefasClient injetado é o TarefasClientJdk; as variantes
+    // compõem o futuro '...Async' dele (chamado aqui, na thread da requisição, onde está o prazo), sem ocupar
+    // thread nenhuma durante a espera. Com o Feign (bloqueante), a chamada síncrona roda no executor assíncrono.
+    // LIMITAÇÃO: buscaTarefasPorEmailAsync (cache + coalescência com carregamento síncrono) e
+    // alteraStatusDasTarefasEmLoteAsync (fallback um a um) usam o executor assíncrono nas duas pilhas.
+
+    public CompletableFuture<TarefasDTOResponse> gravarTarefaAsync(String token, TarefasDTORequest tarefasDTO) {
+        if (tarefasClient instanceof TarefasClientJdk jdk) {
+            return jdk.gravarTarefasAsync(tarefasDTO, token).thenApply(this::registraGravacao);
+        }
+        return execucaoAssincrona.executa(() -> gravarTarefa(token, tarefasDTO));
+    }
+
+    public CompletableFuture<List<TarefasDTOResponse>> buscaTarefasAgendadasPorPeriodoAsync(LocalDateTime dataInicial, LocalDateTime dataFinal, String token) {
+        if (tarefasClient instanceof TarefasClientJdk jdk) {
+            return jdk.buscarListaTarefasPorPeriodoAsync(dataInicial, dataFinal, token);
+        }
+        return execucaoAssincrona.executa(() -> buscaTarefasAgendadasPorPeriodo(dataInicial, dataFinal, token));
+    }
+
+    public CompletableFuture<PaginaTarefasDTOResponse> buscaPaginaDeTarefasPorPeriodoAsync(LocalDateTime dataInicial, LocalDateTime dataFinal,
+                                                                                        String cursor, int tamanho, String token) {
+        if (tarefasClient instanceof TarefasClientJdk jdk) {
+            validaTamanho(tamanho);
+            return jdk.buscarPaginaTarefasPorPeriodoAsync(dataInicial, dataFinal, cursor, tamanho, token)
+                    .thenApply(TarefasService::paraPagina);
+        }
+        return execucaoAssincrona.executa(() -> buscaPaginaDeTarefasPorPeriodo(dataInicial, dataFinal, cursor, tamanho, token));
+    }
+
+    public CompletableFuture<List<TarefasDTOResponse>> buscaTarefasPorEmailAsync(String token) {
+        return execucaoAssincrona.executa(() -> buscaTarefasPorEmail(token));
+    }
+
+    public CompletableFuture<ResponseEntity<Resource>> repassaTarefasPorEmailAsync(String token) {
+        if (tarefasClient instanceof TarefasClientJdk jdk) {
+            return jdk.repassarListaTarefasPorEmailAsync(token)
+                    .thenApply(resposta -> RepasseDeResposta.paraEntidade(TarefasClientJdk.paraRespostaFeign(resposta)));
+        }
+        return execucaoAssincrona.executa(() -> repassaTarefasPorEmail(token));
+    }
+
+    public CompletableFuture<ResponseEntity<Resource>> repassaTarefasPorPeriodoAsync(LocalDateTime dataInicial, LocalDateTime dataFinal,
+                                                                                     String cursor, Integer tamanho, String token) {
+        if (tarefasClient instanceof TarefasClientJdk jdk) {
+            if (tamanho != null) {
+                validaTamanho(tamanho);
+            }
+            return jdk.repassarTarefasPorPeriodoAsync(dataInicial, dataFinal, tamanho != null ? cursor : null, tamanho, token)
+                    .thenApply(resposta -> RepasseDeResposta.paraEntidade(TarefasClientJdk.paraRespostaFeign(resposta),
+                            TarefasClient.CABECALHO_PROXIMO_CURSOR));
+        }
+        return execucaoAssincrona.executa(() -> repassaTarefasPorPeriodo(dataInicial, dataFinal, cursor, tamanho, token));
+    }
+
+    public CompletableFuture<Void> deletaTarefaPorIdAsync(String id, String token) {
+        if (tarefasClient instanceof TarefasClientJdk jdk) {
+            return jdk.deletaTarefaPorIdAsync(id, token).thenRun(() -> registraExclusao(id, token));
+        }
+        return execucaoAssincrona.executa(() -> deletaTarefaPorId(id, token));
+    }
+
+    public CompletableFuture<TarefasDTOResponse> alteraStatusDaTarefaAsync(StatusNotificacaoEnum statusNotificacaoEnum, String id, String token) {
+        if (tarefasClient instanceof TarefasClientJdk jdk) {
+            return jdk.alteraStatusDeNotificacaoAsync(statusNotificacaoEnum, id, token)
+                    .thenApply(tarefa -> registraStatus(statusNotificacaoEnum, id, tarefa));
+        }
+        return execucaoAssincrona.executa(() -> alteraStatusDaTarefa(statusNotificacaoEnum, id, token));
+    }
+
+    public CompletableFuture<List<TarefasDTOResponse>> alteraStatusDasTarefasEmLoteAsync(StatusNotificacaoEnum statusNotificacaoEnum,
+                                                                                       List<String> ids, String token) {
+        return execucaoAssincrona.executa(() -> alteraStatusDasTarefasEmLote(statusNotificacaoEnum, ids, token));
+    }
+
+    public CompletableFuture<TarefasDTOResponse> updateDeTarefasAsync(TarefasDTORequest tarefasDTO, String id, String token) {
+        if (tarefasClient instanceof TarefasClientJdk jdk) {
+            return jdk.updateDeTarefasAsync(tarefasDTO, id, token).thenApply(this::registraGravacao);
+        }
+        return execucaoAssincrona.executa(() -> updateDeTarefas(tarefasDTO, id, token));
+    }
+
+}
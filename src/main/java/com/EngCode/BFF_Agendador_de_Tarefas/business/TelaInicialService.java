@@ -0,0 +1,142 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.FalhaDeRamoDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TelaInicialDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.UsuarioDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ConflictException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.GatewayTimeoutException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.IllegalArgumentException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ResourceNotFoundException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ServiceUnavailableException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.UnauthorizedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Agregação da tela inicial do app (GET /inicio): dados do usuário + lista de tarefas em UMA ida ao BFF.
+ * FUNÇÃO: Os dois lados (ramos) rodam em PARALELO, com o mesmo Token, pelas variantes assíncronas de
+ * UsuarioService e TarefasService (cache e coalescência inclusos). A tela custa o ramo mais lento, não a soma.
+ * TIMEOUT POR RAMO: Cada ramo tem até 'tela-inicial.timeout-por-ramo' (limitado pelo prazo da requisição).
+ * PARCIAL: Se só um ramo falhar, a resposta sai com o outro preenchido e o motivo em 'falhas'.
+ * Token inválido (401) ou os dois ramos falhando devolvem o erro, como as chamadas isoladas.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TelaInicialService {
+
+    private static final String RAMO_USUARIO = "usuario";
+    private static final String RAMO_TAREFAS = "tarefas";
+
+    private final UsuarioService usuarioService;
+    private final TarefasService tarefasService;
+
+    @Value("${tela-inicial.timeout-por-ramo:PT3S}")
+    private Duration timeoutPorRamo;
+
+    // Resultado de um ramo: o valor ou a falha (nunca os dois).
+    private record Ramo<T>(T valor, Throwable falha) {
+    }
+
+    // BLOCÃO 1: AGREGAÇÃO EM PARALELO
+    // -------------------------------------------------------------------------
+
+    /**
+     * MÉTODO: buscaTelaInicialAsync(String email, String token)
+     * FUNÇÃO: Dispara os dois ramos ao mesmo tempo e junta os resultados quando ambos terminam (ou estouram o tempo).
+     */
+    public CompletableFuture<TelaInicialDTOResponse> buscaTelaInicialAsync(String email, String token) {
+        CompletableFuture<Ramo<UsuarioDTOResponse>> usuario = ramo(usuarioService.buscarUsuarioPorEmailAsync(email, token));
+        CompletableFuture<Ramo<List<TarefasDTOResponse>>> tarefas = ramo(tarefasService.buscaTarefasPorEmailAsync(token));
+
+        return usuario.thenCombine(tarefas, this::junta);
+    }
+
+    private <T> CompletableFuture<Ramo<T>> ramo(CompletableFuture<T> chamada) {
+        // O ramo que estoura o tempo é abandonado; a chamada em andamento ainda pode aquecer o cache.
+        return chamada.orTimeout(timeoutPorRamo.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((valor, erro) -> erro == null ? new Ramo<>(valor, null) : new Ramo<>(null, causa(erro)));
+    }
+
+    private TelaInicialDTOResponse junta(Ramo<UsuarioDTOResponse> usuario, Ramo<List<TarefasDTOResponse>> tarefas) {
+        // Token inválido não é falha parcial: o app precisa refazer o login.
+        for (Ramo<?> ramo : List.of(usuario, tarefas)) {
+            if (ramo.falha() instanceof UnauthorizedException naoAutorizado) {
+                throw naoAutorizado;
+            }
+        }
+        if (usuario.falha() != null && tarefas.falha() != null) {
+            throw paraExcecao(RAMO_USUARIO, usuario.falha());
+        }
+
+        List<FalhaDeRamoDTOResponse> falhas = new ArrayList<>(1);
+        if (usuario.falha() != null) {
+            falhas.add(falhaDoRamo(RAMO_USUARIO, usuario.falha()));
+        }
+        if (tarefas.falha() != null) {
+            falhas.add(falhaDoRamo(RAMO_TAREFAS, tarefas.falha()));
+        }
+        return TelaInicialDTOResponse.builder()
+                .usuario(usuario.valor())
+                .tarefas(tarefas.valor())
+                .parcial(!falhas.isEmpty())
+                .falhas(falhas)
+                .build();
+    }
+
+    // BLOCÃO 2: TRADUÇÃO DAS FALHAS
+    // -------------------------------------------------------------------------
+
+    private FalhaDeRamoDTOResponse falhaDoRamo(String ramo, Throwable falha) {
+        RuntimeException excecao = paraExcecao(ramo, falha);
+        log.warn("Tela inicial parcial: ramo '{}' falhou ({}).", ramo, excecao.getMessage());
+        return FalhaDeRamoDTOResponse.builder()
+                .ramo(ramo)
+                .status(statusDe(excecao))
+                .mensagem(excecao.getMessage())
+                .build();
+    }
+
+    private RuntimeException paraExcecao(String ramo, Throwable falha) {
+        if (falha instanceof TimeoutException) {
+            return new GatewayTimeoutException("Erro: O ramo '" + ramo + "' não respondeu em " + timeoutPorRamo + ".", falha);
+        }
+        return falha instanceof RuntimeException runtime ? runtime
+                : new ServiceUnavailableException("Erro: Falha no ramo '" + ramo + "': " + falha.getMessage(), falha);
+    }
+
+    // Mesmo status que o GlobalExceptionHandler daria à chamada isolada.
+    private static int statusDe(RuntimeException excecao) {
+        if (excecao instanceof IllegalArgumentException) {
+            return 400;
+        }
+        if (excecao instanceof ResourceNotFoundException) {
+            return 404;
+        }
+        if (excecao instanceof ConflictException) {
+            return 409;
+        }
+        if (excecao instanceof ServiceUnavailableException) {
+            return 503;
+        }
+        if (excecao instanceof GatewayTimeoutException) {
+            return 504;
+        }
+        return 500;
+    }
+
+    private static Throwable causa(Throwable erro) {
+        return erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
+    }
+}
@@ -0,0 +1,153 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.in.LoginDTORequest;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.UnauthorizedException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security.LeitorDeJwt;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Gerencia o Token JWT do 'usuário de serviço' usado pelo CronService.
+ * FUNÇÃO: Faz o login uma única vez, guarda o Token em memória, lê a claim 'exp' e
+ * renova o Token em segundo plano ANTES de expirar. Assim o ciclo agendado não paga
+ * o round-trip de autenticação a cada execução.
+ */
+
+// BLOCÃO 2: ESTRUTURA E INJEÇÃO DE DEPENDÊNCIA
+// -------------------------------------------------------------------------
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenServicoManager {
+
+    private final UsuarioService usuarioService; // Realiza o login no Microsserviço de Usuário.
+    private final LeitorDeJwt leitorDeJwt; // Lê a claim 'exp' do payload do JWT.
+
+    // INJEÇÃO DE VALORES: Credenciais do 'usuário de serviço'.
+    @Value("${usuario.email}")
+    private String email;
+    @Value("${usuario.senha}")
+    private String senha;
+
+    // Antecedência com que o Token é renovado antes do 'exp' (ex: PT2M = 2 minutos antes).
+    @Value("${cron.token.renovacao-antecipada:PT2M}")
+    private Duration renovacaoAntecipada;
+    // Validade assumida quando o Token não traz uma claim 'exp' legível.
+    @Value("${cron.token.validade-padrao:PT10M}")
+    private Duration validadePadrao;
+
+    // BLOCÃO 3: ESTADO EM CACHE
+    // -------------------------------------------------------------------------
+    // 'volatile': leituras sem lock no caminho rápido de getToken().
+    private volatile String token;
+    private volatile Instant expiraEm = Instant.EPOCH;
+
+    // Garante um único login por vez (evita vários logins simultâneos numa onda de 401).
+    private final ReentrantLock lockDeLogin = new ReentrantLock();
+
+    /**
+     * MÉTODO: getToken()
+     * FUNÇÃO: Retorna o Token em cache; só faz login se ele não existir ou já tiver expirado.
+     */
+    public String getToken() {
+        String atual = token;
+        if (atual != null && Instant.now().isBefore(expiraEm)) {
+            return atual;
+        }
+        return renova(atual);
+    }
+
+    /**
+     * MÉTODO: executaComToken(Function)
+     * FUNÇÃO: Executa uma chamada autenticada. Se o downstream responder 401 (UnauthorizedException
+     * gerada pelo FeingError), o Token é renovado e a chamada é repetida UMA única vez.
+     */
+    public <T> T executaComToken(Function<String, T> chamada) {
+        String tokenUsado = getToken();
+        try {
+            return chamada.apply(tokenUsado);
+        } catch (UnauthorizedException e) {
+            log.warn("Token de serviço recusado (401). Renovando o Token e repetindo a chamada uma vez.");
+            return chamada.apply(renova(tokenUsado));
+        }
+    }
+
+    // BLOCÃO 4: RENOVAÇÃO EM SEGUNDO PLANO
+    // -------------------------------------------------------------------------
+
+    @Scheduled(fixedDelayString = "${cron.token.verificacao:PT30S}")
+    // Verifica periodicamente se o Token está perto de expirar e o renova fora do caminho crítico do ciclo.
+    public void renovaSeProximoDaExpiracao() {
+        String atual = token;
+        if (atual == null || Instant.now().plus(renovacaoAntecipada).isBefore(expiraEm)) {
+            // Sem Token ainda (o primeiro login acontece sob demanda) ou ainda longe do 'exp'.
+            return;
+        }
+        try {
+            renova(atual);
+        } catch (RuntimeException e) {
+            // Falha na renovação antecipada não é fatal: o Token atual ainda é válido até o 'exp'.
+            log.warn("Falha ao renovar antecipadamente o Token de serviço: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * MÉTODO: renova(String)
+     * FUNÇÃO: Faz o login e atualiza o cache. Se outra thread já renovou o Token
+     * (o Token em cache é diferente do 'tokenObsoleto'), reaproveita o novo sem novo login.
+     */
+    private String renova(String tokenObsoleto) {
+        lockDeLogin.lock();
+        try {
+            String atual = token;
+            if (atual != null && !Objects.equals(atual, tokenObsoleto) && Instant.now().isBefore(expiraEm)) {
+                return atual;
+            }
+            String novoToken = usuarioService.loginUsuario(converterParaDTORequest());
+            expiraEm = leExpiracao(novoToken);
+            token = novoToken;
+            log.info("Token de serviço renovado. Válido até {}.", expiraEm);
+            return novoToken;
+        } finally {
+            lockDeLogin.unlock();
+        }
+    }
+
+    // BLOCÃO 5: MÉTODOS AUXILIARES
+    // -------------------------------------------------------------------------
+
+    /**
+     * MÉTODO: leExpiracao(String)
+     * FUNÇÃO: Decodifica o payload do JWT (Base64URL) e lê a claim 'exp' (segundos desde a época).
+     * NOTA: Não valida a assinatura — quem valida é o Microsserviço de Usuário; aqui só precisamos do prazo.
+     */
+    private Instant leExpiracao(String jwt) {
+        return leitorDeJwt.expiracao(jwt).orElseGet(() -> {
+            log.warn("Não foi possível ler a claim 'exp' do Token de serviço. Assumindo validade de {}.", validadePadrao);
+            return Instant.now().plus(validadePadrao);
+        });
+    }
+
+    /**
+     * MÉTODO: converterParaDTORequest()
+     * FUNÇÃO: Converte as variáveis @Value (e-mail e senha) em um DTO de Requisição.
+     */
+    private LoginDTORequest converterParaDTORequest() {
+        return LoginDTORequest.builder()
+                .email(email)
+                .senha(senha)
+                .build();
+    }
+}
@@ -14,9 +14,12 @@ import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TelefoneDTOResponse
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.UsuarioDTOResponse;
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.ViaCepDTORespose;
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.UsuarioClient;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk.UsuarioClientJdk;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 // ANOTAÇÃO SPRING: Marca a classe como um Componente de Serviço, contendo a lógica de orquestração.
 @RequiredArgsConstructor
@@ -27,6 +30,10 @@ public class UsuarioService {
     // -------------------------------------------------------------------------
     private final UsuarioClient usuarioClient;
     // VARIÁVEL CRÍTICA: O Feign Client. O Service delega TODAS as responsabilidades a esta interface.
+    private final CacheDeCep cacheDeCep; // Cache (com TTL) das consultas de CEP.
+    private final CacheDePerfilDeUsuario cacheDePerfil; // Cache do perfil por (e-mail, Token), invalidado nas escritas.
+    private final CoalescedorDeChamadas coalescedor; // Compartilha GETs idênticos e simultâneos ao microsserviço.
+    private final ExecucaoAssincrona execucaoAssincrona; // Executor das variantes '...Async'.
 
     /**
      * MÉTODO: salvaUsuario(UsuarioDTO)
@@ -54,7 +61,10 @@ public class UsuarioService {
      */
     public UsuarioDTOResponse buscarUsuarioPorEmail (String email, String token) {
         // FUNÇÃO: Chama o Feign, repassando os parâmetros de busca (email) e o cabeçalho de segurança (token).
-        return usuarioClient.buscaUsuarioPorEmail(email, token);
+        // CACHE: O frontend relê o perfil a cada troca de tela; só a primeira leitura (por Token) vai ao microsserviço.
+        // COALESCÊNCIA: Com o cache desligado (ou expirado), leituras idênticas simultâneas fazem uma única chamada.
+        return cacheDePerfil.busca(email, token, () -> coalescedor.executa("UsuarioClient.buscaUsuarioPorEmail", token,
+                () -> usuarioClient.buscaUsuarioPorEmail(email, token), email));
     }
 
     /**
@@ -63,7 +73,13 @@ public class UsuarioService {
      */
     public void deletaUsuarioPorEmail (String email, String token) {
         // FUNÇÃO: Delega a requisição DELETE para o Feign.
-        usuarioClient.deletaUsuarioPorEmail(email, token);
+        try {
+            usuarioClient.deletaUsuarioPorEmail(email, token);
+        } finally {
+            // CACHE: Mesmo numa falha (ex: timeout após o DELETE), o perfil guardado deixa de ser confiável.
+            cacheDePerfil.invalidaEmail(email);
+            cacheDePerfil.invalidaUsuarioDoToken(token);
+        }
     }
 
     /**
@@ -73,7 +89,11 @@ public class UsuarioService {
     public UsuarioDTOResponse atualizaDaddosUsuario (String token, UsuarioDTORequest usuarioDTO) {
         // FUNÇÃO: O BFF chama o método PUT correspondente no Feign. Note que a ordem dos argumentos
         // no Service do BFF deve corresponder à ordem esperada no Cliente Feign.
-        return usuarioClient.atualizaDadosUsuario(usuarioDTO, token);
+        try {
+            return usuarioClient.atualizaDadosUsuario(usuarioDTO, token);
+        } finally {
+            cacheDePerfil.invalidaUsuarioDoToken(token); // CACHE: O perfil do usuário do Token mudou.
+        }
     }
 
     /**
@@ -82,7 +102,11 @@ public class UsuarioService {
      */
     public EnderecoDTOResponse atualizaEndereco(Long idEndereco, EnderecoDTORequest enderecoDTO, String token) {
         // FUNÇÃO: Delega a requisição PUT, repassando DTO, ID do endereço e Token.
-        return usuarioClient.atualizaEndereco(enderecoDTO, idEndereco, token);
+        try {
+            return usuarioClient.atualizaEndereco(enderecoDTO, idEndereco, token);
+        } finally {
+            cacheDePerfil.invalidaUsuarioDoToken(token); // CACHE: O perfil do usuário do Token mudou.
+        }
     }
 
     /**
@@ -91,7 +115,11 @@ public class UsuarioService {
      */
     public TelefoneDTOResponse atualizaTelefones(Long idTelefone, TelefoneDTORequest telefoneDTO, String token) {
         // FUNÇÃO: Delega a requisição PUT, repassando DTO, ID do telefone e Token.
-        return usuarioClient.atualizaTelefone(telefoneDTO, idTelefone, token);
+        try {
+            return usuarioClient.atualizaTelefone(telefoneDTO, idTelefone, token);
+        } finally {
+            cacheDePerfil.invalidaUsuarioDoToken(token); // CACHE: O perfil do usuário do Token mudou.
+        }
     }
 
     /**
@@ -100,7 +128,11 @@ public class UsuarioService {
      */
     public EnderecoDTOResponse cadastraEndereco (String token, EnderecoDTORequest enderecoDTO) {
         // FUNÇÃO: Delega a requisição POST para o Feign, enviando os dados e o Token.
-        return usuarioClient.cadastraEndereco(enderecoDTO, token);
+        try {
+            return usuarioClient.cadastraEndereco(enderecoDTO, token);
+        } finally {
+            cacheDePerfil.invalidaUsuarioDoToken(token); // CACHE: O perfil do usuário do Token mudou.
+        }
     }
 
     /**
@@ -109,11 +141,101 @@ public class UsuarioService {
      */
     public TelefoneDTOResponse cadastraTelefone (String token, TelefoneDTORequest telefoneDTO) {
         // FUNÇÃO: Delega a requisição POST para o Feign, enviando os dados e o Token.
-        return usuarioClient.cadastraTelefone(telefoneDTO, token);
+        try {
+            return usuarioClient.cadastraTelefone(telefoneDTO, token);
+        } finally {
+            cacheDePerfil.invalidaUsuarioDoToken(token); // CACHE: O perfil do usuário do Token mudou.
+        }
     }
 
+    /**
+     * MÉTODO: buscarEnderecoViaCep(String)
+     * FUNÇÃO: Consulta o endereço do CEP, passando antes pelo cache em memória (ver CacheDeCep).
+     */
     public ViaCepDTORespose buscarEnderecoViaCep (String cep) {
-        return usuarioClient.buscarDadosDeCep(cep);
+        return cacheDeCep.busca(cep, usuarioClient::buscarDadosDeCep);
+    }
+
+    // BLOCÃO 3: VARIANTES ASSÍNCRONAS (CompletableFuture)
+    // -------------------------------------------------------------------------
+    // Mesma lógica dos métodos acima: quem chama (ex: o controller) não bloqueia a própria thread enquanto o
+    // Microsserviço de Usuários responde.
+    // PILHA JDK ('http-cliente.implementacao=jdk'): o UsuarioClient injetado é o UsuarioClientJdk; as variantes
+    // compõem o futuro '...Async' dele (a invalidação do cache roda quando ele completa, com sucesso ou não).
+    // Com o Feign (bloqueante), a chamada síncrona roda no executor assíncrono.
+    // LIMITAÇÃO: buscarUsuarioPorEmailAsync e buscarEnderecoViaCepAsync (caches com carregamento síncrono)
+    // usam o executor assíncrono nas duas pilhas.
+
+    public CompletableFuture<UsuarioDTOResponse> salvaUsuarioAsync(UsuarioDTORequest usuarioDTO) {
+        if (usuarioClient instanceof UsuarioClientJdk jdk) {
+            return jdk.salvaUsuarioAsync(usuarioDTO);
+        }
+        return execucaoAssincrona.executa(() -> salvaUsuario(usuarioDTO));
+    }
+
+    public CompletableFuture<String> loginUsuarioAsync(LoginDTORequest loginDTORequest) {
+        if (usuarioClient instanceof UsuarioClientJdk jdk) {
+            return jdk.loginAsync(loginDTORequest);
+        }
+        return execucaoAssincrona.executa(() -> loginUsuario(loginDTORequest));
+    }
+
+    public CompletableFuture<UsuarioDTOResponse> buscarUsuarioPorEmailAsync(String email, String token) {
+        return execucaoAssincrona.executa(() -> buscarUsuarioPorEmail(email, token));
+    }
+
+    public CompletableFuture<Void> deletaUsuarioPorEmailAsync(String email, String token) {
+        if (usuarioClient instanceof UsuarioClientJdk jdk) {
+            return jdk.deletaUsuarioPorEmailAsync(email, token).whenComplete((nada, erro) -> {
+                cacheDePerfil.invalidaEmail(email);
+                cacheDePerfil.invalidaUsuarioDoToken(token);
+            });
+        }
+        return execucaoAssincrona.executa(() -> deletaUsuarioPorEmail(email, token));
+    }
+
+    public CompletableFuture<UsuarioDTOResponse> atualizaDadosUsuarioAsync(String token, UsuarioDTORequest usuarioDTO) {
+        if (usuarioClient instanceof UsuarioClientJdk jdk) {
+            return invalidaAoCompletar(jdk.atualizaDadosUsuarioAsync(usuarioDTO, token), token);
+        }
+        return execucaoAssincrona.executa(() -> atualizaDaddosUsuario(token, usuarioDTO));
+    }
+
+    public CompletableFuture<EnderecoDTOResponse> atualizaEnderecoAsync(Long idEndereco, EnderecoDTORequest enderecoDTO, String token) {
+        if (usuarioClient instanceof UsuarioClientJdk jdk) {
+            return invalidaAoCompletar(jdk.atualizaEnderecoAsync(enderecoDTO, idEndereco, token), token);
+        }
+        return execucaoAssincrona.executa(() -> atualizaEndereco(idEndereco, enderecoDTO, token));
+    }
+
+    public CompletableFuture<TelefoneDTOResponse> atualizaTelefonesAsync(Long idTelefone, TelefoneDTORequest telefoneDTO, String token) {
+        if (usuarioClient instanceof UsuarioClientJdk jdk) {
+            return invalidaAoCompletar(jdk.atualizaTelefoneAsync(telefoneDTO, idTelefone, token), token);
+        }
+        return execucaoAssincrona.executa(() -> atualizaTelefones(idTelefone, telefoneDTO, token));
+    }
+
+    public CompletableFuture<EnderecoDTOResponse> cadastraEnderecoAsync(String token, EnderecoDTORequest enderecoDTO) {
+        if (usuarioClient instanceof UsuarioClientJdk jdk) {
+            return invalidaAoCompletar(jdk.cadastraEnderecoAsync(enderecoDTO, token), token);
+        }
+        return execucaoAssincrona.executa(() -> cadastraEndereco(token, enderecoDTO));
+    }
+
+    public CompletableFuture<TelefoneDTOResponse> cadastraTelefoneAsync(String token, TelefoneDTORequest telefoneDTO) {
+        if (usuarioClient instanceof UsuarioClientJdk jdk) {
+            return invalidaAoCompletar(jdk.cadastraTelefoneAsync(telefoneDTO, token), token);
+        }
+        return execucaoAssincrona.executa(() -> cadastraTelefone(token, telefoneDTO));
+    }
+
+    public CompletableFuture<ViaCepDTORespose> buscarEnderecoViaCepAsync(String cep) {
+        return execucaoAssincrona.executa(() -> buscarEnderecoViaCep(cep));
+    }
+
+    // Equivalente assíncrono do 'finally' das escritas: o perfil do usuário do Token mudou (ou pode ter mudado).
+    private <T> CompletableFuture<T> invalidaAoCompletar(CompletableFuture<T> escrita, String token) {
+        return escrita.whenComplete((resposta, erro) -> cacheDePerfil.invalidaUsuarioDoToken(token));
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out;
+
+import lombok.*;
+
+import java.time.Instant;
+
+// BLOCÃO 1: ANOTAÇÕES LOMBOK (Criação e Acesso à Classe)
+// -------------------------------------------------------------------------
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+
+public class EstadoDisjuntorDTOResponse {
+// Foto do disjuntor (circuit breaker) e do bulkhead de um Feign Client.
+
+// BLOCÃO 2: ATRIBUTOS
+// -------------------------------------------------------------------------
+
+    private String cliente; // Nome do Feign Client (ex: usuario, agendador-tarefas, notificacao).
+    private String estado; // FECHADO (normal), ABERTO (falha na hora) ou MEIO_ABERTO (testando o destino).
+    private int chamadasNaJanela; // Chamadas consideradas no cálculo da taxa de falhas.
+    private int falhasNaJanela; // Falhas (I/O ou 5xx) entre essas chamadas.
+    private Instant abertoAte; // Fim da abertura atual (só no estado ABERTO).
+
+    private int chamadasEmAndamento; // Chamadas simultâneas ao destino neste momento.
+    private int maximoConcorrente; // Limite do bulkhead.
+
+    private long rejeitadasPorCircuito; // Chamadas recusadas com o circuito aberto (desde a subida do BFF).
+    private long rejeitadasPorBulkhead; // Chamadas recusadas por falta de vaga no bulkhead.
+}
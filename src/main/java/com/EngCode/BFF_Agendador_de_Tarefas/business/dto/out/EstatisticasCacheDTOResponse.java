@@ -0,0 +1,27 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out;
+
+import lombok.*;
+
+// BLOCÃO 1: ANOTAÇÕES LOMBOK (Criação e Acesso à Classe)
+// -------------------------------------------------------------------------
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+
+public class EstatisticasCacheDTOResponse {
+// Foto de um cache em memória do BFF (acertos, falhas e ocupação), para acompanhar a eficácia do cache.
+
+// BLOCÃO 2: ATRIBUTOS
+// -------------------------------------------------------------------------
+
+    private String nome; // Nome do cache (ex: cep).
+    private long tamanho; // Entradas atualmente guardadas (aproximado).
+    private long tamanhoMaximo; // Limite de entradas configurado.
+
+    private long acertos; // Consultas atendidas pelo cache (hits).
+    private long falhas; // Consultas que precisaram ir ao microsserviço (misses).
+    private double taxaDeAcerto; // acertos / (acertos + falhas), entre 0 e 1.
+    private long remocoes; // Entradas removidas por tamanho ou expiração (evictions).
+}
@@ -0,0 +1,28 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out;
+
+import lombok.*;
+
+import java.util.Map;
+
+// BLOCÃO 1: ANOTAÇÕES LOMBOK (Criação e Acesso à Classe)
+// -------------------------------------------------------------------------
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+
+public class EstatisticasCoalescenciaDTOResponse {
+// Foto da coalescência de chamadas idênticas: quantas chamadas ao microsserviço foram evitadas.
+
+// BLOCÃO 2: ATRIBUTOS
+// -------------------------------------------------------------------------
+
+    private long chamadas; // Chamadas recebidas pelo coalescedor (desde a subida do BFF).
+    private long colapsadas; // Chamadas atendidas pela chamada idêntica já em andamento (sem ir ao microsserviço).
+    private double taxaDeColapso; // colapsadas / chamadas, entre 0 e 1.
+    private int emAndamento; // Chamadas líderes em andamento neste momento.
+
+    private Map<String, Long> chamadasPorMetodo; // Chamadas por método do Feign Client.
+    private Map<String, Long> colapsadasPorMetodo; // Colapsadas por método do Feign Client.
+}
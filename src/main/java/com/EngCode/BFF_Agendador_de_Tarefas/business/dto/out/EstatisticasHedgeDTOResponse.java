@@ -0,0 +1,27 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out;
+
+import lombok.*;
+
+// BLOCÃO 1: ANOTAÇÕES LOMBOK (Criação e Acesso à Classe)
+// -------------------------------------------------------------------------
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+
+public class EstatisticasHedgeDTOResponse {
+// Foto dos "hedged requests" de um Feign Client: quantos GETs ganharam uma segunda requisição e quantas venceram.
+
+// BLOCÃO 2: ATRIBUTOS
+// -------------------------------------------------------------------------
+
+    private String cliente; // Nome do Feign Client (ex: usuario, agendador-tarefas).
+    private int percentil; // Percentil das latências recentes usado como atraso do hedge.
+    private long atrasoAtualMs; // Atraso atual antes da segunda requisição, em milissegundos.
+
+    private long requisicoesGet; // GETs feitos pelo cliente (desde a subida do BFF).
+    private long hedgesDisparados; // GETs que ganharam uma segunda requisição.
+    private long hedgesVencedores; // Vezes em que a resposta usada foi a da segunda requisição (respondeu antes ou a principal falhou).
+    private long hedgesNegadosPorTaxa; // GETs lentos que ficaram sem hedge pelo limite de taxa.
+}
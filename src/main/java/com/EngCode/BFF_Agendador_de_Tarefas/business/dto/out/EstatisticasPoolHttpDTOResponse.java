@@ -0,0 +1,29 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out;
+
+import lombok.*;
+
+// BLOCÃO 1: ANOTAÇÕES LOMBOK (Criação e Acesso à Classe)
+// -------------------------------------------------------------------------
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+
+public class EstatisticasPoolHttpDTOResponse {
+// Foto do pool de conexões HTTP de um Feign Client (um pool por microsserviço de destino).
+// Usada para dimensionar 'http-cliente.<nome>.*' sob carga.
+
+// BLOCÃO 2: ATRIBUTOS
+// -------------------------------------------------------------------------
+
+    private String cliente; // Nome do Feign Client (ex: usuario, agendador-tarefas, notificacao).
+    private String transporte; // HTTP/1.1 (Apache HttpClient 5, com pool) ou HTTP/2 (java.net.http, sem estatísticas de pool).
+
+    private int maximoConexoes; // Limite total de conexões do pool.
+    private int maximoPorRota; // Limite de conexões por host de destino.
+
+    private int alocadas; // Conexões em uso por requisições em andamento (leased).
+    private int pendentes; // Requisições aguardando uma conexão livre (pending).
+    private int disponiveis; // Conexões abertas e ociosas, prontas para reuso (available).
+}
@@ -0,0 +1,22 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out;
+
+import lombok.*;
+
+// BLOCÃO 1: ANOTAÇÕES LOMBOK (Criação e Acesso à Classe)
+// -------------------------------------------------------------------------
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+
+public class FalhaDeRamoDTOResponse {
+// Um lado (ramo) de uma resposta agregada que não pôde ser preenchido.
+
+// BLOCÃO 2: ATRIBUTOS
+// -------------------------------------------------------------------------
+
+    private String ramo; // Qual lado falhou (ex: usuario, tarefas).
+    private int status; // Status HTTP que a chamada isolada teria devolvido (ex: 404, 503, 504).
+    private String mensagem; // Mensagem do erro.
+}
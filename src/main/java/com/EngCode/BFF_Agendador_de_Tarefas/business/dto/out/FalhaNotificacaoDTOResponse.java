@@ -0,0 +1,35 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// BLOCÃO 1: ANOTAÇÕES LOMBOK (Criação e Acesso à Classe)
+// -------------------------------------------------------------------------
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+
+public class FalhaNotificacaoDTOResponse {
+// Entrada da fila de falhas definitivas (dead-letter) do envio de notificações.
+// Exposta para os administradores inspecionarem e reprocessarem tarefas que esgotaram as tentativas.
+
+// BLOCÃO 2: ATRIBUTOS
+// -------------------------------------------------------------------------
+
+    private String idTarefa; // ID da tarefa que não pôde ser notificada.
+    private String nomeTarefa; // Nome da tarefa (facilita a identificação pelo administrador).
+    private String emailUsuario; // Destinatário da notificação.
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
+    private LocalDateTime dataEvento; // Data e hora do evento da tarefa.
+
+    private int tentativas; // Quantas vezes o envio foi tentado.
+    private String ultimoErro; // Mensagem da última falha.
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
+    private LocalDateTime dataUltimaFalha; // Quando a última tentativa falhou.
+}
@@ -0,0 +1,27 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out;
+
+import lombok.*;
+
+import java.util.List;
+
+// BLOCÃO 1: ANOTAÇÕES LOMBOK (Criação e Acesso à Classe)
+// -------------------------------------------------------------------------
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+
+public class PaginaTarefasDTOResponse {
+// Uma página da busca de tarefas por período (paginação por cursor).
+// O corpo da resposta continua sendo a lista; o cursor da próxima página vem no cabeçalho 'X-Proximo-Cursor'.
+
+// BLOCÃO 2: ATRIBUTOS
+// -------------------------------------------------------------------------
+
+    private List<TarefasDTOResponse> tarefas;
+    // Tarefas desta página (no máximo 'tamanho').
+
+    private String proximoCursor;
+    // Cursor opaco para buscar a página seguinte ('null' quando esta é a última página).
+}
@@ -0,0 +1,30 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out;
+
+import lombok.*;
+
+// BLOCÃO 1: ANOTAÇÕES LOMBOK (Criação e Acesso à Classe)
+// -------------------------------------------------------------------------
+@Builder
+// Gera o Padrão Builder (ex: ResultadoEnvioEmailDTOResponse.builder().idTarefa("1").enviado(true).build()).
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+// Construtor vazio: necessário para o Feign/Jackson desserializar a resposta do envio em lote.
+
+public class ResultadoEnvioEmailDTOResponse {
+// Resultado individual de uma tarefa dentro de um envio de e-mails em lote.
+// Permite saber, tarefa a tarefa, quem foi entregue e quem falhou (falha parcial do lote).
+
+// BLOCÃO 2: ATRIBUTOS
+// -------------------------------------------------------------------------
+
+    private String idTarefa;
+    // ID da tarefa a que este resultado se refere.
+
+    private boolean enviado;
+    // 'true' se o Microsserviço de Notificação entregou o e-mail desta tarefa.
+
+    private String mensagemErro;
+    // Motivo da falha (preenchido apenas quando 'enviado' é 'false').
+}
@@ -0,0 +1,27 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out;
+
+import lombok.*;
+
+import java.util.List;
+
+// BLOCÃO 1: ANOTAÇÕES LOMBOK (Criação e Acesso à Classe)
+// -------------------------------------------------------------------------
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+
+public class TelaInicialDTOResponse {
+// Tudo o que a tela inicial do app precisa em UMA resposta: dados do usuário + lista de tarefas.
+// Resposta parcial: se um dos lados falhar, o campo dele vem 'null' e o motivo aparece em 'falhas'.
+
+// BLOCÃO 2: ATRIBUTOS
+// -------------------------------------------------------------------------
+
+    private UsuarioDTOResponse usuario; // Mesmo conteúdo de GET /usuario?email= ('null' se falhou).
+    private List<TarefasDTOResponse> tarefas; // Mesmo conteúdo de GET /tarefas ('null' se falhou).
+
+    private boolean parcial; // 'true' quando algum dos lados falhou.
+    private List<FalhaDeRamoDTOResponse> falhas; // Motivo de cada lado que falhou (vazia se completa).
+}
@@ -0,0 +1,71 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.controller;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.RetentativaDeNotificacoes;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.FalhaNotificacaoDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security.AcessoAdministrativo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// BLOCÃO 2: ESTRUTURA E INJEÇÃO DE DEPENDÊNCIA
+// -------------------------------------------------------------------------
+
+@RestController
+@RequestMapping("/admin/notificacoes")
+@RequiredArgsConstructor
+@Tag(name = "Administração de Notificações", description = "Inspeção e reprocessamento das notificações que esgotaram as tentativas.")
+public class AdminNotificacaoController {
+
+    private final RetentativaDeNotificacoes retentativaDeNotificacoes;
+    private final AcessoAdministrativo acessoAdministrativo; // Valida o cabeçalho X-Admin-Chave.
+
+    // BLOCÃO 3: ENDPOINTS DA FILA DE FALHAS (dead-letter)
+    // -------------------------------------------------------------------------
+
+    @GetMapping("/falhas")
+    @Operation(summary = "Listar Falhas de Notificação", description = "Lista as tarefas que esgotaram as tentativas de envio.")
+    @ApiResponse(responseCode = "200", description = "Lista Retornada Com Sucesso.")
+    @ApiResponse(responseCode = "401", description = "Chave Administrativa Inválida.")
+    public ResponseEntity<List<FalhaNotificacaoDTOResponse>> listaFalhas(
+            @RequestHeader(name = AcessoAdministrativo.CABECALHO, required = false) String chave) {
+
+        acessoAdministrativo.valida(chave);
+        return ResponseEntity.ok(retentativaDeNotificacoes.listaFalhas());
+    }
+
+    @PostMapping("/falhas/{id}/reprocessar")
+    @Operation(summary = "Reprocessar Falha", description = "Retira a tarefa da fila de falhas e reenvia a notificação.")
+    @ApiResponse(responseCode = "202", description = "Reenvio Agendado.")
+    @ApiResponse(responseCode = "401", description = "Chave Administrativa Inválida.")
+    @ApiResponse(responseCode = "404", description = "Tarefa não está na fila de falhas.")
+    public ResponseEntity<Void> reprocessaFalha(
+            @PathVariable("id") String id,
+            @RequestHeader(name = AcessoAdministrativo.CABECALHO, required = false) String chave) {
+
+        acessoAdministrativo.valida(chave);
+        retentativaDeNotificacoes.reprocessa(id);
+        return ResponseEntity.accepted().build();
+    }
+
+    @DeleteMapping("/falhas/{id}")
+    @Operation(summary = "Descartar Falha", description = "Remove a tarefa da fila de falhas sem reenviar.")
+    @ApiResponse(responseCode = "200", description = "Falha Descartada.")
+    @ApiResponse(responseCode = "401", description = "Chave Administrativa Inválida.")
+    @ApiResponse(responseCode = "404", description = "Tarefa não está na fila de falhas.")
+    public ResponseEntity<Void> descartaFalha(
+            @PathVariable("id") String id,
+            @RequestHeader(name = AcessoAdministrativo.CABECALHO, required = false) String chave) {
+
+        acessoAdministrativo.valida(chave);
+        retentativaDeNotificacoes.descarta(id);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -7,8 +7,10 @@ package com.EngCode.BFF_Agendador_de_Tarefas.controller;
 
 
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ConflictException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.GatewayTimeoutException;
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.IllegalArgumentException;
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ResourceNotFoundException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ServiceUnavailableException;
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.UnauthorizedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -73,4 +75,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(illegalArgumentException.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    // BLOCÃO 6: TRATAMENTO DE ServiceUnavailableException (HTTP 503 - Serviço Indisponível)
+    // -------------------------------------------------------------------------
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    // Mapeia: Lançada quando o BFF recusa a chamada a um microsserviço (circuito aberto ou bulkhead cheio).
+    public ResponseEntity<String> handlerServiceUnavailableException(ServiceUnavailableException serviceUnavailableException) {
+        // FUNÇÃO: Falha rápida, sem esperar o microsserviço; o frontend pode tentar de novo em instantes.
+
+        // Retorna: A mensagem da exceção com o Status HTTP 503 (SERVICE_UNAVAILABLE).
+        return new ResponseEntity<>(serviceUnavailableException.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // BLOCÃO 7: TRATAMENTO DE GatewayTimeoutException (HTTP 504 - Tempo Esgotado)
+    // -------------------------------------------------------------------------
+
+    @ExceptionHandler(GatewayTimeoutException.class)
+    // Mapeia: Lançada quando o prazo da requisição se esgota antes ou durante a chamada a um microsserviço.
+    public ResponseEntity<String> handlerGatewayTimeoutException(GatewayTimeoutException gatewayTimeoutException) {
+        // Retorna: A mensagem da exceção com o Status HTTP 504 (GATEWAY_TIMEOUT).
+        return new ResponseEntity<>(gatewayTimeoutException.getMessage(), HttpStatus.GATEWAY_TIMEOUT);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.controller;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.CacheMonitorado;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.CoalescedorDeChamadas;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasCacheDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasCoalescenciaDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstadoDisjuntorDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasHedgeDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasPoolHttpDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config.RegistroDeDisjuntores;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config.RegistroDeHedges;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config.RegistroDePoolsHttp;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security.AcessoAdministrativo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// BLOCÃO 2: ESTRUTURA E INJEÇÃO DE DEPENDÊNCIA
+// -------------------------------------------------------------------------
+
+@RestController
+@RequestMapping("/admin/monitoramento")
+@RequiredArgsConstructor
+@Tag(name = "Monitoramento", description = "Estado interno do BFF para dimensionamento e diagnóstico.")
+public class MonitoramentoController {
+
+    private final RegistroDePoolsHttp registroDePoolsHttp;
+    private final RegistroDeDisjuntores registroDeDisjuntores;
+    private final RegistroDeHedges registroDeHedges;
+    private final List<CacheMonitorado> caches; // Todos os caches em memória do BFF.
+    private final CoalescedorDeChamadas coalescedor;
+    private final AcessoAdministrativo acessoAdministrativo; // Valida o cabeçalho X-Admin-Chave.
+
+    // BLOCÃO 3: ENDPOINTS DE CONSULTA (GET)
+    // -------------------------------------------------------------------------
+
+    @GetMapping("/pools-http")
+    @Operation(summary = "Estatísticas dos Pools HTTP", description = "Conexões alocadas, pendentes e disponíveis de cada Feign Client.")
+    @ApiResponse(responseCode = "200", description = "Estatísticas Retornadas Com Sucesso.")
+    @ApiResponse(responseCode = "401", description = "Chave Administrativa Inválida.")
+    public ResponseEntity<List<EstatisticasPoolHttpDTOResponse>> estatisticasDosPoolsHttp(
+            @RequestHeader(name = AcessoAdministrativo.CABECALHO, required = false) String chave) {
+
+        acessoAdministrativo.valida(chave);
+        return ResponseEntity.ok(registroDePoolsHttp.estatisticas());
+    }
+
+    @GetMapping("/disjuntores")
+    @Operation(summary = "Estado dos Disjuntores", description = "Circuito (FECHADO, ABERTO, MEIO_ABERTO) e bulkhead de cada Feign Client.")
+    @ApiResponse(responseCode = "200", description = "Estados Retornados Com Sucesso.")
+    @ApiResponse(responseCode = "401", description = "Chave Administrativa Inválida.")
+    public ResponseEntity<List<EstadoDisjuntorDTOResponse>> estadoDosDisjuntores(
+            @RequestHeader(name = AcessoAdministrativo.CABECALHO, required = false) String chave) {
+
+        acessoAdministrativo.valida(chave);
+        return ResponseEntity.ok(registroDeDisjuntores.estados());
+    }
+
+    @GetMapping("/hedges")
+    @Operation(summary = "Estatísticas de Hedge", description = "Atraso atual, hedges disparados e vencedores dos GETs de cada Feign Client com hedge.")
+    @ApiResponse(responseCode = "200", description = "Estatísticas Retornadas Com Sucesso.")
+    @ApiResponse(responseCode = "401", description = "Chave Administrativa Inválida.")
+    public ResponseEntity<List<EstatisticasHedgeDTOResponse>> estatisticasDosHedges(
+            @RequestHeader(name = AcessoAdministrativo.CABECALHO, required = false) String chave) {
+
+        acessoAdministrativo.valida(chave);
+        return ResponseEntity.ok(registroDeHedges.estatisticas());
+    }
+
+    @GetMapping("/caches")
+    @Operation(summary = "Estatísticas dos Caches", description = "Acertos, falhas e ocupação de cada cache em memória do BFF.")
+    @ApiResponse(responseCode = "200", description = "Estatísticas Retornadas Com Sucesso.")
+    @ApiResponse(responseCode = "401", description = "Chave Administrativa Inválida.")
+    public ResponseEntity<List<EstatisticasCacheDTOResponse>> estatisticasDosCaches(
+            @RequestHeader(name = AcessoAdministrativo.CABECALHO, required = false) String chave) {
+
+        acessoAdministrativo.valida(chave);
+        return ResponseEntity.ok(caches.stream().map(CacheMonitorado::estatisticas).toList());
+    }
+
+    @GetMapping("/coalescencia")
+    @Operation(summary = "Estatísticas da Coalescência", description = "Quantas chamadas idênticas e simultâneas foram atendidas por uma única chamada ao microsserviço.")
+    @ApiResponse(responseCode = "200", description = "Estatísticas Retornadas Com Sucesso.")
+    @ApiResponse(responseCode = "401", description = "Chave Administrativa Inválida.")
+    public ResponseEntity<EstatisticasCoalescenciaDTOResponse> estatisticasDaCoalescencia(
+            @RequestHeader(name = AcessoAdministrativo.CABECALHO, required = false) String chave) {
+
+        acessoAdministrativo.valida(chave);
+        return ResponseEntity.ok(coalescedor.estatisticas());
+    }
+}
@@ -5,24 +5,30 @@ package com.EngCode.BFF_Agendador_de_Tarefas.controller;
 
 import com.EngCode.BFF_Agendador_de_Tarefas.business.TarefasService; // Serviço do BFF (orquestrador Feign)
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.in.TarefasDTORequest; // DTO de Requisição (dados de entrada)
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.PaginaTarefasDTOResponse; // Página da busca por período
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse; // DTO de Resposta (dados de saída)
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.TarefasClient; // Cabeçalho do cursor de paginação
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.enums.StatusNotificacaoEnum; // Enum de status
 
 // Importações do Swagger (OpenAPI 3) para documentação
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security.SecurityConfig;
 import io.swagger.v3.oas.annotations.Operation; // Define a operação da API (sumário, descrição)
+import io.swagger.v3.oas.annotations.media.ArraySchema; // Corpo das buscas: lista (tipada ou repassada)
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse; // Define as possíveis respostas HTTP
 import io.swagger.v3.oas.annotations.security.SecurityRequirement; // Indica que o Token é necessário
 import io.swagger.v3.oas.annotations.tags.Tag; // Agrupa as rotas em categorias
 
 // Importações do Spring e Lombok
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat; // Para formatação de data/hora na URL
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 // BLOCÃO 2: ESTRUTURA E INJEÇÃO DE DEPENDÊNCIA
 // -------------------------------------------------------------------------
@@ -35,10 +41,17 @@ import java.util.List;
 // SWAGGER: Define a tag que agrupa as rotas.
 @SecurityRequirement(name = SecurityConfig.SECURITY_SCHEME)
 // SWAGGER: Indica globalmente que estas rotas requerem autenticação (o nome 'SECURITY_SCHEME' deve estar configurado em uma classe de configuração do Swagger).
+// ASSÍNCRONO: Os endpoints devolvem CompletableFuture (async MVC); a thread do Tomcat é liberada enquanto o
+// Microsserviço de Agendamento responde, e a resposta é escrita quando o CompletableFuture completa.
 public class TarefasController {
 
     private final TarefasService tarefasService; // Injeta o serviço do BFF (orquestrador Feign).
 
+    // REPASSE: Com 'true', as buscas GET /tarefas e /tarefas/eventos copiam o JSON do Microsserviço direto para
+    // a resposta (streaming), sem montar a lista de DTOs no BFF. As demais rotas continuam tipadas.
+    @Value("${tarefas.repasse.habilitado:false}")
+    private boolean repasseHabilitado;
+
     // BLOCÃO 3: ENDPOINTS DE CRIAÇÃO (POST)
     // -------------------------------------------------------------------------
 
@@ -48,13 +61,13 @@ public class TarefasController {
     @ApiResponse(responseCode = "200", description = "Tarefa Gravada Com Sucesso.")
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<TarefasDTOResponse> gravarTarefas(@RequestBody TarefasDTORequest tarefasDTO,
+    public CompletableFuture<ResponseEntity<TarefasDTOResponse>> gravarTarefas(@RequestBody TarefasDTORequest tarefasDTO,
                                                             @RequestHeader(name = "Authorization", required = false) String token) {
         // @RequestHeader(required = false): Captura o Token JWT. O 'required=false' permite testar,
         // mas a validação real será feita no Microsserviço de Tarefas.
 
         // FUNÇÃO: O BFF repassa o DTO de entrada e o Token para o Service.
-        return ResponseEntity.ok(tarefasService.gravarTarefa(token, tarefasDTO)); // Chama o service e retorna o DTO de Resposta.
+        return tarefasService.gravarTarefaAsync(token, tarefasDTO).thenApply(ResponseEntity::ok); // Chama o service e retorna o DTO de Resposta.
     }
 
     // BLOCÃO 4: ENDPOINTS DE CONSULTA (GET)
@@ -62,30 +75,59 @@ public class TarefasController {
 
     @GetMapping("/eventos")
     // SWAGGER: Documentação do endpoint de Busca por Período.
-    @Operation(summary = "Buscar Tarefas por Período", description = "Retorna tarefas agendadas entre uma data inicial e uma data final.")
-    @ApiResponse(responseCode = "200", description = "Lista de Tarefas Retornada Com Sucesso.")
+    @Operation(summary = "Buscar Tarefas por Período", description = "Retorna tarefas agendadas entre uma data inicial e uma data final. "
+            + "Com 'tamanho', a resposta é paginada: o cursor da próxima página vem no cabeçalho X-Proximo-Cursor (ausente na última página).")
+    @ApiResponse(responseCode = "200", description = "Lista de Tarefas Retornada Com Sucesso.",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TarefasDTOResponse.class))))
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<List<TarefasDTOResponse>> buscarListaTarefasPorPeriodo(
+    public CompletableFuture<? extends ResponseEntity<?>> buscarListaTarefasPorPeriodo(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicial, // Data inicial
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFinal,// Data final
+            @RequestParam(value = "cursor", required = false) String cursor, // Cursor da página (opcional)
+            @RequestParam(value = "tamanho", required = false) Integer tamanho, // Tamanho da página (opcional)
             @RequestHeader(name = "Authorization", required = false) String token // Token repassado para a validação.
     ) {
-        // FUNÇÃO: Encaminha os parâmetros de data e o Token para o serviço do BFF.
-        return ResponseEntity.ok(tarefasService.buscaTarefasAgendadasPorPeriodo(dataInicial, dataFinal, token)); // Retorna lista filtrada
+        if (repasseHabilitado) {
+            // REPASSE: Corpo (e cursor, se paginado) copiados do Microsserviço de Agendamento sem conversão.
+            return tarefasService.repassaTarefasPorPeriodoAsync(dataInicial, dataFinal, cursor, tamanho, token);
+        }
+        if (tamanho == null) {
+            // FUNÇÃO: Sem paginação, encaminha os parâmetros de data e o Token para o serviço do BFF.
+            return tarefasService.buscaTarefasAgendadasPorPeriodoAsync(dataInicial, dataFinal, token)
+                    .thenApply(ResponseEntity::<Object>ok); // Retorna lista filtrada
+        }
+
+        // PAGINADO: O corpo continua sendo a lista; o cursor segue no cabeçalho (repassado do Agendamento).
+        return tarefasService.buscaPaginaDeTarefasPorPeriodoAsync(dataInicial, dataFinal, cursor, tamanho, token)
+                .thenApply(this::respostaDaPagina);
+    }
+
+    private ResponseEntity<?> respostaDaPagina(PaginaTarefasDTOResponse pagina) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (pagina.getProximoCursor() != null) {
+            resposta.header(TarefasClient.CABECALHO_PROXIMO_CURSOR, pagina.getProximoCursor());
+        }
+        return resposta.body(pagina.getTarefas());
     }
 
     @GetMapping
     // SWAGGER: Documentação do endpoint de Busca por Usuário.
     @Operation(summary = "Buscar Tarefas do Usuário Logado", description = "Retorna todas as tarefas associadas ao usuário cujo token foi fornecido.")
-    @ApiResponse(responseCode = "200", description = "Lista de Tarefas Retornada Com Sucesso.")
+    @ApiResponse(responseCode = "200", description = "Lista de Tarefas Retornada Com Sucesso.",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TarefasDTOResponse.class))))
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<List<TarefasDTOResponse>> buscarListaTarefasPorEmail(
+    public CompletableFuture<? extends ResponseEntity<?>> buscarListaTarefasPorEmail(
             @RequestHeader(name = "Authorization", required = false) String token) { // Captura o Token para identificação.
 
+        if (repasseHabilitado) {
+            // REPASSE: JSON do Microsserviço copiado direto para a resposta (sem o cache de listas do usuário).
+            return tarefasService.repassaTarefasPorEmailAsync(token);
+        }
+
         // FUNÇÃO: O BFF repassa o token para o Service, que faz a chamada Feign.
-        return ResponseEntity.ok(tarefasService.buscaTarefasPorEmail(token)); // Retorna lista de tarefas do usuário
+        return tarefasService.buscaTarefasPorEmailAsync(token).thenApply(ResponseEntity::<Object>ok); // Retorna lista de tarefas do usuário
     }
 
     // BLOCÃO 5: ENDPOINTS DE REMOÇÃO, ATUALIZAÇÃO E PATCH
@@ -98,12 +140,12 @@ public class TarefasController {
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "404", description = "Tarefa não encontrada.")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<Void> deletaTarefaPorId(@RequestParam("id") String id,
+    public CompletableFuture<ResponseEntity<Void>> deletaTarefaPorId(@RequestParam("id") String id,
                                                   @RequestHeader(name = "Authorization", required = false) String token) {
         // @RequestParam("id"): ID da tarefa a ser deletada.
 
-        tarefasService.deletaTarefaPorId(id, token); // Chama o método de exclusão com o Token.
-        return ResponseEntity.ok().build();   // Retorna resposta vazia (200 OK)
+        // Chama o método de exclusão com o Token e retorna resposta vazia (200 OK).
+        return tarefasService.deletaTarefaPorIdAsync(id, token).thenApply(nada -> ResponseEntity.ok().<Void>build());
     }
 
     @PatchMapping
@@ -113,13 +155,13 @@ public class TarefasController {
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "404", description = "Tarefa não encontrada.")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<TarefasDTOResponse> alteraStatusDeNotificacao(
+    public CompletableFuture<ResponseEntity<TarefasDTOResponse>> alteraStatusDeNotificacao(
             @RequestParam("status") StatusNotificacaoEnum statusNotificacaoEnum, // Novo status (Enum)
             @RequestParam("id") String id, // ID da tarefa
             @RequestHeader(name = "Authorization", required = false) String token) { // Repasse do Token.
 
         // FUNÇÃO: O BFF repassa os dados e o Token para o Microsserviço de Tarefas.
-        return ResponseEntity.ok(tarefasService.alteraStatusDaTarefa(statusNotificacaoEnum, id, token)); // Retorna tarefa atualizada
+        return tarefasService.alteraStatusDaTarefaAsync(statusNotificacaoEnum, id, token).thenApply(ResponseEntity::ok); // Retorna tarefa atualizada
     }
 
     @PutMapping
@@ -129,11 +171,11 @@ public class TarefasController {
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "404", description = "Tarefa não encontrada.")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<TarefasDTOResponse> updateDeTarefas(@RequestBody TarefasDTORequest tarefasDTO,
+    public CompletableFuture<ResponseEntity<TarefasDTOResponse>> updateDeTarefas(@RequestBody TarefasDTORequest tarefasDTO,
                                                               @RequestParam("id") String id,
                                                               @RequestHeader(name = "Authorization", required = false) String token) { // Repasse do Token.
 
         // FUNÇÃO: O BFF envia o DTO completo, o ID e o Token de autorização.
-        return ResponseEntity.ok(tarefasService.updateDeTarefas(tarefasDTO, id, token)); // Retorna DTO atualizado após o save
+        return tarefasService.updateDeTarefasAsync(tarefasDTO, id, token).thenApply(ResponseEntity::ok); // Retorna DTO atualizado após o save
     }
 }
\ No newline at end of file
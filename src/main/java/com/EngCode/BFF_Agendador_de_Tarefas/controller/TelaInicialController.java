@@ -0,0 +1,47 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.controller;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.TelaInicialService;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TelaInicialDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security.SecurityConfig;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+// BLOCÃO 2: ESTRUTURA E INJEÇÃO DE DEPENDÊNCIA
+// -------------------------------------------------------------------------
+
+@RestController
+@RequestMapping("/inicio")
+@RequiredArgsConstructor
+@Tag(name = "Tela Inicial", description = "Endpoints agregados para as telas do app.")
+@SecurityRequirement(name = SecurityConfig.SECURITY_SCHEME)
+public class TelaInicialController {
+
+    private final TelaInicialService telaInicialService;
+
+    // BLOCÃO 3: ENDPOINTS DE CONSULTA (GET)
+    // -------------------------------------------------------------------------
+
+    @GetMapping
+    @Operation(summary = "Tela Inicial", description = "Dados do usuário e lista de tarefas em uma única chamada "
+            + "(equivale a GET /usuario?email= + GET /tarefas, buscados em paralelo). Se um dos lados falhar, "
+            + "a resposta vem parcial: o campo dele fica nulo e o motivo aparece em 'falhas'.")
+    @ApiResponse(responseCode = "200", description = "Tela Inicial Retornada (completa ou parcial).")
+    @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
+    @ApiResponse(responseCode = "500", description = "Erro de Servidor (os dois lados falharam).")
+    public CompletableFuture<ResponseEntity<TelaInicialDTOResponse>> buscaTelaInicial(
+            @RequestParam("email") String email, // E-mail do usuário (mesmo parâmetro de GET /usuario).
+            @RequestHeader(name = "Authorization", required = false) String token) { // Token repassado aos dois lados.
+
+        return telaInicialService.buscaTelaInicialAsync(email, token).thenApply(ResponseEntity::ok);
+    }
+}
@@ -23,6 +23,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 
 // BLOCÃO 2: ESTRUTURA E INJEÇÃO DE DEPENDÊNCIA
 // -------------------------------------------------------------------------
@@ -36,6 +38,8 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Usuário", description = "Endpoints de Cadastro, Login e Gerenciamento de Usuários")
 // SWAGGER: Define a tag principal que agrupa estas rotas na documentação.
 @SecurityRequirement(name = SecurityConfig.SECURITY_SCHEME)
+// ASSÍNCRONO: Os endpoints devolvem CompletableFuture (async MVC); a thread do Tomcat é liberada enquanto o
+// Microsserviço de Usuários responde.
 public class UsuarioControler {
 
     // Dependência do Serviço (que fará a comunicação real com o Microsserviço de Usuários).
@@ -50,9 +54,9 @@ public class UsuarioControler {
     @ApiResponse(responseCode = "200", description = "Usuário Salvo Com Sucesso.")
     @ApiResponse(responseCode = "409", description = "Usuário Já Cadastrado.")
     @ApiResponse(responseCode = "500" , description = "Erro de Servidor.")
-    public ResponseEntity<UsuarioDTOResponse> salvaUsuario(@RequestBody UsuarioDTORequest usuarioDTO) {
+    public CompletableFuture<ResponseEntity<UsuarioDTOResponse>> salvaUsuario(@RequestBody UsuarioDTORequest usuarioDTO) {
         // FUNÇÃO: Encaminha os dados do DTO para o Microsserviço de Usuários.
-        return ResponseEntity.ok(usuarioService.salvaUsuario(usuarioDTO));
+        return usuarioService.salvaUsuarioAsync(usuarioDTO).thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/login")
@@ -61,10 +65,10 @@ public class UsuarioControler {
     @ApiResponse(responseCode = "200", description = "Login realizado com sucesso. Retorna o Token JWT.")
     @ApiResponse(responseCode = "401", description = "Credenciais Inválidas.")
     @ApiResponse(responseCode = "500" , description = "Erro de Servidor.")
-    public String login(@RequestBody LoginDTORequest loginDTORequest) {
+    public CompletableFuture<String> login(@RequestBody LoginDTORequest loginDTORequest) {
         // FUNÇÃO: Encaminha as credenciais para o Microsserviço de Usuários e retorna o JWT.
         // CORREÇÃO: Chamada de método do Service corrigida.
-        return usuarioService.loginUsuario(loginDTORequest);
+        return usuarioService.loginUsuarioAsync(loginDTORequest);
     }
 
     // BLOCÃO 4: ENDPOINTS DE CONSULTA E REMOÇÃO (Protegidos)
@@ -77,11 +81,11 @@ public class UsuarioControler {
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "404", description = "Usuário não encontrado.")
     @ApiResponse(responseCode = "500" , description = "Erro de Servidor.")
-    public ResponseEntity<UsuarioDTOResponse> buscaUsuarioPorEmail(
+    public CompletableFuture<ResponseEntity<UsuarioDTOResponse>> buscaUsuarioPorEmail(
             @RequestParam("email") String email, // E-mail a ser consultado (Query Parameter).
             @RequestHeader(name = "Authorization", required = false) String token) { // Token JWT (Header).
         // FUNÇÃO: O BFF repassa o Token para que o Microsserviço de Usuários valide a autenticação.
-        return ResponseEntity.ok(usuarioService.buscarUsuarioPorEmail(email, token));
+        return usuarioService.buscarUsuarioPorEmailAsync(email, token).thenApply(ResponseEntity::ok);
     }
 
     @DeleteMapping("/{email}")
@@ -91,14 +95,12 @@ public class UsuarioControler {
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "404", description = "Usuário não encontrado.")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<Void> deletaUsuarioPorEmail(
+    public CompletableFuture<ResponseEntity<Void>> deletaUsuarioPorEmail(
             @PathVariable String email, // E-mail a ser deletado (Path Variable).
             @RequestHeader(name = "Authorization", required = false) String token) { // Token JWT (Header).
 
-        usuarioService.deletaUsuarioPorEmail(email, token);
-
-        // Retorna o Status HTTP 200 (OK) sem corpo.
-        return ResponseEntity.ok().build();
+        // Retorna o Status HTTP 200 (OK) sem corpo, depois da exclusão.
+        return usuarioService.deletaUsuarioPorEmailAsync(email, token).thenApply(nada -> ResponseEntity.ok().<Void>build());
     }
 
     // BLOCÃO 5: ENDPOINTS DE ATUALIZAÇÃO (Protegidos)
@@ -111,11 +113,11 @@ public class UsuarioControler {
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "404", description = "Usuário não encontrado.")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<UsuarioDTOResponse> atualizaDadosUsuario(
+    public CompletableFuture<ResponseEntity<UsuarioDTOResponse>> atualizaDadosUsuario(
             @RequestBody UsuarioDTORequest usuarioDTO, // Novos dados.
             @RequestHeader(name = "Authorization", required = false) String token) { // Token JWT.
 
-        return ResponseEntity.ok(usuarioService.atualizaDaddosUsuario(token, usuarioDTO));
+        return usuarioService.atualizaDadosUsuarioAsync(token, usuarioDTO).thenApply(ResponseEntity::ok);
     }
 
     @PutMapping("/endereco")
@@ -125,12 +127,12 @@ public class UsuarioControler {
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "404", description = "Usuário não encontrado.")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<EnderecoDTOResponse> atualizaEndereco(
+    public CompletableFuture<ResponseEntity<EnderecoDTOResponse>> atualizaEndereco(
             @RequestBody EnderecoDTORequest enderecoDTO,
             @RequestParam("id") Long id, // ID do endereço a ser atualizado.
             @RequestHeader(name = "Authorization", required = false) String token) {
 
-        return ResponseEntity.ok(usuarioService.atualizaEndereco(id, enderecoDTO, token));
+        return usuarioService.atualizaEnderecoAsync(id, enderecoDTO, token).thenApply(ResponseEntity::ok);
     }
 
     @PutMapping("/telefone")
@@ -140,12 +142,12 @@ public class UsuarioControler {
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "404", description = "Usuário não encontrado.")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<TelefoneDTOResponse> atualizaTelefone(
+    public CompletableFuture<ResponseEntity<TelefoneDTOResponse>> atualizaTelefone(
             @RequestBody TelefoneDTORequest telefoneDTO,
             @RequestParam("id") Long id, // ID do telefone a ser atualizado.
             @RequestHeader(name = "Authorization", required = false) String token) {
 
-        return ResponseEntity.ok(usuarioService.atualizaTelefones(id, telefoneDTO, token));
+        return usuarioService.atualizaTelefonesAsync(id, telefoneDTO, token).thenApply(ResponseEntity::ok);
     }
 
     // BLOCÃO 6: ENDPOINTS DE CRIAÇÃO DE RECURSOS ANINHADOS (Protegidos)
@@ -158,11 +160,11 @@ public class UsuarioControler {
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "404", description = "Usuário não encontrado.")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<EnderecoDTOResponse> cadastraEndereco(
+    public CompletableFuture<ResponseEntity<EnderecoDTOResponse>> cadastraEndereco(
             @RequestBody EnderecoDTORequest enderecoDTO,
             @RequestHeader(name = "Authorization", required = false) String token) {
 
-        return ResponseEntity.ok(usuarioService.cadastraEndereco(token, enderecoDTO));
+        return usuarioService.cadastraEnderecoAsync(token, enderecoDTO).thenApply(ResponseEntity::ok);
     }
 
 
@@ -173,11 +175,11 @@ public class UsuarioControler {
     @ApiResponse(responseCode = "401", description = "Não Autorizado (Token Inválido).")
     @ApiResponse(responseCode = "404", description = "Usuário não encontrado.")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor.")
-    public ResponseEntity<TelefoneDTOResponse> cadastraTelefone(
+    public CompletableFuture<ResponseEntity<TelefoneDTOResponse>> cadastraTelefone(
             @RequestBody TelefoneDTORequest telefoneDTO,
             @RequestHeader(name = "Authorization", required = false) String token) {
 
-        return ResponseEntity.ok(usuarioService.cadastraTelefone(token, telefoneDTO));
+        return usuarioService.cadastraTelefoneAsync(token, telefoneDTO).thenApply(ResponseEntity::ok);
     }
 
     // BLOCÃO 7: ENDPOINT DE CONSUMO DE API EXTERNA (ViaCEP)
@@ -190,11 +192,11 @@ public class UsuarioControler {
     @ApiResponse(responseCode = "400", description = "CEP inválido (Formato incorreto ou caracteres ilegais).")
     @ApiResponse(responseCode = "404", description = "CEP não encontrado na base de dados da ViaCEP.")
     @ApiResponse(responseCode = "500", description = "Erro de Servidor (Falha na comunicação com a ViaCEP).")
-    public ResponseEntity <ViaCepDTORespose> buscarDadosDeCep (@PathVariable ("cep") String cep) {
+    public CompletableFuture<ResponseEntity<ViaCepDTORespose>> buscarDadosDeCep (@PathVariable ("cep") String cep) {
         // @PathVariable ("cep"): Pega a variável de caminho (o CEP) da URL.
 
         // Chama o serviço ViaCEP para executar a validação e a chamada Feign.
-        return ResponseEntity.ok(usuarioService.buscarEnderecoViaCep(cep));
+        return usuarioService.buscarEnderecoViaCepAsync(cep).thenApply(ResponseEntity::ok);
     }
 
 }
\ No newline at end of file
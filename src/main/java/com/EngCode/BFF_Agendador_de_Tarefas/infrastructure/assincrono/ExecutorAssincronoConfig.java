@@ -0,0 +1,54 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.assincrono;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.prazo.PrazoDaRequisicao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor das variantes assíncronas (CompletableFuture) dos serviços do BFF.
+ * FUNÇÃO: Os controllers devolvem o CompletableFuture e a thread do Tomcat é liberada enquanto a chamada
+ * ao microsserviço roda aqui.
+ * MODOS: Pool dedicado e limitado ('assincrono.threads-*' e 'assincrono.fila'; excedente recusado com 503)
+ * ou threads virtuais ('assincrono.threads-virtuais', que segue 'spring.threads.virtual.enabled'), limitadas
+ * por 'assincrono.concorrencia-virtual' (as threads são baratas; o limite protege os microsserviços).
+ * PRAZO: Cada tarefa leva o prazo da requisição que a criou (PrazoDaRequisicao.propaga).
+ */
+@Configuration
+public class ExecutorAssincronoConfig {
+
+    @Value("${assincrono.threads-virtuais:${spring.threads.virtual.enabled:false}}")
+    private boolean threadsVirtuais;
+    @Value("${assincrono.threads-minimas:16}")
+    private int threadsMinimas;
+    @Value("${assincrono.threads-maximas:64}")
+    private int threadsMaximas;
+    @Value("${assincrono.fila:500}")
+    private int fila;
+    @Value("${assincrono.concorrencia-virtual:1000}")
+    private int concorrenciaVirtual;
+
+    @Bean
+    public AsyncTaskExecutor executorAssincrono() {
+        if (threadsVirtuais) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("bff-async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concorrenciaVirtual); // Protege os microsserviços, não as threads (que são baratas).
+            executor.setTaskDecorator(PrazoDaRequisicao::propaga);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("bff-async-");
+        executor.setCorePoolSize(threadsMinimas);
+        executor.setMaxPoolSize(threadsMaximas);
+        executor.setQueueCapacity(fila);
+        executor.setTaskDecorator(PrazoDaRequisicao::propaga);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,27 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.assincrono;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Fábrica das threads dos pools próprios do BFF (envio do cron, lotes de e-mail, hedge dos GETs).
+ * MODO VIRTUAL: Com 'spring.threads.virtual.enabled=true' (Java 21) as threads são virtuais, como as do Tomcat,
+ * do @Scheduled e do executor assíncrono; a chamada Feign feita nelas não prende uma thread do sistema operacional.
+ * Os pools continuam com o mesmo tamanho (o limite de paralelismo contra os microsserviços não muda).
+ * Nomes: '<prefixo>1', '<prefixo>2', ... (facilita a leitura dos logs).
+ */
+@Component
+public class FabricaDeThreads {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean threadsVirtuais;
+
+    public ThreadFactory fabrica(String prefixo, boolean daemon) {
+        if (threadsVirtuais) {
+            return Thread.ofVirtual().name(prefixo, 1).factory(); // Threads virtuais são sempre daemon.
+        }
+        return Thread.ofPlatform().name(prefixo, 1).daemon(daemon).factory();
+    }
+}
@@ -6,11 +6,14 @@ package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client;
 // Importa os DTOs, que são os formatos JSON esperados na comunicação HTTP.
 
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.in.TarefasDTORequest;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.ResultadoEnvioEmailDTOResponse;
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 /**
  * 🔹 Interface responsável por fazer a comunicação com outro serviço (microserviço de usuários)
  * usando o Feign Client — uma ferramenta que facilita chamadas HTTP entre APIs no Spring Boot.
@@ -21,10 +24,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 // BLOCÃO 2: CONFIGURAÇÃO DO FEIGN CLIENT
 // -------------------------------------------------------------------------
-@FeignClient(name = "notificacao", url = "${notificacao.url}")
+@FeignClient(name = "notificacao", url = "${notificacao.url}", primary = false)
 // ANOTAÇÃO FEIGN: Marca esta interface como um cliente REST que o Spring deve implementar automaticamente.
 // name = "usuario": Nome lógico do serviço (usado internamente).
 // url = "${usuario.url}": Endereço base do Microsserviço de Usuários, puxado de uma variável no application.properties (ex: http://localhost:8081).
+// primary = false: com 'http-cliente.implementacao=jdk' a implementação injetada passa a ser a EmailClientJdk (@Primary).
 public interface EmailClient {
 // Feign Clients são sempre interfaces.
 
@@ -41,4 +45,16 @@ public interface EmailClient {
      */
     @PostMapping
      void enviarEmail (@RequestBody TarefasDTOResponse tarefasDTOResponse);
+
+    /**
+     * 🔹 Envio em lote: várias tarefas em uma única requisição POST.
+     * O Microsserviço de Notificação devolve um resultado POR TAREFA, então uma falha
+     * parcial não invalida as tarefas que foram entregues.
+     *
+     * Exemplo de chamada:
+     * POST http://servidor/email/lote
+     * Body: [ { tarefa 1 }, { tarefa 2 }, ... ]
+     */
+    @PostMapping("/lote")
+    List<ResultadoEnvioEmailDTOResponse> enviarEmailsEmLote (@RequestBody List<TarefasDTOResponse> tarefas);
 }
\ No newline at end of file
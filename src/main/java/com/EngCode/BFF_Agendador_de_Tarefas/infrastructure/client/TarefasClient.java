@@ -8,8 +8,10 @@ package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client;
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.in.TarefasDTORequest;
 import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
 import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.enums.StatusNotificacaoEnum;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
@@ -22,12 +24,16 @@ import java.util.List;
 
 // BLOCÃO 2: CONFIGURAÇÃO DO FEIGN CLIENT
 // -------------------------------------------------------------------------
-@FeignClient(name = "agendador-tarefas", url = "${agendador-tarefas.url}")
+@FeignClient(name = "agendador-tarefas", url = "${agendador-tarefas.url}", primary = false)
 // ANOTAÇÃO FEIGN: O Spring Cloud implementará esta interface automaticamente.
 // name: Nome lógico do serviço (para o Spring).
 // url: Endereço base do Microsserviço de Agendamento, puxado do application.properties.
+// primary = false: com 'http-cliente.implementacao=jdk' a implementação injetada passa a ser a TarefasClientJdk (@Primary).
 public interface TarefasClient {
 
+    // Cabeçalho da resposta paginada com o cursor da próxima página (ausente na última página).
+    String CABECALHO_PROXIMO_CURSOR = "X-Proximo-Cursor";
+
     // BLOCÃO 3: ENDPOINTS DE CRIAÇÃO (POST)
     // -------------------------------------------------------------------------
 
@@ -46,10 +52,38 @@ public interface TarefasClient {
             @RequestHeader("Authorization") String token);
     // FUNÇÃO: Mapeia a busca por período, passando as datas como Query Parameters na URL.
 
+    @GetMapping("/eventos")
+    ResponseEntity<List<TarefasDTOResponse>> buscarPaginaTarefasPorPeriodo(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicial,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFinal,
+            @RequestParam(value = "cursor", required = false) String cursor, // Vazio = primeira página.
+            @RequestParam("tamanho") int tamanho, // Máximo de tarefas por página.
+            @RequestHeader("Authorization") String token);
+    // FUNÇÃO: Mesma busca por período, paginada por cursor (keyset: dataEvento + id).
+    // O cursor não se desloca quando tarefas da página anterior mudam para NOTIFICADO (ao contrário de um offset).
+
     @GetMapping
     List<TarefasDTOResponse> buscarListaTarefasPorEmail(
             @RequestHeader("Authorization") String token); // Token JWT obrigatório para identificar o usuário logado.
 
+    // BLOCÃO 4.1: REPASSE SEM CONVERSÃO (streaming)
+    // -------------------------------------------------------------------------
+    // Mesmas buscas, devolvendo a resposta HTTP crua: o corpo JSON NÃO é convertido em objetos e fica aberto
+    // para ser copiado direto para o frontend (ver RepasseDeResposta). Quem chama deve fechar o corpo.
+    // ATENÇÃO: Com retorno 'Response' o Feign não aciona o FeingError; o status é tratado por RepasseDeResposta.
+
+    @GetMapping
+    Response repassarListaTarefasPorEmail(
+            @RequestHeader("Authorization") String token);
+
+    @GetMapping("/eventos")
+    Response repassarTarefasPorPeriodo(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicial,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFinal,
+            @RequestParam(value = "cursor", required = false) String cursor, // Nulos não vão para a URL.
+            @RequestParam(value = "tamanho", required = false) Integer tamanho, // Sem tamanho = período inteiro.
+            @RequestHeader("Authorization") String token);
+
     // BLOCÃO 5: ENDPOINTS DE REMOÇÃO, ATUALIZAÇÃO E PATCH
     // -------------------------------------------------------------------------
 
@@ -64,6 +98,13 @@ public interface TarefasClient {
             @RequestParam("id") String id,
             @RequestHeader("Authorization") String token); // Repasse do Token.
 
+    @PatchMapping("/lote")
+    List<TarefasDTOResponse> alteraStatusDeNotificacaoEmLote(
+            @RequestParam("status") StatusNotificacaoEnum statusNotificacaoEnum, // Mesmo status para todo o lote.
+            @RequestBody List<String> ids, // IDs das tarefas, enviados no corpo (JSON array) para não estourar a URL.
+            @RequestHeader("Authorization") String token); // Repasse do Token.
+    // FUNÇÃO: Atualiza o status de várias tarefas em UMA única requisição PATCH.
+
     @PutMapping
     TarefasDTOResponse updateDeTarefas(
             @RequestBody TarefasDTORequest tarefasDTO, // DTO com os novos dados.
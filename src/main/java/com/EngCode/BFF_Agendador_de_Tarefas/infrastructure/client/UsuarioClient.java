@@ -29,10 +29,11 @@ import org.springframework.web.bind.annotation.*;
 
 // BLOCÃO 2: CONFIGURAÇÃO DO FEIGN CLIENT
 // -------------------------------------------------------------------------
-@FeignClient(name = "usuario", url = "${usuario.url}")
+@FeignClient(name = "usuario", url = "${usuario.url}", primary = false)
 // ANOTAÇÃO FEIGN: Marca esta interface como um cliente REST que o Spring deve implementar automaticamente.
 // name = "usuario": Nome lógico do serviço (usado internamente).
 // url = "${usuario.url}": Endereço base do Microsserviço de Usuários, puxado de uma variável no application.properties (ex: http://localhost:8081).
+// primary = false: com 'http-cliente.implementacao=jdk' a implementação injetada passa a ser a UsuarioClientJdk (@Primary).
 public interface UsuarioClient {
 // Feign Clients são sempre interfaces.
 
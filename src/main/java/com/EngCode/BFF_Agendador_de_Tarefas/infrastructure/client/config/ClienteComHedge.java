@@ -0,0 +1,301 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasHedgeDTOResponse;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * "Hedged requests" para os GETs (idempotentes) de um Feign Client.
+ * FUNÇÃO: A requisição principal roda no pool do hedge (ou na thread de quem chamou, se o pool estiver lotado).
+ * Se ela passa do percentil 'percentil' das latências recentes do cliente, uma SEGUNDA requisição idêntica é
+ * enviada pelo mesmo pool. Quem chamou fica com a primeira resposta com sucesso (status < 500), seja qual for.
+ * PERDEDORA: Nenhuma tentativa é interrompida (cancel(true) não interrompe a E/S do Apache HttpClient).
+ * As duas usam os timeouts já limitados pelo prazo da requisição (ClienteComPrazo, camada acima); a resposta
+ * que chega depois da vencedora é fechada e a conexão volta ao pool.
+ * TAXA: No máximo 'taxa-maxima'% dos GETs geram segunda requisição (crédito acumulado por GET), para não
+ * sobrecarregar um microsserviço que já está lento.
+ * NOTA: As duas tentativas passam pelo disjuntor/bulkhead (ClienteProtegido) do cliente. Métodos que não são GET
+ * seguem direto, sem hedge.
+ */
+class ClienteComHedge implements Client {
+
+    record Configuracao(int percentil, Duration atrasoMinimo, Duration atrasoInicial, int taxaMaxima, int amostras) {
+    }
+
+    private static final long CUSTO_DO_HEDGE = 1000; // Créditos em milésimos de hedge.
+    private static final long CREDITO_MAXIMO = 10 * CUSTO_DO_HEDGE; // Rajada máxima de 10 hedges seguidos.
+    private static final int AMOSTRAS_MINIMAS = 20; // Antes disso, usa 'atraso-inicial'.
+
+    private final String cliente;
+    private final Client delegado;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService agendador;
+    private final Configuracao configuracao;
+
+    private final AtomicLong creditos = new AtomicLong(CREDITO_MAXIMO);
+    private final LongAdder requisicoesGet = new LongAdder();
+    private final LongAdder hedgesDisparados = new LongAdder();
+    private final LongAdder hedgesVencedores = new LongAdder();
+    private final LongAdder hedgesNegadosPorTaxa = new LongAdder();
+
+    // Janela circular das últimas latências (nanos) de GETs bem-sucedidos e o percentil calculado dela.
+    private final ReentrantLock lockDasLatencias = new ReentrantLock();
+    private final long[] latencias;
+    private int proximaLatencia;
+    private int totalDeLatencias;
+    private int novasDesdeOCalculo;
+    private volatile long atrasoAtualNanos;
+
+    ClienteComHedge(String cliente, Client delegado, ExecutorService executor, ScheduledExecutorService agendador,
+                    Configuracao configuracao) {
+        this.cliente = cliente;
+        this.delegado = delegado;
+        this.executor = executor;
+        this.agendador = agendador;
+        this.configuracao = configuracao;
+        this.latencias = new long[configuracao.amostras()];
+        this.atrasoAtualNanos = configuracao.atrasoInicial().toNanos();
+    }
+
+    // Estados de um GET: a principal decide entre terminar antes do atraso ou o hedge ser disparado (nunca os dois).
+    private static final int AGUARDANDO = 0;
+    private static final int HEDGE_DISPARADO = 1;
+    private static final int PRINCIPAL_TERMINOU = 2;
+
+    // BLOCÃO 1: EXECUÇÃO
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (request.httpMethod() != Request.HttpMethod.GET) {
+            return delegado.execute(request, options);
+        }
+        requisicoesGet.increment();
+        acumulaCredito();
+
+        // 'segunda' completa com null quando o hedge não sai (principal antes do atraso, taxa ou pool lotado).
+        AtomicInteger estado = new AtomicInteger(AGUARDANDO);
+        CompletableFuture<Response> principal = new CompletableFuture<>();
+        CompletableFuture<Response> segunda = new CompletableFuture<>();
+        ScheduledFuture<?> gatilho = agendador.schedule(() -> disparaHedge(request, options, estado, segunda),
+                atrasoAtualNanos, TimeUnit.NANOSECONDS);
+
+        Runnable tentativaPrincipal = () -> tentativa(request, options, principal, () -> {
+            gatilho.cancel(false);
+            if (estado.compareAndSet(AGUARDANDO, PRINCIPAL_TERMINOU)) {
+                segunda.complete(null);
+            }
+        });
+        // PRINCIPAL: no pool, para quem chamou poder ficar com a segunda se ela responder antes.
+        try {
+            executor.execute(tentativaPrincipal);
+        } catch (RejectedExecutionException e) {
+            tentativaPrincipal.run(); // Pool lotado: a principal roda na thread de quem chamou (o hedge também será negado).
+        }
+        return primeiraComSucesso(principal, segunda);
+    }
+
+    // Executado pelo agendador quando o atraso vence: dispara a segunda se a principal ainda não terminou.
+    private void disparaHedge(Request request, Request.Options options, AtomicInteger estado, CompletableFuture<Response> segunda) {
+        if (estado.get() != AGUARDANDO) {
+            return;
+        }
+        if (!consomeCredito()) {
+            hedgesNegadosPorTaxa.increment();
+            return; // 'segunda' completa com null quando a principal terminar.
+        }
+        if (!estado.compareAndSet(AGUARDANDO, HEDGE_DISPARADO)) {
+            return; // A principal terminou agora (o crédito consumido não volta; no máximo um hedge a menos).
+        }
+        hedgesDisparados.increment(); // Antes de repassar: a segunda pode vencer antes da linha seguinte.
+        try {
+            executor.execute(() -> tentativa(request, options, segunda, () -> { }));
+        } catch (RejectedExecutionException e) {
+            hedgesDisparados.decrement();
+            segunda.complete(null); // Sem thread livre: a principal segue sozinha.
+        }
+    }
+
+    // Uma tentativa completa: a latência só entra na janela quando a resposta não é 5xx. 'aoTerminar' roda antes
+    // de completar 'destino' (quem chamou, ao acordar, já encontra o gatilho cancelado).
+    private void tentativa(Request request, Request.Options options, CompletableFuture<Response> destino,
+                           Runnable aoTerminar) {
+        long inicio = System.nanoTime();
+        Response response = null;
+        Throwable erro = null;
+        try {
+            response = delegado.execute(request, options);
+            if (response.status() < 500) {
+                registraLatencia(System.nanoTime() - inicio);
+            }
+        } catch (Throwable falha) {
+            erro = falha;
+        }
+        aoTerminar.run();
+        if (erro == null) {
+            destino.complete(response);
+        } else {
+            destino.completeExceptionally(erro);
+        }
+    }
+
+    // Quem chamou espera a primeira resposta com sucesso (status < 500); a outra, quando chegar, é fechada.
+    // Sem sucesso nas duas, vale o resultado da principal (a resposta 5xx ou o erro, com o da segunda suprimido).
+    private Response primeiraComSucesso(CompletableFuture<Response> principal, CompletableFuture<Response> segunda)
+            throws IOException {
+        try {
+            aguarda(CompletableFuture.anyOf(principal, segunda));
+            Response vencedora = vencedora(principal, segunda);
+            if (vencedora != null) {
+                return vencedora;
+            }
+            // A primeira a terminar falhou: espera a outra (limitada pelos timeouts dela).
+            aguarda(principal);
+            aguarda(segunda);
+            vencedora = vencedora(principal, segunda);
+            return vencedora != null ? vencedora : semSucesso(principal, segunda);
+        } catch (InterruptedException e) {
+            descarta(principal);
+            descarta(segunda);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Chamada ao serviço '" + cliente + "' interrompida.");
+        }
+    }
+
+    private Response vencedora(CompletableFuture<Response> principal, CompletableFuture<Response> segunda) {
+        if (comSucesso(principal)) {
+            descarta(segunda);
+            return principal.resultNow();
+        }
+        if (comSucesso(segunda)) {
+            descarta(principal);
+            hedgesVencedores.increment();
+            return segunda.resultNow();
+        }
+        return null;
+    }
+
+    // As duas já terminaram sem sucesso.
+    private static Response semSucesso(CompletableFuture<Response> principal, CompletableFuture<Response> segunda)
+            throws IOException {
+        if (principal.state() == Future.State.SUCCESS) {
+            descarta(segunda);
+            return principal.resultNow(); // 5xx da principal.
+        }
+        Throwable erro = principal.exceptionNow();
+        if (segunda.state() == Future.State.SUCCESS) {
+            if (segunda.resultNow() != null) {
+                return segunda.resultNow(); // 5xx da segunda vale mais que o erro de E/S da principal.
+            }
+        } else {
+            erro.addSuppressed(segunda.exceptionNow());
+        }
+        throw relanca(erro);
+    }
+
+    private static boolean comSucesso(CompletableFuture<Response> tentativa) {
+        return tentativa.state() == Future.State.SUCCESS && tentativa.resultNow() != null
+                && tentativa.resultNow().status() < 500;
+    }
+
+    // Espera sem tratar o resultado (lido depois com resultNow/exceptionNow).
+    private static void aguarda(CompletableFuture<?> tentativa) throws InterruptedException {
+        try {
+            tentativa.get();
+        } catch (ExecutionException ignorada) {
+            // Falha da tentativa: decidida por quem chamou.
+        }
+    }
+
+    // A resposta, quando chegar, não será usada: fecha (a conexão volta ao pool). Nenhuma tentativa é interrompida.
+    private static void descarta(CompletableFuture<Response> tentativa) {
+        tentativa.thenAccept(response -> {
+            if (response != null) {
+                response.close();
+            }
+        });
+    }
+
+    // Relança o erro original da tentativa (IOException ou RuntimeException, como faria o transporte).
+    private static IOException relanca(Throwable erro) {
+        if (erro instanceof IOException io) {
+            return io;
+        }
+        if (erro instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (erro instanceof Error grave) {
+            throw grave;
+        }
+        return new IOException(erro);
+    }
+
+    // BLOCÃO 2: LIMITE DE TAXA (créditos)
+    // -------------------------------------------------------------------------
+
+    // Cada GET rende 'taxa-maxima'% de um hedge, até o teto de CREDITO_MAXIMO.
+    private void acumulaCredito() {
+        long ganho = configuracao.taxaMaxima() * CUSTO_DO_HEDGE / 100;
+        creditos.getAndUpdate(atual -> Math.min(CREDITO_MAXIMO, atual + ganho));
+    }
+
+    private boolean consomeCredito() {
+        long antes = creditos.getAndUpdate(atual -> atual >= CUSTO_DO_HEDGE ? atual - CUSTO_DO_HEDGE : atual);
+        return antes >= CUSTO_DO_HEDGE;
+    }
+
+    // BLOCÃO 3: PERCENTIL DAS LATÊNCIAS
+    // -------------------------------------------------------------------------
+
+    private void registraLatencia(long nanos) {
+        lockDasLatencias.lock();
+        try {
+            latencias[proximaLatencia] = nanos;
+            proximaLatencia = (proximaLatencia + 1) % latencias.length;
+            totalDeLatencias = Math.min(totalDeLatencias + 1, latencias.length);
+            // Recalcula o percentil a cada 1/8 da janela (ordenar a cada GET seria desperdício).
+            if (totalDeLatencias >= AMOSTRAS_MINIMAS && ++novasDesdeOCalculo >= Math.max(1, latencias.length / 8)) {
+                novasDesdeOCalculo = 0;
+                long[] ordenadas = Arrays.copyOf(latencias, totalDeLatencias);
+                Arrays.sort(ordenadas);
+                int posicao = (int) Math.ceil(configuracao.percentil() / 100.0 * ordenadas.length) - 1;
+                atrasoAtualNanos = Math.max(configuracao.atrasoMinimo().toNanos(), ordenadas[Math.max(0, posicao)]);
+            }
+        } finally {
+            lockDasLatencias.unlock();
+        }
+    }
+
+    // BLOCÃO 4: MONITORAMENTO
+    // -------------------------------------------------------------------------
+
+    EstatisticasHedgeDTOResponse estatisticas() {
+        return EstatisticasHedgeDTOResponse.builder()
+                .cliente(cliente)
+                .percentil(configuracao.percentil())
+                .atrasoAtualMs(TimeUnit.NANOSECONDS.toMillis(atrasoAtualNanos))
+                .requisicoesGet(requisicoesGet.sum())
+                .hedgesDisparados(hedgesDisparados.sum())
+                .hedgesVencedores(hedgesVencedores.sum())
+                .hedgesNegadosPorTaxa(hedgesNegadosPorTaxa.sum())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.metricas.MetricasDosClientes;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * Camada mais externa do transporte do Feign: mede cada chamada em MetricasDosClientes.
+ * FUNÇÃO: Latência por cliente e método, erros pelo status (com a exceção que o FeingError vai gerar) e chamadas
+ * em andamento. Fica fora do ClienteComPrazo para contar também as chamadas recusadas antes do envio (503/504).
+ */
+class ClienteComMetricas implements Client {
+
+    private final String cliente;
+    private final Client delegado;
+    private final MetricasDosClientes metricasDosClientes;
+
+    ClienteComMetricas(String cliente, Client delegado, MetricasDosClientes metricasDosClientes) {
+        this.cliente = cliente;
+        this.delegado = delegado;
+        this.metricasDosClientes = metricasDosClientes;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        MetricasDosClientes.Medicao medicao = metricasDosClientes.inicia(cliente, metodo(request));
+        Response resposta;
+        try {
+            resposta = delegado.execute(request, options);
+        } catch (IOException | RuntimeException e) {
+            medicao.falha(e);
+            throw e;
+        }
+        medicao.resposta(resposta.status());
+        return resposta;
+    }
+
+    // Nome do método da interface do Feign Client (ex: buscaUsuarioPorEmail).
+    private static String metodo(Request request) {
+        if (request.requestTemplate() == null || request.requestTemplate().methodMetadata() == null) {
+            return "desconhecido";
+        }
+        return request.requestTemplate().methodMetadata().method().getName();
+    }
+}
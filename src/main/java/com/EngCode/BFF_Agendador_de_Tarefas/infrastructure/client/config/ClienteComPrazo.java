@@ -0,0 +1,57 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.GatewayTimeoutException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.prazo.PrazoDaRequisicao;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Camada mais externa do transporte do Feign: aplica o prazo da requisição (PrazoDaRequisicao) à chamada.
+ * FUNÇÃO: Os timeouts de conexão e leitura viram o MENOR entre o configurado no cliente e o tempo restante.
+ * Sem tempo suficiente ('prazo.minimo'), a chamada nem é feita; um timeout causado pelo prazo vira 504.
+ * NOTA: Roda na thread da requisição (onde está o ThreadLocal), antes do hedge: as tentativas, nas threads do
+ * hedge, recebem os timeouts já limitados daqui.
+ */
+class ClienteComPrazo implements Client {
+
+    private final String cliente;
+    private final Client delegado;
+    private final Duration prazoMinimo;
+
+    ClienteComPrazo(String cliente, Client delegado, Duration prazoMinimo) {
+        this.cliente = cliente;
+        this.delegado = delegado;
+        this.prazoMinimo = prazoMinimo;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Optional<Duration> restante = PrazoDaRequisicao.restante();
+        if (restante.isEmpty()) {
+            return delegado.execute(request, options);
+        }
+        if (restante.get().compareTo(prazoMinimo) < 0) {
+            throw new GatewayTimeoutException("Erro: Prazo da requisição esgotado antes da chamada ao serviço '" + cliente + "'.");
+        }
+
+        long restanteMs = restante.get().toMillis();
+        Request.Options ajustadas = new Request.Options(
+                Math.min(options.connectTimeoutMillis(), restanteMs), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), restanteMs), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+        try {
+            return delegado.execute(request, ajustadas);
+        } catch (IOException e) {
+            if (PrazoDaRequisicao.restante().filter(tempo -> tempo.compareTo(prazoMinimo) >= 0).isEmpty()) {
+                throw new GatewayTimeoutException("Erro: Prazo da requisição esgotado aguardando o serviço '" + cliente + "'.", e);
+            }
+            throw e;
+        }
+    }
+}
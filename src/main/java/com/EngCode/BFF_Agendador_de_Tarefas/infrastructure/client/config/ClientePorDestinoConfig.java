@@ -0,0 +1,145 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.metricas.MetricasDosClientes;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.prazo.PrazoDaRequisicao;
+import feign.Client;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuração padrão de TODOS os Feign Clients (registrada em @EnableFeignClients(defaultConfiguration)).
+ * FUNÇÃO: Cada Feign Client (usuario, agendador-tarefas, notificacao) recebe o PRÓPRIO pool de conexões,
+ * dimensionado por 'http-cliente.<nome>.*' (com 'http-cliente.padrao.*' como valor padrão).
+ * Assim um destino lento não esgota as conexões dos outros.
+ * PROTEÇÃO: O transporte de cada cliente passa pelo próprio disjuntor + bulkhead (ClienteProtegido),
+ * configurado em 'http-cliente.<nome>.disjuntor.*' e 'http-cliente.<nome>.bulkhead.*'.
+ * PRAZO E HEDGE: A camada externa aplica o prazo da requisição (ClienteComPrazo); os GETs podem ter hedge
+ * ('http-cliente.<nome>.hedge.*', ClienteComHedge). Ordem: métricas -> prazo -> hedge -> disjuntor/bulkhead -> transporte.
+ * ATENÇÃO: Esta classe NÃO tem @Configuration de propósito. O Spring Cloud OpenFeign a carrega no contexto
+ * filho de cada cliente (onde 'spring.cloud.openfeign.client.name' é o nome do cliente); com @Configuration
+ * ela seria lida pelo component scan e viraria um único pool compartilhado.
+ */
+public class ClientePorDestinoConfig {
+
+    // Nome do Feign Client deste contexto filho.
+    @Value("${spring.cloud.openfeign.client.name}")
+    private String nomeCliente;
+
+    // Configuração efetiva de um cliente (propriedades do cliente com fallback para 'padrao').
+    private record ConfiguracaoDoPool(int maximoConexoes, int maximoPorRota, Duration tempoOcioso, Duration tempoDeVida,
+                                      Duration timeoutConexao, Duration timeoutLeitura, boolean http2) {
+    }
+
+    @Bean
+    // Timeouts de conexão e leitura deste cliente, aplicados pelo Feign a cada requisição.
+    public Request.Options opcoesDeRequisicao(Environment ambiente) {
+        ConfiguracaoDoPool configuracao = leConfiguracao(ambiente);
+        return new Request.Options(configuracao.timeoutConexao().toMillis(), TimeUnit.MILLISECONDS,
+                configuracao.timeoutLeitura().toMillis(), TimeUnit.MILLISECONDS, true);
+    }
+
+    @Bean
+    // Transporte HTTP do cliente (Apache HttpClient 5 com pool próprio ou HTTP/2), protegido pelo disjuntor.
+    public Client feignClient(Environment ambiente, RegistroDePoolsHttp registroDePools, RegistroDeDisjuntores registroDeDisjuntores,
+                              RegistroDeHedges registroDeHedges, MetricasDosClientes metricasDosClientes) {
+        DisjuntorDoCliente disjuntor = registroDeDisjuntores.disjuntorDe(nomeCliente);
+        Client cliente = new ClienteProtegido(transporte(leConfiguracao(ambiente), registroDePools), disjuntor);
+
+        if (Boolean.parseBoolean(propriedade(ambiente, "hedge.habilitado", "false"))) {
+            ExecutorService executor = registroDeHedges.criaExecutor(nomeCliente,
+                    Integer.parseInt(propriedade(ambiente, "hedge.maximo-threads", "64")));
+            ClienteComHedge clienteComHedge = new ClienteComHedge(nomeCliente, cliente, executor,
+                    registroDeHedges.agendador(), leConfiguracaoDoHedge(ambiente));
+            registroDeHedges.registra(nomeCliente, clienteComHedge, executor);
+            cliente = clienteComHedge;
+        }
+        cliente = new ClienteComPrazo(nomeCliente, cliente,
+                DurationStyle.detectAndParse(ambiente.getProperty("prazo.minimo", "50ms").trim()));
+        return new ClienteComMetricas(nomeCliente, cliente, metricasDosClientes);
+    }
+
+    @Bean
+    // Repassa ao microsserviço o tempo que resta do prazo da requisição (cabeçalho 'X-Prazo-Ms').
+    public RequestInterceptor repasseDoPrazo() {
+        return template -> PrazoDaRequisicao.restante().ifPresent(restante ->
+                template.header(PrazoDaRequisicao.CABECALHO, String.valueOf(Math.max(0, restante.toMillis()))));
+    }
+
+    private Client transporte(ConfiguracaoDoPool configuracao, RegistroDePoolsHttp registroDePools) {
+        if (configuracao.http2()) {
+            // HTTP/2: multiplexa as requisições em poucas conexões (o java.net.http gerencia o próprio pool).
+            registroDePools.registraHttp2(nomeCliente);
+            return new Http2Client(HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(configuracao.timeoutConexao())
+                    .build());
+        }
+
+        PoolingHttpClientConnectionManager gerenciador = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(configuracao.maximoConexoes())
+                .setMaxConnPerRoute(configuracao.maximoPorRota())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(configuracao.timeoutConexao()))
+                        .setTimeToLive(TimeValue.of(configuracao.tempoDeVida()))
+                        // Revalida conexões ociosas há mais de 2s antes do reuso (evita "connection reset" após keep-alive do servidor).
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        CloseableHttpClient httpClient = httpClientDoPool(gerenciador, configuracao);
+        registroDePools.registraHttp1(nomeCliente, gerenciador, httpClient); // O registro fecha o HttpClient no encerramento.
+
+        return new ApacheHttp5Client(httpClient);
+    }
+
+    private CloseableHttpClient httpClientDoPool(PoolingHttpClientConnectionManager gerenciador, ConfiguracaoDoPool configuracao) {
+        return HttpClients.custom()
+                .setConnectionManager(gerenciador)
+                // LIMPEZA: Fecha conexões ociosas há mais de 'tempo-ocioso' e as que passaram do tempo de vida.
+                .evictIdleConnections(TimeValue.of(configuracao.tempoOcioso()))
+                .evictExpiredConnections()
+                .disableAutomaticRetries() // Retentativas ficam a cargo de quem chama (ex: RetentativaDeNotificacoes).
+                .build();
+    }
+
+    private ConfiguracaoDoPool leConfiguracao(Environment ambiente) {
+        return new ConfiguracaoDoPool(
+                Integer.parseInt(propriedade(ambiente, "maximo-conexoes", "50")),
+                Integer.parseInt(propriedade(ambiente, "maximo-por-rota", "20")),
+                DurationStyle.detectAndParse(propriedade(ambiente, "tempo-ocioso", "PT30S")),
+                DurationStyle.detectAndParse(propriedade(ambiente, "tempo-de-vida", "PT5M")),
+                PropriedadesDoCliente.timeoutConexao(ambiente, nomeCliente),
+                PropriedadesDoCliente.timeoutLeitura(ambiente, nomeCliente),
+                PropriedadesDoCliente.http2(ambiente, nomeCliente));
+    }
+
+    private ClienteComHedge.Configuracao leConfiguracaoDoHedge(Environment ambiente) {
+        return new ClienteComHedge.Configuracao(
+                Integer.parseInt(propriedade(ambiente, "hedge.percentil", "95")),
+                DurationStyle.detectAndParse(propriedade(ambiente, "hedge.atraso-minimo", "20ms")),
+                DurationStyle.detectAndParse(propriedade(ambiente, "hedge.atraso-inicial", "500ms")),
+                Integer.parseInt(propriedade(ambiente, "hedge.taxa-maxima", "5")),
+                Integer.parseInt(propriedade(ambiente, "hedge.amostras", "512")));
+    }
+
+    private String propriedade(Environment ambiente, String chave, String padrao) {
+        return PropriedadesDoCliente.le(ambiente, nomeCliente, chave, padrao);
+    }
+}
@@ -0,0 +1,138 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ServiceUnavailableException;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Transporte do Feign envolvido pelo disjuntor e pelo bulkhead do cliente (ver DisjuntorDoCliente).
+ * FALHA: Erro de I/O (conexão recusada, timeout) ou resposta 5xx. Respostas 4xx são sucesso para o circuito
+ * (o destino respondeu; o erro é da requisição).
+ * RECUSA: Circuito aberto ou bulkhead cheio lançam ServiceUnavailableException (503) sem chamar o destino.
+ * VAGA: Com corpo, a vaga do bulkhead só volta quando o corpo é fechado (o decoder do Feign fecha ao terminar;
+ * no repasse, o Spring fecha depois de copiar o corpo para o frontend): a conexão continua ocupada até lá.
+ */
+class ClienteProtegido implements Client {
+
+    private final Client transporte;
+    private final DisjuntorDoCliente disjuntor;
+
+    ClienteProtegido(Client transporte, DisjuntorDoCliente disjuntor) {
+        this.transporte = transporte;
+        this.disjuntor = disjuntor;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (!disjuntor.permiteChamada()) {
+            throw circuitoAberto(disjuntor.getCliente());
+        }
+        if (!ocupaVaga()) {
+            disjuntor.desistiu();
+            throw bulkheadCheio(disjuntor.getCliente());
+        }
+
+        boolean falhou = true;
+        boolean vagaComOCorpo = false;
+        try {
+            Response response = transporte.execute(request, options);
+            falhou = response.status() >= 500;
+            if (response.body() == null) {
+                return response;
+            }
+            Response comVaga = response.toBuilder().body(new CorpoComVaga(response.body(), disjuntor)).build();
+            vagaComOCorpo = true;
+            return comVaga;
+        } finally {
+            if (!vagaComOCorpo) {
+                disjuntor.liberaVaga();
+            }
+            disjuntor.registraResultado(falhou); // O circuito avalia o status, que já chegou.
+        }
+    }
+
+    // Corpo que devolve a vaga do bulkhead ao ser fechado (pelo Body ou pelo InputStream/Reader dele), uma única vez.
+    private static final class CorpoComVaga implements Response.Body {
+
+        private final Response.Body corpo;
+        private final DisjuntorDoCliente disjuntor;
+        private final AtomicBoolean liberada = new AtomicBoolean();
+
+        private CorpoComVaga(Response.Body corpo, DisjuntorDoCliente disjuntor) {
+            this.corpo = corpo;
+            this.disjuntor = disjuntor;
+        }
+
+        @Override
+        public Integer length() {
+            return corpo.length();
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return corpo.isRepeatable();
+        }
+
+        @Override
+        public InputStream asInputStream() throws IOException {
+            return new FilterInputStream(corpo.asInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        libera();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public Reader asReader(Charset charset) throws IOException {
+            return new InputStreamReader(asInputStream(), charset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                corpo.close();
+            } finally {
+                libera();
+            }
+        }
+
+        private void libera() {
+            if (liberada.compareAndSet(false, true)) {
+                disjuntor.liberaVaga();
+            }
+        }
+    }
+
+    private boolean ocupaVaga() {
+        try {
+            return disjuntor.ocupaVaga();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static ServiceUnavailableException circuitoAberto(String cliente) {
+        return new ServiceUnavailableException("Erro: Serviço '" + cliente
+                + "' indisponível no momento (circuito aberto). Tente novamente em instantes.");
+    }
+
+    static ServiceUnavailableException bulkheadCheio(String cliente) {
+        return new ServiceUnavailableException("Erro: Serviço '" + cliente
+                + "' sobrecarregado (limite de chamadas simultâneas atingido). Tente novamente em instantes.");
+    }
+}
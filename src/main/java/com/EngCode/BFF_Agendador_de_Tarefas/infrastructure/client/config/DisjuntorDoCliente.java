@@ -0,0 +1,196 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstadoDisjuntorDTOResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Disjuntor (circuit breaker) + bulkhead de UM Feign Client.
+ * DISJUNTOR: Janela das últimas 'janela' chamadas. Com pelo menos 'minimo-chamadas' na janela e
+ * 'limite-falhas'% ou mais de falhas, o circuito ABRE e as chamadas falham na hora por 'tempo-aberto'.
+ * Depois disso fica MEIO_ABERTO: até 'chamadas-de-teste' chamadas passam; se todas tiverem sucesso o circuito
+ * FECHA, e qualquer falha o reabre.
+ * BULKHEAD: No máximo 'maximo-concorrente' chamadas simultâneas ao destino (espera até 'espera-maxima' por vaga),
+ * para que um destino lento não prenda todas as threads do Tomcat.
+ */
+@Slf4j
+class DisjuntorDoCliente {
+
+    enum Estado { FECHADO, ABERTO, MEIO_ABERTO }
+
+    record Configuracao(int janela, int minimoChamadas, int limiteFalhas, Duration tempoAberto, int chamadasDeTeste,
+                        int maximoConcorrente, Duration esperaMaxima) {
+    }
+
+    private final String cliente;
+    private final Configuracao configuracao;
+    private final Semaphore vagas;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Janela circular de resultados (true = falha) das últimas chamadas no estado FECHADO.
+    private final boolean[] resultados;
+    private int proximaPosicao;
+    private int chamadasNaJanela;
+    private int falhasNaJanela;
+    private Estado estado = Estado.FECHADO;
+    private long abertoAteNanos;
+    private Instant abertoAte; // Só para exibição.
+    private int testesEmAndamento;
+    private int testesComSucesso;
+
+    private final LongAdder rejeitadasPorCircuito = new LongAdder();
+    private final LongAdder rejeitadasPorBulkhead = new LongAdder();
+
+    DisjuntorDoCliente(String cliente, Configuracao configuracao) {
+        this.cliente = cliente;
+        this.configuracao = configuracao;
+        this.vagas = new Semaphore(configuracao.maximoConcorrente());
+        this.resultados = new boolean[configuracao.janela()];
+    }
+
+    // BLOCÃO 1: ENTRADA E SAÍDA DE UMA CHAMADA
+    // -------------------------------------------------------------------------
+
+    // Circuito: 'true' se a chamada pode seguir. No MEIO_ABERTO reserva uma das chamadas de teste.
+    boolean permiteChamada() {
+        lock.lock();
+        try {
+            if (estado == Estado.ABERTO && System.nanoTime() - abertoAteNanos >= 0) {
+                mudaPara(Estado.MEIO_ABERTO);
+            }
+            if (estado == Estado.FECHADO) {
+                return true;
+            }
+            if (estado == Estado.MEIO_ABERTO && testesEmAndamento < configuracao.chamadasDeTeste()) {
+                testesEmAndamento++;
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        rejeitadasPorCircuito.increment();
+        return false;
+    }
+
+    // Bulkhead: 'true' se conseguiu uma vaga (devolver com liberaVaga()).
+    boolean ocupaVaga() throws InterruptedException {
+        boolean ocupou = configuracao.esperaMaxima().isZero()
+                ? vagas.tryAcquire()
+                : vagas.tryAcquire(configuracao.esperaMaxima().toMillis(), TimeUnit.MILLISECONDS);
+        if (!ocupou) {
+            rejeitadasPorBulkhead.increment();
+        }
+        return ocupou;
+    }
+
+    // Bulkhead sem espera (chamadas assíncronas não podem bloquear a thread): 'true' se conseguiu uma vaga.
+    boolean ocupaVagaSemEspera() {
+        boolean ocupou = vagas.tryAcquire();
+        if (!ocupou) {
+            rejeitadasPorBulkhead.increment();
+        }
+        return ocupou;
+    }
+
+    void liberaVaga() {
+        vagas.release();
+    }
+
+    // Chamada liberada pelo circuito que não chegou a ser feita (ex: bulkhead cheio): devolve a chamada de teste.
+    void desistiu() {
+        lock.lock();
+        try {
+            if (estado == Estado.MEIO_ABERTO && testesEmAndamento > 0) {
+                testesEmAndamento--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void registraResultado(boolean falhou) {
+        lock.lock();
+        try {
+            switch (estado) {
+                case FECHADO -> {
+                    if (chamadasNaJanela == resultados.length) {
+                        falhasNaJanela -= resultados[proximaPosicao] ? 1 : 0; // Sai o resultado mais antigo.
+                    } else {
+                        chamadasNaJanela++;
+                    }
+                    resultados[proximaPosicao] = falhou;
+                    falhasNaJanela += falhou ? 1 : 0;
+                    proximaPosicao = (proximaPosicao + 1) % resultados.length;
+
+                    if (chamadasNaJanela >= configuracao.minimoChamadas()
+                            && falhasNaJanela * 100 >= configuracao.limiteFalhas() * chamadasNaJanela) {
+                        mudaPara(Estado.ABERTO);
+                    }
+                }
+                case MEIO_ABERTO -> {
+                    if (falhou) {
+                        mudaPara(Estado.ABERTO);
+                    } else if (++testesComSucesso >= configuracao.chamadasDeTeste()) {
+                        mudaPara(Estado.FECHADO);
+                    }
+                }
+                case ABERTO -> {
+                    // Resultado de chamada iniciada antes da abertura: não muda o estado.
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Chamar com o lock.
+    private void mudaPara(Estado novo) {
+        if (novo == Estado.ABERTO) {
+            abertoAteNanos = System.nanoTime() + configuracao.tempoAberto().toNanos();
+            abertoAte = Instant.now().plus(configuracao.tempoAberto());
+            log.warn("Circuito do serviço '{}' ABERTO por {} ({} falhas em {} chamadas).",
+                    cliente, configuracao.tempoAberto(), falhasNaJanela, chamadasNaJanela);
+        } else if (novo == Estado.FECHADO) {
+            log.info("Circuito do serviço '{}' FECHADO novamente.", cliente);
+        }
+        // Toda transição recomeça a contagem (janela e chamadas de teste).
+        estado = novo;
+        proximaPosicao = 0;
+        chamadasNaJanela = 0;
+        falhasNaJanela = 0;
+        testesEmAndamento = 0;
+        testesComSucesso = 0;
+    }
+
+    // BLOCÃO 2: MONITORAMENTO
+    // -------------------------------------------------------------------------
+
+    String getCliente() {
+        return cliente;
+    }
+
+    EstadoDisjuntorDTOResponse estado() {
+        lock.lock();
+        try {
+            return EstadoDisjuntorDTOResponse.builder()
+                    .cliente(cliente)
+                    .estado(estado.name())
+                    .chamadasNaJanela(chamadasNaJanela)
+                    .falhasNaJanela(falhasNaJanela)
+                    .abertoAte(estado == Estado.ABERTO ? abertoAte : null)
+                    .chamadasEmAndamento(configuracao.maximoConcorrente() - vagas.availablePermits())
+                    .maximoConcorrente(configuracao.maximoConcorrente())
+                    .rejeitadasPorCircuito(rejeitadasPorCircuito.sum())
+                    .rejeitadasPorBulkhead(rejeitadasPorBulkhead.sum())
+                    .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -3,18 +3,11 @@ package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
 // BLOCÃO 1: IMPORTAÇÕES E EXCEÇÕES NECESSÁRIAS
 // -------------------------------------------------------------------------
 
-// Importa todas as exceções personalizadas que o Feign traduzirá.
-import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.BusinessException;
-import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ConflictException;
-import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.IllegalArgumentException;
-import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ResourceNotFoundException;
-import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.UnauthorizedException;
-
 import feign.Response; // Objeto de resposta HTTP vindo do Microsserviço
 import feign.codec.ErrorDecoder; // Interface que obriga a implementação do método decode.
 
 import java.io.IOException; // Necessário para tratar erros de I/O (leitura do corpo da resposta).
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.util.Objects; // Usado para verificação de objetos (ex: se é nulo).
 
 public class FeingError implements ErrorDecoder {
@@ -27,69 +20,31 @@ public class FeingError implements ErrorDecoder {
     public Exception decode(String s, Response response) {
 
 
-        // BLOCÃO 2: EXTRAÇÃO DA MENSAGEM DO CORPO (Lógica Auxiliar)
+        // BLOCÃO 2: EXTRAÇÃO DO CORPO (Lógica Auxiliar)
         // -------------------------------------------------------------------------
-        // Chama o método auxiliar para tentar ler a mensagem detalhada do corpo da resposta HTTP.
-        String mensagemErro = mensagemErro(response);
-
-
-        switch (response.status()) {
-
-            // BLOCÃO 3: MAPEAMENTO DE STATUS HTTP PARA EXCEÇÕES JAVA
-            // -------------------------------------------------------------------------
-
-            case 400: // Bad Request (Requisição Malfeita)
-                // O BFF traduz o HTTP 400 (dados inválidos/má formação) para a exceção de Argumento Inválido.
-                return new IllegalArgumentException(
-                        "Erro: " + mensagemErro);
-
-            case 401: // Unauthorized (Não Autorizado)
-                // Traduz o HTTP 401 (falha de autenticação/Token) para UnauthorizedException.
-                return new UnauthorizedException(
-                        "Erro: " + mensagemErro);
+        // Chama o método auxiliar para abrir o corpo da resposta HTTP (onde o Microsserviço envia a mensagem detalhada).
+        InputStream corpo = corpo(response);
 
-            case 403: // Forbidden (Acesso Proibido)
-                // Traduz o HTTP 403 (falha de autorização/permissão) para UnauthorizedException.
-                return new ResourceNotFoundException(
-                        "Erro: " + mensagemErro);
-
-            case 404: // Not Found (Recurso não Encontrado)
-                // Traduz o HTTP 404 (recurso inexistente) para ResourceNotFoundException.
-                return new ResourceNotFoundException(
-                        "Erro: " + mensagemErro);
-
-            case 409: // Conflict (Conflito)
-                // Traduz o HTTP 409 (conflito de dados, ex: e-mail duplicado) para ConflictException.
-                return new ConflictException(
-                        "Erro: " + mensagemErro);
-
-            case 500: // Internal Server Error
-                // Traduz o HTTP 500 (falha interna não prevista no Microsserviço de Tarefas) para BusinessException.
-                return new BusinessException(
-                        "Erro: " + mensagemErro);
-
-            default:
-                // Retorno Padrão: Para qualquer outro código (ex: 502, 503, etc.), lança BusinessException.
-                return new BusinessException("Erro: " + mensagemErro);
-        }
 
+        // BLOCÃO 3: MAPEAMENTO DE STATUS HTTP PARA EXCEÇÕES JAVA
+        // -------------------------------------------------------------------------
+        // A tabela status -> exceção fica em MapeadorDeErros, compartilhada com o cliente assíncrono (client.jdk).
+        // Ele lê só o início do corpo (ErroDoMicrosservico.LIMITE_BYTES); o Feign fecha a resposta depois do decode.
+        return MapeadorDeErros.paraExcecao(response.status(), corpo);
     }
 
-    // BLOCÃO 4: MÉTODO AUXILIAR PARA EXTRAÇÃO DA MENSAGEM
+    // BLOCÃO 4: MÉTODO AUXILIAR PARA ABRIR O CORPO
     // -------------------------------------------------------------------------
-    private String mensagemErro (Response response) {
-        // Tenta ler o corpo da resposta HTTP (onde o Microsserviço envia a mensagem detalhada).
+    private InputStream corpo (Response response) {
         try {
             if (Objects.isNull(response.body())){
-                // Se o corpo da resposta for nulo (sem detalhes), retorna uma string vazia.
-                return "";
+                // Se o corpo da resposta for nulo (sem detalhes), o erro sai com o detalhe vazio.
+                return null;
             }
-            // Lê todo o conteúdo binário do corpo da resposta (InputStream) e o converte para String.
-            // Esta é a forma mais robusta de capturar a mensagem de erro que o outro serviço enviou.
-            return new String(response.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            return response.body().asInputStream();
         } catch (IOException e) {
-            // Se houver erro ao ler o corpo (ex: stream já fechado), lança uma exceção de Runtime.
-            throw new RuntimeException(e);
+            // Corpo ilegível (ex: stream já fechado): o status sozinho ainda define a exceção.
+            return null;
         }
     }
 
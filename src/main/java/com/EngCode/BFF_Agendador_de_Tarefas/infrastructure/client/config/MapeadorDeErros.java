@@ -0,0 +1,66 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.BusinessException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ConflictException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ErroDoMicrosservico;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.IllegalArgumentException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ResourceNotFoundException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.UnauthorizedException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Tradução de um status HTTP de erro (4xx ou 5xx) de um microsserviço para a exceção do BFF.
+ * FUNÇÃO: Regra única para as duas pilhas de cliente: o FeingError (Feign) e o cliente assíncrono (client.jdk).
+ * CUSTO: O corpo do erro é lido até ErroDoMicrosservico.LIMITE_BYTES e os 4xx (esperados, ex: token expirado
+ * numa onda de logins) viram exceções sem stack trace; os 5xx mantêm a pilha, porque indicam falha real.
+ * CONSTRUTOR LEVE: As exceções dos 4xx são criadas pelo construtor que recebe o ErroDoMicrosservico: sem stack trace
+ * (a pilha do decoder não ajuda a depurar e custa CPU a cada erro) e sem mensagem concatenada, que só é montada
+ * em getMessage().
+ */
+public final class MapeadorDeErros {
+
+    private MapeadorDeErros() {
+    }
+
+    // Corpo ainda no InputStream (Feign, repasse): lê só até o limite. Quem chama fecha o corpo.
+    public static RuntimeException paraExcecao(int status, InputStream corpo) {
+        try {
+            return paraExcecao(ErroDoMicrosservico.de(status, corpo));
+        } catch (IOException e) {
+            // Corpo ilegível (ex: conexão caiu no meio): o status sozinho ainda define a exceção.
+            return paraExcecao(new ErroDoMicrosservico(status, "", false));
+        }
+    }
+
+    public static RuntimeException paraExcecao(int status, byte[] corpo) {
+        return paraExcecao(ErroDoMicrosservico.de(status, corpo));
+    }
+
+    public static RuntimeException paraExcecao(ErroDoMicrosservico erro) {
+        return switch (erro.status()) {
+            // 400 Bad Request: dados inválidos/má formação.
+            case 400 -> new IllegalArgumentException(erro);
+            // 401 Unauthorized: falha de autenticação/Token.
+            case 401 -> new UnauthorizedException(erro);
+            // 403 Forbidden e 404 Not Found: recurso inexistente ou fora do alcance do usuário.
+            case 403, 404 -> new ResourceNotFoundException(erro);
+            // 409 Conflict: conflito de dados (ex: e-mail duplicado).
+            case 409 -> new ConflictException(erro);
+            // 500 e qualquer outro código (ex: 502, 503): falha não prevista no microsserviço.
+            default -> new BusinessException(erro.mensagem());
+        };
+    }
+
+    // Tipo da exceção de cada status, sem criá-la (tag 'excecao' de MetricasDosClientes). Mesma tabela de paraExcecao.
+    public static Class<? extends RuntimeException> tipoDaExcecao(int status) {
+        return switch (status) {
+            case 400 -> IllegalArgumentException.class;
+            case 401 -> UnauthorizedException.class;
+            case 403, 404 -> ResourceNotFoundException.class;
+            case 409 -> ConflictException.class;
+            default -> BusinessException.class;
+        };
+    }
+}
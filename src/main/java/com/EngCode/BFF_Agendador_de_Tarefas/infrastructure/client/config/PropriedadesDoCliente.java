@@ -0,0 +1,47 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Leitura das propriedades 'http-cliente.<nome>.*' de um cliente HTTP (com 'http-cliente.padrao.*' como padrão).
+ * FUNÇÃO: Fonte única para as duas pilhas de cliente (Feign e java.net.http assíncrono), que assim usam
+ * os mesmos timeouts, disjuntor e bulkhead por destino.
+ * NOTA: Valores lidos como texto: o contexto filho do Feign não tem os conversores do Spring Boot (ex: String -> Duration).
+ */
+public final class PropriedadesDoCliente {
+
+    private PropriedadesDoCliente() {
+    }
+
+    // Busca 'http-cliente.<nome>.<chave>', depois 'http-cliente.padrao.<chave>', depois o padrão do código.
+    public static String le(Environment ambiente, String cliente, String chave, String padrao) {
+        return ambiente.getProperty("http-cliente." + cliente + "." + chave,
+                ambiente.getProperty("http-cliente.padrao." + chave, padrao)).trim();
+    }
+
+    public static Duration timeoutConexao(Environment ambiente, String cliente) {
+        return DurationStyle.detectAndParse(le(ambiente, cliente, "timeout-conexao", "PT2S"));
+    }
+
+    public static Duration timeoutLeitura(Environment ambiente, String cliente) {
+        return DurationStyle.detectAndParse(le(ambiente, cliente, "timeout-leitura", "PT10S"));
+    }
+
+    public static boolean http2(Environment ambiente, String cliente) {
+        return Boolean.parseBoolean(le(ambiente, cliente, "http2", "false"));
+    }
+
+    static DisjuntorDoCliente.Configuracao disjuntor(Environment ambiente, String cliente) {
+        return new DisjuntorDoCliente.Configuracao(
+                Integer.parseInt(le(ambiente, cliente, "disjuntor.janela", "20")),
+                Integer.parseInt(le(ambiente, cliente, "disjuntor.minimo-chamadas", "10")),
+                Integer.parseInt(le(ambiente, cliente, "disjuntor.limite-falhas", "50")),
+                DurationStyle.detectAndParse(le(ambiente, cliente, "disjuntor.tempo-aberto", "PT30S")),
+                Integer.parseInt(le(ambiente, cliente, "disjuntor.chamadas-de-teste", "3")),
+                Integer.parseInt(le(ambiente, cliente, "bulkhead.maximo-concorrente", "40")),
+                DurationStyle.detectAndParse(le(ambiente, cliente, "bulkhead.espera-maxima", "0ms")));
+    }
+}
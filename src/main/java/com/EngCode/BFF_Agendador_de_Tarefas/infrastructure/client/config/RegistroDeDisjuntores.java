@@ -0,0 +1,69 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstadoDisjuntorDTOResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Registro dos disjuntores dos clientes HTTP (um por destino: usuario, agendador-tarefas, notificacao).
+ * FUNÇÃO: Expõe o estado de cada circuito (FECHADO, ABERTO, MEIO_ABERTO) e do bulkhead para monitoramento.
+ * COMPARTILHADO: O Feign (ClienteProtegido) e o cliente assíncrono (protege) usam o MESMO disjuntor por destino.
+ */
+@Component
+@RequiredArgsConstructor
+public class RegistroDeDisjuntores {
+
+    private final Environment ambiente;
+    private final Map<String, DisjuntorDoCliente> disjuntores = new ConcurrentSkipListMap<>();
+
+    // Disjuntor do cliente, criado na primeira vez com 'http-cliente.<nome>.disjuntor.*' e 'bulkhead.*'.
+    DisjuntorDoCliente disjuntorDe(String cliente) {
+        return disjuntores.computeIfAbsent(cliente, nome -> new DisjuntorDoCliente(nome, PropriedadesDoCliente.disjuntor(ambiente, nome)));
+    }
+
+    /**
+     * MÉTODO: protege(cliente, chamada, falhou)
+     * FUNÇÃO: Versão assíncrona do ClienteProtegido: passa pelo circuito e pelo bulkhead (sem espera por vaga)
+     * e registra o resultado quando o CompletableFuture termina. Exceção ou 'falhou' verdadeiro = falha.
+     * RECUSA: Devolve um CompletableFuture já falho com ServiceUnavailableException (503).
+     */
+    public <T> CompletableFuture<T> protege(String cliente, Supplier<CompletableFuture<T>> chamada, Predicate<T> falhou) {
+        DisjuntorDoCliente disjuntor = disjuntorDe(cliente);
+        if (!disjuntor.permiteChamada()) {
+            return CompletableFuture.failedFuture(ClienteProtegido.circuitoAberto(cliente));
+        }
+        if (!disjuntor.ocupaVagaSemEspera()) {
+            disjuntor.desistiu();
+            return CompletableFuture.failedFuture(ClienteProtegido.bulkheadCheio(cliente));
+        }
+
+        CompletableFuture<T> resultado;
+        try {
+            resultado = chamada.get();
+        } catch (RuntimeException e) {
+            disjuntor.liberaVaga();
+            disjuntor.registraResultado(true);
+            return CompletableFuture.failedFuture(e);
+        }
+        return resultado.whenComplete((resposta, erro) -> {
+            disjuntor.liberaVaga();
+            disjuntor.registraResultado(erro != null || falhou.test(resposta));
+        });
+    }
+
+    /**
+     * MÉTODO: estados()
+     * FUNÇÃO: Estado atual de todos os disjuntores, em ordem de nome do cliente.
+     */
+    public List<EstadoDisjuntorDTOResponse> estados() {
+        return disjuntores.values().stream().map(DisjuntorDoCliente::estado).toList();
+    }
+}
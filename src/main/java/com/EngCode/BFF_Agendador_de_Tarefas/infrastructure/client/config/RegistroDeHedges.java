@@ -0,0 +1,72 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasHedgeDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.assincrono.FabricaDeThreads;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registro dos clientes com hedge criados por ClientePorDestinoConfig (só os que têm 'hedge.habilitado').
+ * FUNÇÃO: Cria as threads das tentativas (principal e segunda) de cada cliente e o agendador (compartilhado) que as dispara
+ * quando o atraso vence; expõe as estatísticas e encerra as threads quando a aplicação encerra.
+ */
+@Component
+@RequiredArgsConstructor
+public class RegistroDeHedges {
+
+    private final FabricaDeThreads fabricaDeThreads; // Threads de plataforma ou virtuais (spring.threads.virtual.enabled).
+
+    private record HedgeRegistrado(ClienteComHedge cliente, ExecutorService executor) {
+    }
+
+    private final Map<String, HedgeRegistrado> hedges = new ConcurrentSkipListMap<>();
+    private ScheduledThreadPoolExecutor agendador;
+
+    @PostConstruct
+    void iniciaAgendador() {
+        agendador = new ScheduledThreadPoolExecutor(1, fabricaDeThreads.fabrica("hedge-agendador-", true));
+        // Quase todo GET termina antes do atraso e cancela o gatilho: sem isto, a fila guardaria os cancelados.
+        agendador.setRemoveOnCancelPolicy(true);
+    }
+
+    // Um gatilho por GET; a thread do agendador só repassa a segunda tentativa ao pool do cliente.
+    ScheduledExecutorService agendador() {
+        return agendador;
+    }
+
+    // Pool das tentativas: sem fila (SynchronousQueue); lotado, a principal roda em quem chamou e o GET segue sem hedge.
+    ExecutorService criaExecutor(String cliente, int maximoThreads) {
+        return new ThreadPoolExecutor(0, maximoThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                fabricaDeThreads.fabrica("hedge-" + cliente + "-", true));
+    }
+
+    void registra(String cliente, ClienteComHedge clienteComHedge, ExecutorService executor) {
+        hedges.put(cliente, new HedgeRegistrado(clienteComHedge, executor));
+    }
+
+    @PreDestroy
+    void encerraExecutores() {
+        agendador.shutdownNow();
+        hedges.values().forEach(hedge -> hedge.executor().shutdownNow());
+    }
+
+    /**
+     * MÉTODO: estatisticas()
+     * FUNÇÃO: Estatísticas de hedge de cada cliente habilitado, em ordem de nome do cliente.
+     */
+    public List<EstatisticasHedgeDTOResponse> estatisticas() {
+        return hedges.values().stream().map(hedge -> hedge.cliente().estatisticas()).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EstatisticasPoolHttpDTOResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Registro dos pools de conexão criados por ClientePorDestinoConfig (um por Feign Client).
+ * FUNÇÃO: Permite consultar as estatísticas (alocadas, pendentes, disponíveis) de cada pool
+ * e fecha os HttpClients (pool + thread de limpeza) quando a aplicação encerra.
+ */
+@Slf4j
+@Component
+public class RegistroDePoolsHttp {
+
+    // Pool de um cliente; 'gerenciador' é nulo no transporte HTTP/2 (o java.net.http não expõe o pool).
+    private record PoolRegistrado(String transporte, PoolingHttpClientConnectionManager gerenciador, CloseableHttpClient httpClient) {
+    }
+
+    private final Map<String, PoolRegistrado> pools = new ConcurrentSkipListMap<>();
+
+    void registraHttp1(String cliente, PoolingHttpClientConnectionManager gerenciador, CloseableHttpClient httpClient) {
+        pools.put(cliente, new PoolRegistrado("HTTP/1.1", gerenciador, httpClient));
+    }
+
+    void registraHttp2(String cliente) {
+        pools.put(cliente, new PoolRegistrado("HTTP/2", null, null));
+    }
+
+    @PreDestroy
+    void fechaPools() {
+        pools.forEach((cliente, pool) -> {
+            if (pool.httpClient() != null) {
+                try {
+                    pool.httpClient().close();
+                } catch (IOException e) {
+                    log.warn("Falha ao fechar o pool HTTP do cliente {}: {}", cliente, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * MÉTODO: estatisticas()
+     * FUNÇÃO: Estatísticas atuais de todos os pools, em ordem de nome do cliente.
+     */
+    public List<EstatisticasPoolHttpDTOResponse> estatisticas() {
+        return pools.entrySet().stream()
+                .map(entrada -> {
+                    PoolRegistrado pool = entrada.getValue();
+                    EstatisticasPoolHttpDTOResponse.EstatisticasPoolHttpDTOResponseBuilder estatisticas =
+                            EstatisticasPoolHttpDTOResponse.builder()
+                                    .cliente(entrada.getKey())
+                                    .transporte(pool.transporte());
+                    if (pool.gerenciador() != null) {
+                        PoolStats totais = pool.gerenciador().getTotalStats();
+                        estatisticas.maximoConexoes(pool.gerenciador().getMaxTotal())
+                                .maximoPorRota(pool.gerenciador().getDefaultMaxPerRoute())
+                                .alocadas(totais.getLeased())
+                                .pendentes(totais.getPending())
+                                .disponiveis(totais.getAvailable());
+                    }
+                    return estatisticas.build();
+                })
+                .toList();
+    }
+}
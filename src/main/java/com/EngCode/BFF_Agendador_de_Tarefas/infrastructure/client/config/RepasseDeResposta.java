@@ -0,0 +1,69 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import feign.Response;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Repasse (passthrough) de uma resposta crua do Feign para o frontend, sem desserializar o corpo.
+ * FUNÇÃO: O corpo vira um InputStreamResource, que o Spring MVC copia em blocos direto para a saída do servlet
+ * (e fecha, devolvendo a conexão ao pool). Nenhuma lista de DTOs é montada no BFF.
+ * CABEÇALHOS: Só Content-Type e os cabeçalhos pedidos (ex: X-Proximo-Cursor) são repassados; os de transporte
+ * (Content-Length, Transfer-Encoding, Connection, Content-Encoding) ficam a cargo do Tomcat.
+ * ERROS: Status >= 400 vira a exceção de MapeadorDeErros, como no FeingError.
+ */
+public final class RepasseDeResposta {
+
+    private RepasseDeResposta() {
+    }
+
+    public static ResponseEntity<Resource> paraEntidade(Response resposta, String... cabecalhosRepassados) {
+        if (resposta.status() >= 400) {
+            throw erroEFecha(resposta);
+        }
+
+        HttpHeaders cabecalhos = new HttpHeaders();
+        cabecalhos.setContentType(primeiro(resposta, HttpHeaders.CONTENT_TYPE)
+                .map(MediaType::parseMediaType)
+                .orElse(MediaType.APPLICATION_JSON));
+        for (String nome : cabecalhosRepassados) {
+            primeiro(resposta, nome).filter(valor -> !valor.isBlank()).ifPresent(valor -> cabecalhos.set(nome, valor));
+        }
+
+        if (resposta.body() == null) {
+            return ResponseEntity.status(resposta.status()).headers(cabecalhos).build();
+        }
+        try {
+            InputStream corpo = resposta.body().asInputStream();
+            return ResponseEntity.status(resposta.status()).headers(cabecalhos).body(new InputStreamResource(corpo));
+        } catch (IOException e) {
+            resposta.close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Os nomes de cabeçalho do Feign não diferenciam maiúsculas de minúsculas.
+    private static Optional<String> primeiro(Response resposta, String nome) {
+        Collection<String> valores = resposta.headers().get(nome);
+        return valores == null ? Optional.empty() : valores.stream().findFirst();
+    }
+
+    // Lê só o início do corpo do erro (ErroDoMicrosservico.LIMITE_BYTES) e devolve a conexão.
+    private static RuntimeException erroEFecha(Response resposta) {
+        try (resposta) {
+            return MapeadorDeErros.paraExcecao(resposta.status(),
+                    resposta.body() == null ? null : resposta.body().asInputStream());
+        } catch (IOException e) {
+            return MapeadorDeErros.paraExcecao(resposta.status(), (InputStream) null);
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config.MapeadorDeErros;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config.PropriedadesDoCliente;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config.RegistroDeDisjuntores;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.BusinessException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ErroDoMicrosservico;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.GatewayTimeoutException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.metricas.MetricasDosClientes;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.prazo.PrazoDaRequisicao;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Pilha NÃO bloqueante dos clientes HTTP (java.net.http.HttpClient assíncrono), alternativa ao Feign.
+ * ATIVAÇÃO: 'http-cliente.implementacao=jdk'. UsuarioClientJdk, TarefasClientJdk e EmailClientJdk passam a ser
+ * as implementações injetadas de UsuarioClient, TarefasClient e EmailClient (Feign continua como padrão).
+ * FUNÇÃO: Nenhuma thread fica presa esperando o microsserviço: as respostas chegam pelo seletor do HttpClient
+ * e completam um CompletableFuture (métodos '...Async'). As variantes '...Async' dos serviços compõem esses
+ * futuros direto (exceto as leituras com cache, que carregam de forma síncrona); os métodos do contrato,
+ * usados pelos caminhos síncronos (ex: CronService), aguardam o futuro.
+ * MESMAS REGRAS DO FEIGN: Timeouts e HTTP/2 de 'http-cliente.<nome>.*', o mesmo disjuntor + bulkhead por destino
+ * (RegistroDeDisjuntores.protege), o prazo da requisição (PrazoDaRequisicao) e a mesma tradução de erros
+ * (MapeadorDeErros, usada pelo FeingError), além das mesmas métricas (MetricasDosClientes, tag 'metodo' = operação
+ * informada em Destino.get/post/...). O hedge de GETs existe só na pilha Feign.
+ */
+@Component
+@ConditionalOnProperty(name = "http-cliente.implementacao", havingValue = "jdk")
+public class ClienteHttpJdk {
+
+    private final ObjectMapper objectMapper;
+    private final Environment ambiente;
+    private final RegistroDeDisjuntores registroDeDisjuntores;
+    private final MetricasDosClientes metricasDosClientes;
+    private final Duration prazoMinimo;
+
+    public ClienteHttpJdk(ObjectMapper objectMapper, Environment ambiente, RegistroDeDisjuntores registroDeDisjuntores,
+                          MetricasDosClientes metricasDosClientes, @Value("${prazo.minimo:50ms}") String prazoMinimo) {
+        this.objectMapper = objectMapper;
+        this.ambiente = ambiente;
+        this.registroDeDisjuntores = registroDeDisjuntores;
+        this.metricasDosClientes = metricasDosClientes;
+        this.prazoMinimo = DurationStyle.detectAndParse(prazoMinimo.trim());
+    }
+
+    /**
+     * MÉTODO: destino(cliente, urlBase)
+     * FUNÇÃO: Cria o HttpClient de um destino (um por cliente, com o próprio pool de conexões).
+     * A URL pode vir sem esquema (ex: 'localhost:8080'), como nas propriedades usadas pelo Feign.
+     */
+    public Destino destino(String cliente, String urlBase) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(PropriedadesDoCliente.timeoutConexao(ambiente, cliente))
+                .version(PropriedadesDoCliente.http2(ambiente, cliente) ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        String url = urlBase.startsWith("http://") || urlBase.startsWith("https://") ? urlBase : "http://" + urlBase;
+        return new Destino(cliente, url, httpClient, PropriedadesDoCliente.timeoutLeitura(ambiente, cliente));
+    }
+
+    /**
+     * MÉTODO: aguarda(futuro)
+     * FUNÇÃO: Ponte para os métodos síncronos do contrato: espera o resultado e relança a exceção original
+     * (ex: ResourceNotFoundException), como o Feign faria.
+     */
+    public static <T> T aguarda(CompletableFuture<T> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            throw paraRuntime(e.getCause());
+        }
+    }
+
+    private static RuntimeException paraRuntime(Throwable erro) {
+        if (erro instanceof CompletionException && erro.getCause() != null) {
+            return paraRuntime(erro.getCause());
+        }
+        if (erro instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (erro instanceof Error grave) {
+            throw grave;
+        }
+        return new BusinessException("Erro: " + erro.getMessage(), erro);
+    }
+
+    // BLOCÃO 1: DESTINO (um microsserviço)
+    // -------------------------------------------------------------------------
+
+    public final class Destino {
+
+        private final String cliente;
+        private final String url;
+        private final HttpClient httpClient;
+        private final Duration timeoutLeitura;
+
+        private Destino(String cliente, String url, HttpClient httpClient, Duration timeoutLeitura) {
+            this.cliente = cliente;
+            this.url = url;
+            this.httpClient = httpClient;
+            this.timeoutLeitura = timeoutLeitura;
+        }
+
+        public Chamada get(String operacao, String caminho) {
+            return new Chamada(this, operacao, "GET", caminho);
+        }
+
+        public Chamada post(String operacao, String caminho) {
+            return new Chamada(this, operacao, "POST", caminho);
+        }
+
+        public Chamada put(String operacao, String caminho) {
+            return new Chamada(this, operacao, "PUT", caminho);
+        }
+
+        public Chamada patch(String operacao, String caminho) {
+            return new Chamada(this, operacao, "PATCH", caminho);
+        }
+
+        public Chamada delete(String operacao, String caminho) {
+            return new Chamada(this, operacao, "DELETE", caminho);
+        }
+    }
+
+    // BLOCÃO 2: CHAMADA (uma requisição)
+    // -------------------------------------------------------------------------
+
+    public final class Chamada {
+
+        private final Destino destino;
+        private final String operacao; // Método do contrato (ex: buscaUsuarioPorEmail), tag 'metodo' das métricas.
+        private final String metodo;
+        private final StringBuilder caminho;
+        private char separador = '?';
+        private String token;
+        private Object corpo;
+
+        private Chamada(Destino destino, String operacao, String metodo, String caminho) {
+            this.destino = destino;
+            this.operacao = operacao;
+            this.metodo = metodo;
+            this.caminho = new StringBuilder(destino.url).append(caminho);
+        }
+
+        // Query Parameter (ignorado se nulo, como no Feign). Datas em ISO (ex: 2025-10-17T10:00:00).
+        public Chamada parametro(String nome, Object valor) {
+            if (valor != null) {
+                caminho.append(separador).append(nome).append('=').append(codifica(formata(valor)));
+                separador = '&';
+            }
+            return this;
+        }
+
+        public Chamada token(String token) {
+            this.token = token;
+            return this;
+        }
+
+        public Chamada corpo(Object corpo) {
+            this.corpo = corpo;
+            return this;
+        }
+
+        public <T> CompletableFuture<T> recebe(Class<T> tipo) {
+            return envia().thenApply(resposta -> leJson(resposta.body(), tipo));
+        }
+
+        public <T> CompletableFuture<T> recebe(TypeReference<T> tipo) {
+            return envia().thenApply(resposta -> leJson(resposta.body(), tipo));
+        }
+
+        // Resposta como texto puro (ex: token JWT do login).
+        public CompletableFuture<String> recebeTexto() {
+            return envia().thenApply(resposta -> new String(resposta.body(), StandardCharsets.UTF_8));
+        }
+
+        public CompletableFuture<Void> recebeNada() {
+            return envia().thenApply(resposta -> null);
+        }
+
+        // Resposta com status e cabeçalhos (ex: cursor da próxima página).
+        public <T> CompletableFuture<ResponseEntity<T>> recebeEntidade(TypeReference<T> tipo) {
+            return envia().thenApply(resposta -> {
+                HttpHeaders cabecalhos = new HttpHeaders();
+                resposta.headers().map().forEach(cabecalhos::addAll);
+                return ResponseEntity.status(resposta.statusCode()).headers(cabecalhos).body(leJson(resposta.body(), tipo));
+            });
+        }
+
+        // Resposta com o corpo ainda aberto (repasse sem conversão); quem chama deve fechar o InputStream.
+        public CompletableFuture<HttpResponse<InputStream>> recebeFluxo() {
+            return envia(HttpResponse.BodyHandlers.ofInputStream(), ClienteHttpJdk::erroEFecha);
+        }
+
+        public CompletableFuture<HttpResponse<byte[]>> envia() {
+            return envia(corpoComErroLimitado(), resposta -> MapeadorDeErros.paraExcecao(resposta.statusCode(), resposta.body()));
+        }
+
+        /**
+         * MÉTODO: envia(leitorDoCorpo, erroDaResposta)
+         * FUNÇÃO: Dispara a requisição sem bloquear. Deve ser chamado na thread da requisição HTTP do BFF
+         * (onde está o prazo). Status >= 400 completa o futuro com a exceção de MapeadorDeErros.
+         */
+        private <B> CompletableFuture<HttpResponse<B>> envia(HttpResponse.BodyHandler<B> leitorDoCorpo,
+                                                             Function<HttpResponse<B>, RuntimeException> erroDaResposta) {
+            MetricasDosClientes.Medicao medicao = metricasDosClientes.inicia(destino.cliente, operacao);
+            Optional<Duration> restante = PrazoDaRequisicao.restante();
+            if (restante.isPresent() && restante.get().compareTo(prazoMinimo) < 0) {
+                return falhaMedida(medicao, new GatewayTimeoutException(
+                        "Erro: Prazo da requisição esgotado antes da chamada ao serviço '" + destino.cliente + "'."));
+            }
+
+            HttpRequest requisicao;
+            try {
+                requisicao = montaRequisicao(restante);
+            } catch (JsonProcessingException e) {
+                return falhaMedida(medicao, new BusinessException("Erro: Falha ao serializar a requisição.", e));
+            }
+            long limiteNanos = restante.map(tempo -> System.nanoTime() + tempo.toNanos()).orElse(Long.MAX_VALUE);
+
+            return registroDeDisjuntores.protege(destino.cliente,
+                            () -> destino.httpClient.sendAsync(requisicao, leitorDoCorpo),
+                            resposta -> resposta.statusCode() >= 500)
+                    .whenComplete((resposta, erro) -> {
+                        if (erro != null) {
+                            medicao.falha(erro);
+                        } else {
+                            medicao.resposta(resposta.statusCode());
+                        }
+                    })
+                    .handle((resposta, erro) -> {
+                        if (erro != null) {
+                            throw traduzFalha(erro, limiteNanos);
+                        }
+                        if (resposta.statusCode() >= 400) {
+                            throw erroDaResposta.apply(resposta);
+                        }
+                        return resposta;
+                    });
+        }
+
+        private static <T> CompletableFuture<T> falhaMedida(MetricasDosClientes.Medicao medicao, RuntimeException erro) {
+            medicao.falha(erro);
+            return CompletableFuture.failedFuture(erro);
+        }
+
+        private HttpRequest montaRequisicao(Optional<Duration> restante) throws JsonProcessingException {
+            Duration timeout = restante.filter(tempo -> tempo.compareTo(destino.timeoutLeitura) < 0).orElse(destino.timeoutLeitura);
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(caminho.toString())).timeout(timeout);
+            if (token != null) {
+                builder.header("Authorization", token);
+            }
+            restante.ifPresent(tempo -> builder.header(PrazoDaRequisicao.CABECALHO, String.valueOf(Math.max(0, tempo.toMillis()))));
+
+            if (corpo == null) {
+                return builder.method(metodo, HttpRequest.BodyPublishers.noBody()).build();
+            }
+            return builder.header("Content-Type", "application/json")
+                    .method(metodo, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo)))
+                    .build();
+        }
+
+        // Falha de transporte: I/O depois do prazo vira 504; demais viram BusinessException (as do protege, ex: 503, seguem).
+        private RuntimeException traduzFalha(Throwable erro, long limiteNanos) {
+            Throwable causa = erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
+            if (causa instanceof IOException) {
+                if (limiteNanos - System.nanoTime() < prazoMinimo.toNanos()) {
+                    return new GatewayTimeoutException(
+                            "Erro: Prazo da requisição esgotado aguardando o serviço '" + destino.cliente + "'.", causa);
+                }
+                return new BusinessException("Erro: Falha de comunicação com o serviço '" + destino.cliente + "'.", causa);
+            }
+            return paraRuntime(causa);
+        }
+    }
+
+    // BLOCÃO 3: CONVERSÕES
+    // -------------------------------------------------------------------------
+
+    // Corpo vazio vira null, como no decoder do Feign.
+    private <T> T leJson(byte[] corpo, Class<T> tipo) {
+        try {
+            return corpo.length == 0 ? null : objectMapper.readValue(corpo, tipo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T leJson(byte[] corpo, TypeReference<T> tipo) {
+        try {
+            return corpo.length == 0 ? null : objectMapper.readValue(corpo, tipo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Respostas de erro (>= 400) guardam só o início do corpo; as demais são lidas inteiras.
+    private static HttpResponse.BodyHandler<byte[]> corpoComErroLimitado() {
+        return info -> info.statusCode() >= 400
+                ? HttpResponse.BodySubscribers.fromSubscriber(new CorpoLimitado(), CorpoLimitado::bytes)
+                : HttpResponse.BodySubscribers.ofByteArray();
+    }
+
+    // Copia até ErroDoMicrosservico.LIMITE_BYTES + 1 bytes e descarta o resto, mas consome a resposta até o fim
+    // (a conexão volta ao pool do HttpClient).
+    private static final class CorpoLimitado implements Flow.Subscriber<List<ByteBuffer>> {
+
+        private final ByteArrayOutputStream lidos = new ByteArrayOutputStream();
+
+        @Override
+        public void onSubscribe(Flow.Subscription assinatura) {
+            assinatura.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> partes) {
+            for (ByteBuffer parte : partes) {
+                int cabe = Math.min(parte.remaining(), ErroDoMicrosservico.LIMITE_BYTES + 1 - lidos.size());
+                if (cabe > 0) {
+                    byte[] copia = new byte[cabe];
+                    parte.get(copia);
+                    lidos.writeBytes(copia);
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable erro) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        byte[] bytes() {
+            return lidos.toByteArray();
+        }
+    }
+
+    // Lê só o início do corpo do erro (ErroDoMicrosservico.LIMITE_BYTES) e fecha o InputStream.
+    private static RuntimeException erroEFecha(HttpResponse<InputStream> resposta) {
+        try (InputStream corpo = resposta.body()) {
+            return MapeadorDeErros.paraExcecao(resposta.statusCode(), corpo);
+        } catch (IOException e) {
+            return MapeadorDeErros.paraExcecao(resposta.statusCode(), (InputStream) null);
+        }
+    }
+
+    private static String formata(Object valor) {
+        if (valor instanceof LocalDateTime data) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(data);
+        }
+        return valor instanceof Enum<?> constante ? constante.name() : valor.toString();
+    }
+
+    // Codificação de URL para query e caminho (espaço vira %20, válido nos dois).
+    static String codifica(String valor) {
+        return URLEncoder.encode(valor, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,58 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.ResultadoEnvioEmailDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.EmailClient;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk.ClienteHttpJdk.aguarda;
+
+/**
+ * EmailClient sobre o HttpClient assíncrono do JDK (ver ClienteHttpJdk).
+ * Mesmos caminhos do Feign Client 'notificacao'; cada método tem a variante '...Async' não bloqueante.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "http-cliente.implementacao", havingValue = "jdk")
+public class EmailClientJdk implements EmailClient {
+
+    private static final TypeReference<List<ResultadoEnvioEmailDTOResponse>> LISTA_DE_RESULTADOS = new TypeReference<>() {
+    };
+
+    private final ClienteHttpJdk.Destino destino;
+
+    public EmailClientJdk(ClienteHttpJdk clienteHttp, @Value("${notificacao.url}") String url) {
+        this.destino = clienteHttp.destino("notificacao", url);
+    }
+
+    // BLOCÃO 1: CONTRATO SÍNCRONO (EmailClient)
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void enviarEmail(TarefasDTOResponse tarefasDTOResponse) {
+        aguarda(enviarEmailAsync(tarefasDTOResponse));
+    }
+
+    @Override
+    public List<ResultadoEnvioEmailDTOResponse> enviarEmailsEmLote(List<TarefasDTOResponse> tarefas) {
+        return aguarda(enviarEmailsEmLoteAsync(tarefas));
+    }
+
+    // BLOCÃO 2: VARIANTES NÃO BLOQUEANTES
+    // -------------------------------------------------------------------------
+
+    public CompletableFuture<Void> enviarEmailAsync(TarefasDTOResponse tarefasDTOResponse) {
+        return destino.post("enviarEmail", "").corpo(tarefasDTOResponse).recebeNada();
+    }
+
+    public CompletableFuture<List<ResultadoEnvioEmailDTOResponse>> enviarEmailsEmLoteAsync(List<TarefasDTOResponse> tarefas) {
+        return destino.post("enviarEmailsEmLote", "/lote").corpo(tarefas).recebe(LISTA_DE_RESULTADOS);
+    }
+}
@@ -0,0 +1,169 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.in.TarefasDTORequest;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.TarefasClient;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.enums.StatusNotificacaoEnum;
+import com.fasterxml.jackson.core.type.TypeReference;
+import feign.Request;
+import feign.Response;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk.ClienteHttpJdk.aguarda;
+
+/**
+ * TarefasClient sobre o HttpClient assíncrono do JDK (ver ClienteHttpJdk).
+ * Mesmos caminhos do Feign Client 'agendador-tarefas'; cada método tem a variante '...Async' não bloqueante.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "http-cliente.implementacao", havingValue = "jdk")
+public class TarefasClientJdk implements TarefasClient {
+
+    private static final TypeReference<List<TarefasDTOResponse>> LISTA_DE_TAREFAS = new TypeReference<>() {
+    };
+
+    private final ClienteHttpJdk.Destino destino;
+
+    public TarefasClientJdk(ClienteHttpJdk clienteHttp, @Value("${agendador-tarefas.url}") String url) {
+        this.destino = clienteHttp.destino("agendador-tarefas", url);
+    }
+
+    // BLOCÃO 1: CONTRATO SÍNCRONO (TarefasClient)
+    // -------------------------------------------------------------------------
+
+    @Override
+    public TarefasDTOResponse gravarTarefas(TarefasDTORequest tarefasDTO, String token) {
+        return aguarda(gravarTarefasAsync(tarefasDTO, token));
+    }
+
+    @Override
+    public List<TarefasDTOResponse> buscarListaTarefasPorPeriodo(LocalDateTime dataInicial, LocalDateTime dataFinal, String token) {
+        return aguarda(buscarListaTarefasPorPeriodoAsync(dataInicial, dataFinal, token));
+    }
+
+    @Override
+    public ResponseEntity<List<TarefasDTOResponse>> buscarPaginaTarefasPorPeriodo(LocalDateTime dataInicial, LocalDateTime dataFinal,
+                                                                                  String cursor, int tamanho, String token) {
+        return aguarda(buscarPaginaTarefasPorPeriodoAsync(dataInicial, dataFinal, cursor, tamanho, token));
+    }
+
+    @Override
+    public List<TarefasDTOResponse> buscarListaTarefasPorEmail(String token) {
+        return aguarda(buscarListaTarefasPorEmailAsync(token));
+    }
+
+    @Override
+    public Response repassarListaTarefasPorEmail(String token) {
+        return paraRespostaFeign(aguarda(repassarListaTarefasPorEmailAsync(token)));
+    }
+
+    @Override
+    public Response repassarTarefasPorPeriodo(LocalDateTime dataInicial, LocalDateTime dataFinal, String cursor, Integer tamanho,
+                                              String token) {
+        return paraRespostaFeign(aguarda(repassarTarefasPorPeriodoAsync(dataInicial, dataFinal, cursor, tamanho, token)));
+    }
+
+    @Override
+    public void deletaTarefaPorId(String id, String token) {
+        aguarda(deletaTarefaPorIdAsync(id, token));
+    }
+
+    @Override
+    public TarefasDTOResponse alteraStatusDeNotificacao(StatusNotificacaoEnum statusNotificacaoEnum, String id, String token) {
+        return aguarda(alteraStatusDeNotificacaoAsync(statusNotificacaoEnum, id, token));
+    }
+
+    @Override
+    public List<TarefasDTOResponse> alteraStatusDeNotificacaoEmLote(StatusNotificacaoEnum statusNotificacaoEnum, List<String> ids, String token) {
+        return aguarda(alteraStatusDeNotificacaoEmLoteAsync(statusNotificacaoEnum, ids, token));
+    }
+
+    @Override
+    public TarefasDTOResponse updateDeTarefas(TarefasDTORequest tarefasDTO, String id, String token) {
+        return aguarda(updateDeTarefasAsync(tarefasDTO, id, token));
+    }
+
+    // BLOCÃO 2: VARIANTES NÃO BLOQUEANTES
+    // -------------------------------------------------------------------------
+
+    public CompletableFuture<TarefasDTOResponse> gravarTarefasAsync(TarefasDTORequest tarefasDTO, String token) {
+        return destino.post("gravarTarefas", "").corpo(tarefasDTO).token(token).recebe(TarefasDTOResponse.class);
+    }
+
+    public CompletableFuture<List<TarefasDTOResponse>> buscarListaTarefasPorPeriodoAsync(LocalDateTime dataInicial, LocalDateTime dataFinal,
+                                                                                          String token) {
+        return destino.get("buscarListaTarefasPorPeriodo", "/eventos")
+                .parametro("dataInicial", dataInicial).parametro("dataFinal", dataFinal).token(token)
+                .recebe(LISTA_DE_TAREFAS);
+    }
+
+    public CompletableFuture<ResponseEntity<List<TarefasDTOResponse>>> buscarPaginaTarefasPorPeriodoAsync(
+            LocalDateTime dataInicial, LocalDateTime dataFinal, String cursor, int tamanho, String token) {
+        return destino.get("buscarPaginaTarefasPorPeriodo", "/eventos")
+                .parametro("dataInicial", dataInicial).parametro("dataFinal", dataFinal)
+                .parametro("cursor", cursor).parametro("tamanho", tamanho).token(token)
+                .recebeEntidade(LISTA_DE_TAREFAS);
+    }
+
+    public CompletableFuture<List<TarefasDTOResponse>> buscarListaTarefasPorEmailAsync(String token) {
+        return destino.get("buscarListaTarefasPorEmail", "").token(token).recebe(LISTA_DE_TAREFAS);
+    }
+
+    public CompletableFuture<HttpResponse<InputStream>> repassarListaTarefasPorEmailAsync(String token) {
+        return destino.get("repassarListaTarefasPorEmail", "").token(token).recebeFluxo();
+    }
+
+    public CompletableFuture<HttpResponse<InputStream>> repassarTarefasPorPeriodoAsync(LocalDateTime dataInicial, LocalDateTime dataFinal,
+                                                                                        String cursor, Integer tamanho, String token) {
+        return destino.get("repassarTarefasPorPeriodo", "/eventos").parametro("dataInicial", dataInicial).parametro("dataFinal", dataFinal)
+                .parametro("cursor", cursor).parametro("tamanho", tamanho).token(token)
+                .recebeFluxo();
+    }
+
+    public CompletableFuture<Void> deletaTarefaPorIdAsync(String id, String token) {
+        return destino.delete("deletaTarefaPorId", "").parametro("id", id).token(token).recebeNada();
+    }
+
+    public CompletableFuture<TarefasDTOResponse> alteraStatusDeNotificacaoAsync(StatusNotificacaoEnum statusNotificacaoEnum, String id,
+                                                                                String token) {
+        return destino.patch("alteraStatusDeNotificacao", "").parametro("status", statusNotificacaoEnum).parametro("id", id).token(token)
+                .recebe(TarefasDTOResponse.class);
+    }
+
+    public CompletableFuture<List<TarefasDTOResponse>> alteraStatusDeNotificacaoEmLoteAsync(StatusNotificacaoEnum statusNotificacaoEnum,
+                                                                                             List<String> ids, String token) {
+        return destino.patch("alteraStatusDeNotificacaoEmLote", "/lote").parametro("status", statusNotificacaoEnum).corpo(ids).token(token)
+                .recebe(LISTA_DE_TAREFAS);
+    }
+
+    public CompletableFuture<TarefasDTOResponse> updateDeTarefasAsync(TarefasDTORequest tarefasDTO, String id, String token) {
+        return destino.put("updateDeTarefas", "").parametro("id", id).corpo(tarefasDTO).token(token).recebe(TarefasDTOResponse.class);
+    }
+
+    // O contrato do repasse usa a resposta crua do Feign: o corpo aberto do HttpClient é embrulhado sem cópia.
+    // Pública para as variantes assíncronas do TarefasService repassarem a resposta sem bloquear.
+    public static Response paraRespostaFeign(HttpResponse<InputStream> resposta) {
+        Request requisicao = Request.create(Request.HttpMethod.GET, resposta.uri().toString(), Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(resposta.statusCode())
+                .headers(new HashMap<>(resposta.headers().map()))
+                .body(resposta.body(), null)
+                .request(requisicao)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.in.EnderecoDTORequest;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.in.LoginDTORequest;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.in.TelefoneDTORequest;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.in.UsuarioDTORequest;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.EnderecoDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TelefoneDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.UsuarioDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.ViaCepDTORespose;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.UsuarioClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk.ClienteHttpJdk.aguarda;
+import static com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.jdk.ClienteHttpJdk.codifica;
+
+/**
+ * UsuarioClient sobre o HttpClient assíncrono do JDK (ver ClienteHttpJdk).
+ * Mesmos caminhos do Feign Client 'usuario'; cada método tem a variante '...Async' não bloqueante.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "http-cliente.implementacao", havingValue = "jdk")
+public class UsuarioClientJdk implements UsuarioClient {
+
+    private final ClienteHttpJdk.Destino destino;
+
+    public UsuarioClientJdk(ClienteHttpJdk clienteHttp, @Value("${usuario.url}") String url) {
+        this.destino = clienteHttp.destino("usuario", url);
+    }
+
+    // BLOCÃO 1: CONTRATO SÍNCRONO (UsuarioClient)
+    // -------------------------------------------------------------------------
+
+    @Override
+    public UsuarioDTOResponse buscaUsuarioPorEmail(String email, String token) {
+        return aguarda(buscaUsuarioPorEmailAsync(email, token));
+    }
+
+    @Override
+    public UsuarioDTOResponse salvaUsuario(UsuarioDTORequest usuarioDTO) {
+        return aguarda(salvaUsuarioAsync(usuarioDTO));
+    }
+
+    @Override
+    public String login(LoginDTORequest loginDTORequest) {
+        return aguarda(loginAsync(loginDTORequest));
+    }
+
+    @Override
+    public void deletaUsuarioPorEmail(String email, String token) {
+        aguarda(deletaUsuarioPorEmailAsync(email, token));
+    }
+
+    @Override
+    public UsuarioDTOResponse atualizaDadosUsuario(UsuarioDTORequest usuarioDTO, String token) {
+        return aguarda(atualizaDadosUsuarioAsync(usuarioDTO, token));
+    }
+
+    @Override
+    public EnderecoDTOResponse atualizaEndereco(EnderecoDTORequest enderecoDTO, Long id, String token) {
+        return aguarda(atualizaEnderecoAsync(enderecoDTO, id, token));
+    }
+
+    @Override
+    public TelefoneDTOResponse atualizaTelefone(TelefoneDTORequest telefoneDTO, Long id, String token) {
+        return aguarda(atualizaTelefoneAsync(telefoneDTO, id, token));
+    }
+
+    @Override
+    public EnderecoDTOResponse cadastraEndereco(EnderecoDTORequest enderecoDTO, String token) {
+        return aguarda(cadastraEnderecoAsync(enderecoDTO, token));
+    }
+
+    @Override
+    public TelefoneDTOResponse cadastraTelefone(TelefoneDTORequest telefoneDTO, String token) {
+        return aguarda(cadastraTelefoneAsync(telefoneDTO, token));
+    }
+
+    @Override
+    public ViaCepDTORespose buscarDadosDeCep(String cep) {
+        return aguarda(buscarDadosDeCepAsync(cep));
+    }
+
+    // BLOCÃO 2: VARIANTES NÃO BLOQUEANTES
+    // -------------------------------------------------------------------------
+
+    public CompletableFuture<UsuarioDTOResponse> buscaUsuarioPorEmailAsync(String email, String token) {
+        return destino.get("buscaUsuarioPorEmail", "/usuario").parametro("email", email).token(token).recebe(UsuarioDTOResponse.class);
+    }
+
+    public CompletableFuture<UsuarioDTOResponse> salvaUsuarioAsync(UsuarioDTORequest usuarioDTO) {
+        return destino.post("salvaUsuario", "/usuario").corpo(usuarioDTO).recebe(UsuarioDTOResponse.class);
+    }
+
+    public CompletableFuture<String> loginAsync(LoginDTORequest loginDTORequest) {
+        return destino.post("login", "/usuario/login").corpo(loginDTORequest).recebeTexto();
+    }
+
+    public CompletableFuture<Void> deletaUsuarioPorEmailAsync(String email, String token) {
+        return destino.delete("deletaUsuarioPorEmail", "/usuario/" + codifica(email)).token(token).recebeNada();
+    }
+
+    public CompletableFuture<UsuarioDTOResponse> atualizaDadosUsuarioAsync(UsuarioDTORequest usuarioDTO, String token) {
+        return destino.put("atualizaDadosUsuario", "/usuario").corpo(usuarioDTO).token(token).recebe(UsuarioDTOResponse.class);
+    }
+
+    public CompletableFuture<EnderecoDTOResponse> atualizaEnderecoAsync(EnderecoDTORequest enderecoDTO, Long id, String token) {
+        return destino.put("atualizaEndereco", "/usuario/endereco").parametro("id", id).corpo(enderecoDTO).token(token)
+                .recebe(EnderecoDTOResponse.class);
+    }
+
+    public CompletableFuture<TelefoneDTOResponse> atualizaTelefoneAsync(TelefoneDTORequest telefoneDTO, Long id, String token) {
+        return destino.put("atualizaTelefone", "/usuario/telefone").parametro("id", id).corpo(telefoneDTO).token(token)
+                .recebe(TelefoneDTOResponse.class);
+    }
+
+    public CompletableFuture<EnderecoDTOResponse> cadastraEnderecoAsync(EnderecoDTORequest enderecoDTO, String token) {
+        return destino.post("cadastraEndereco", "/usuario/endereco").corpo(enderecoDTO).token(token).recebe(EnderecoDTOResponse.class);
+    }
+
+    public CompletableFuture<TelefoneDTOResponse> cadastraTelefoneAsync(TelefoneDTORequest telefoneDTO, String token) {
+        return destino.post("cadastraTelefone", "/usuario/telefone").corpo(telefoneDTO).token(token).recebe(TelefoneDTOResponse.class);
+    }
+
+    public CompletableFuture<ViaCepDTORespose> buscarDadosDeCepAsync(String cep) {
+        return destino.get("buscarDadosDeCep", "/usuario/endereco/" + codifica(cep)).recebe(ViaCepDTORespose.class);
+    }
+}
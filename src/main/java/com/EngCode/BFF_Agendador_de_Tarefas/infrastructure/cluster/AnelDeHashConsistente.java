@@ -0,0 +1,52 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Anel de hash consistente (imutável) com nós virtuais.
+ * FUNÇÃO: Cada nó ocupa 'nosVirtuais' posições no anel; a chave pertence ao primeiro nó no sentido horário.
+ * REBALANCEAMENTO: Quando um nó entra ou sai, só as chaves vizinhas às posições dele mudam de dono
+ * (~1/N das tarefas), em vez de todas como no 'hash % N'.
+ */
+final class AnelDeHashConsistente {
+
+    private final TreeMap<Long, String> anel = new TreeMap<>();
+
+    AnelDeHashConsistente(Collection<String> membros, int nosVirtuais) {
+        for (String membro : membros) {
+            for (int i = 0; i < nosVirtuais; i++) {
+                anel.put(hash(membro + "#" + i), membro);
+            }
+        }
+    }
+
+    /**
+     * MÉTODO: donoDe(String)
+     * FUNÇÃO: Nó responsável pela chave, ou 'null' se o anel está vazio.
+     */
+    String donoDe(String chave) {
+        if (anel.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entrada = anel.ceilingEntry(hash(chave));
+        return (entrada != null ? entrada : anel.firstEntry()).getValue();
+    }
+
+    // FNV-1a de 64 bits seguido da mistura final do MurmurHash3 (espalha bem chaves parecidas como "no-1#7").
+    static long hash(String chave) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : chave.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
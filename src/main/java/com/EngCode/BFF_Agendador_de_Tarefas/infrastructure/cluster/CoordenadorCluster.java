@@ -0,0 +1,24 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.cluster;
+
+import java.util.Set;
+
+/**
+ * Coordenação entre as réplicas do BFF que executam o CronService.
+ * FUNÇÃO: Cada nó é dono de uma fatia (shard) das tarefas e só notifica as tarefas que são suas.
+ * A implementação é escolhida por 'cluster.modo' (local ou arquivo).
+ */
+public interface CoordenadorCluster {
+
+    // Identificador deste nó.
+    String getIdNo();
+
+    // Nós vivos no momento (incluindo este).
+    Set<String> getMembros();
+
+    // Muda sempre que um nó entra ou sai do cluster (as fatias foram redistribuídas).
+    long getVersaoDosMembros();
+
+    // 'true' se a tarefa com esta chave pertence à fatia deste nó. Consultar de novo logo antes de cada envio:
+    // a resposta muda com rebalanceamentos (e, no modo arquivo, com a concessão e a carência do nó).
+    boolean isDono(String chave);
+}
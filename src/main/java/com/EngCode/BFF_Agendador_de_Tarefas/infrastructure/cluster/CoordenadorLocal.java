@@ -0,0 +1,36 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Coordenador padrão (cluster.modo=local): uma única réplica, dona de todas as tarefas.
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.modo", havingValue = "local", matchIfMissing = true)
+public class CoordenadorLocal implements CoordenadorCluster {
+
+    private static final String ID_NO = "local";
+
+    @Override
+    public String getIdNo() {
+        return ID_NO;
+    }
+
+    @Override
+    public Set<String> getMembros() {
+        return Set.of(ID_NO);
+    }
+
+    @Override
+    public long getVersaoDosMembros() {
+        return 0;
+    }
+
+    @Override
+    public boolean isDono(String chave) {
+        return true;
+    }
+}
@@ -0,0 +1,239 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.cluster;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Coordenador por arquivos (cluster.modo=arquivo), para testes locais e réplicas que compartilham um diretório.
+ * MEMBROS: Cada nó mantém o arquivo '<id>.no' em 'cluster.diretorio', com um FileLock exclusivo durante toda
+ * a vida do processo (impede dois nós com o mesmo ID) e atualizado a cada 'cluster.heartbeat'.
+ * Um nó está vivo enquanto o arquivo dele foi atualizado há menos de 'cluster.expiracao'.
+ * FATIAS: As tarefas são divididas por um anel de hash consistente sobre os membros vivos; quando um nó
+ * entra ou sai, o anel é reconstruído e a versão dos membros muda (o CronService faz uma varredura completa).
+ * HEARTBEAT: Roda em uma thread própria, e não no agendador do Spring (thread única, ocupada pelos ciclos do
+ * CronService): um ciclo longo não pode fazer este nó parecer morto para os outros.
+ * POSSE SEM SOBREPOSIÇÃO: Os nós não trocam a visão ao mesmo tempo (cada um relê o diretório no próprio heartbeat).
+ * - Concessão (lease): este nó só se considera dono de algo enquanto o último heartbeat gravado tem menos de
+ *   metade de 'cluster.expiracao' — bem antes de os outros o expirarem e assumirem a fatia dele.
+ * - Carência: uma fatia recém-recebida só passa a valer 'cluster.carencia' depois da mudança, tempo para o dono
+ *   anterior também ver a nova visão (e terminar o envio em andamento). As fatias que já eram deste nó seguem valendo.
+ */
+
+// BLOCÃO 2: ESTRUTURA E CONFIGURAÇÃO
+// -------------------------------------------------------------------------
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cluster.modo", havingValue = "arquivo")
+public class CoordenadorPorArquivo implements CoordenadorCluster {
+
+    private static final String EXTENSAO = ".no";
+
+    @Value("${cluster.diretorio:./data/cluster}")
+    private Path diretorio;
+    // Vazio = hostname + PID.
+    @Value("${cluster.no-id:}")
+    private String idNo;
+    // Deve ser bem maior que 'cluster.heartbeat' (ex: 3x) para não expulsar um nó por uma pausa curta.
+    @Value("${cluster.expiracao:PT20S}")
+    private Duration expiracao;
+    @Value("${cluster.nos-virtuais:128}")
+    private int nosVirtuais;
+    @Value("${cluster.heartbeat:PT5S}")
+    private Duration heartbeat;
+    // Deve cobrir um heartbeat dos outros nós mais um envio em andamento (padrão: 2 heartbeats + folga).
+    @Value("${cluster.carencia:PT15S}")
+    private Duration carencia;
+
+    private FileChannel canal;
+    private FileLock lockDoNo;
+    private ScheduledExecutorService executorDeHeartbeat;
+
+    // Visão atual do cluster (trocada inteira a cada rebalanceamento).
+    // 'anelEstavel': último anel cuja carência já tinha terminado quando esta visão entrou; 'desde': instante da troca.
+    private record VisaoDoCluster(Set<String> membros, AnelDeHashConsistente anel, long versao,
+                                  AnelDeHashConsistente anelEstavel, long desde) {
+    }
+
+    private volatile VisaoDoCluster visao;
+    // Instante (System.nanoTime) do último heartbeat gravado com sucesso.
+    private volatile long ultimoHeartbeat;
+
+    // BLOCÃO 3: ENTRADA E SAÍDA DO CLUSTER
+    // -------------------------------------------------------------------------
+
+    @PostConstruct
+    void entra() throws IOException {
+        if (idNo == null || idNo.isBlank()) {
+            idNo = InetAddress.getLocalHost().getHostName() + "-" + ProcessHandle.current().pid();
+        }
+        Files.createDirectories(diretorio);
+        canal = FileChannel.open(arquivoDoNo(idNo), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        lockDoNo = canal.tryLock();
+        if (lockDoNo == null) {
+            canal.close();
+            throw new IllegalStateException("Já existe um nó ativo com o ID '" + idNo + "' em " + diretorio + ".");
+        }
+        AnelDeHashConsistente vazio = new AnelDeHashConsistente(Set.of(), nosVirtuais);
+        visao = new VisaoDoCluster(Set.of(), vazio, 0, vazio, System.nanoTime());
+        atualizaMembros();
+        log.info("Nó '{}' entrou no cluster ({} membros).", idNo, visao.membros().size());
+
+        executorDeHeartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executorDeHeartbeat.scheduleWithFixedDelay(this::atualizaMembros,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void sai() throws IOException {
+        executorDeHeartbeat.shutdownNow();
+        // Saída ordenada: o arquivo some na hora e os outros nós rebalanceiam no próximo heartbeat.
+        lockDoNo.release();
+        canal.close();
+        Files.deleteIfExists(arquivoDoNo(idNo));
+        log.info("Nó '{}' saiu do cluster.", idNo);
+    }
+
+    // BLOCÃO 4: HEARTBEAT E REBALANCEAMENTO
+    // -------------------------------------------------------------------------
+
+    void atualizaMembros() {
+        try {
+            boolean concessaoVencida = !concessaoValida();
+            registraHeartbeat();
+            Set<String> vivos = leMembrosVivos();
+            VisaoDoCluster atual = visao;
+            long agora = System.nanoTime();
+            if (concessaoVencida && atual.versao() > 0) {
+                // Este nó ficou sem heartbeat por tempo suficiente para os outros terem assumido a fatia dele:
+                // nenhuma fatia é considerada "já minha", tudo passa pela carência.
+                AnelDeHashConsistente vazio = new AnelDeHashConsistente(Set.of(), nosVirtuais);
+                visao = new VisaoDoCluster(vivos, new AnelDeHashConsistente(vivos, nosVirtuais), atual.versao() + 1, vazio, agora);
+                log.warn("Heartbeat do nó '{}' atrasou além da concessão. Fatias em carência: membros {}.", idNo, vivos);
+            } else if (!vivos.equals(atual.membros())) {
+                AnelDeHashConsistente estavel = agora - atual.desde() >= carencia.toNanos() ? atual.anel() : atual.anelEstavel();
+                visao = new VisaoDoCluster(vivos, new AnelDeHashConsistente(vivos, nosVirtuais), atual.versao() + 1, estavel, agora);
+                log.info("Cluster rebalanceado: membros {} (antes {}).", vivos, atual.membros());
+            } else if (atual.anelEstavel() != atual.anel() && agora - atual.desde() >= carencia.toNanos()) {
+                // Carência terminada sem nova mudança: o anel atual passa a ser o estável (mesma versão).
+                visao = new VisaoDoCluster(atual.membros(), atual.anel(), atual.versao(), atual.anel(), atual.desde());
+            }
+        } catch (IOException | UncheckedIOException | OverlappingFileLockException e) {
+            // Mantém a última visão; se a falha persistir, os outros nós expiram este e assumem a fatia dele.
+            log.warn("Falha ao atualizar os membros do cluster: {}", e.getMessage());
+        }
+    }
+
+    // Reescreve o instante atual no próprio arquivo (o que também atualiza a data de modificação).
+    private void registraHeartbeat() throws IOException {
+        canal.truncate(0);
+        canal.write(ByteBuffer.wrap(Long.toString(System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8)), 0);
+        canal.force(false);
+        ultimoHeartbeat = System.nanoTime();
+    }
+
+    // Os outros nós expiram este em 'expiracao' sem heartbeat; ele deixa de agir na metade desse tempo.
+    private boolean concessaoValida() {
+        return System.nanoTime() - ultimoHeartbeat < expiracao.toNanos() / 2;
+    }
+
+    private Set<String> leMembrosVivos() throws IOException {
+        long limite = System.currentTimeMillis() - expiracao.toMillis();
+        Set<String> vivos = new TreeSet<>();
+        vivos.add(idNo);
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : arquivos.filter(caminho -> caminho.getFileName().toString().endsWith(EXTENSAO)).toList()) {
+                String nome = arquivo.getFileName().toString();
+                String membro = nome.substring(0, nome.length() - EXTENSAO.length());
+                if (membro.equals(idNo)) {
+                    continue;
+                }
+                try {
+                    if (Files.getLastModifiedTime(arquivo).toMillis() >= limite) {
+                        vivos.add(membro);
+                    } else {
+                        removeSeAbandonado(arquivo);
+                    }
+                } catch (NoSuchFileException e) {
+                    // O nó saiu (apagou o arquivo) durante a listagem.
+                }
+            }
+        }
+        return vivos;
+    }
+
+    // Um arquivo expirado cujo lock está livre pertence a um processo que morreu: pode ser apagado.
+    private void removeSeAbandonado(Path arquivo) {
+        try (FileChannel outro = FileChannel.open(arquivo, StandardOpenOption.WRITE)) {
+            FileLock lock = outro.tryLock();
+            if (lock != null) {
+                lock.release();
+                Files.deleteIfExists(arquivo);
+            }
+        } catch (IOException | OverlappingFileLockException e) {
+            log.debug("Arquivo de nó expirado {} não pôde ser removido: {}", arquivo, e.getMessage());
+        }
+    }
+
+    private Path arquivoDoNo(String id) {
+        return diretorio.resolve(id + EXTENSAO);
+    }
+
+    // BLOCÃO 5: CONSULTAS
+    // -------------------------------------------------------------------------
+
+    @Override
+    public String getIdNo() {
+        return idNo;
+    }
+
+    @Override
+    public Set<String> getMembros() {
+        return visao.membros();
+    }
+
+    @Override
+    public long getVersaoDosMembros() {
+        return visao.versao();
+    }
+
+    @Override
+    public boolean isDono(String chave) {
+        VisaoDoCluster atual = visao;
+        if (!concessaoValida() || !idNo.equals(atual.anel().donoDe(chave))) {
+            return false;
+        }
+        // Fatia recém-recebida: só depois da carência (o dono anterior pode ainda não ter visto a mudança).
+        return idNo.equals(atual.anelEstavel().donoDe(chave)) || System.nanoTime() - atual.desde() >= carencia.toNanos();
+    }
+}
@@ -10,6 +10,9 @@ public class ConflictException extends RuntimeException {
 // O Spring Boot, por padrão, mapeia essas exceções para o Status HTTP 500 (Internal Server Error),
 // mas você deve ter um Handler (Controlador de Exceções) para mapeá-la para o Status 409 (Conflict).
 
+    // Erro estruturado que originou a exceção (nulo quando ela é criada pelo próprio BFF).
+    private final ErroDoMicrosservico erro;
+
 // BLOCÃO 2: CONSTRUTORES (Formas de Criar a Exceção)
 // -------------------------------------------------------------------------
 
@@ -17,6 +20,7 @@ public class ConflictException extends RuntimeException {
         // Construtor Básico: Recebe apenas a mensagem de erro (ex: "E-mail já cadastrado.").
         super(mensagem);
         // Chama o construtor da classe pai (RuntimeException) para armazenar a mensagem.
+        this.erro = null;
     }
 
     public ConflictException (String mensagem, Throwable throwable) {
@@ -25,6 +29,25 @@ public class ConflictException extends RuntimeException {
         // Esse construtor é útil para encapsular (embrulhar) uma exceção de baixo nível
         // (ex: do banco de dados) em uma exceção de negócio (ConflictException),
         // mantendo a rastreabilidade do erro original (stack trace).
+        this.erro = null;
+    }
+
+    // BLOCÃO 3: ERRO ESPERADO DE UM MICROSSERVIÇO (sem stack trace)
+    // -------------------------------------------------------------------------
+
+    public ConflictException(ErroDoMicrosservico erro) {
+        // Construtor Leve, para os 4xx dos microsserviços (ver MapeadorDeErros).
+        super(null, null, false, false);
+        this.erro = erro;
+    }
+
+    public ErroDoMicrosservico getErro() {
+        return erro;
+    }
+
+    @Override
+    public String getMessage() {
+        return erro == null ? super.getMessage() : erro.mensagem();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Erro devolvido por um microsserviço (status HTTP >= 400), carregado pelas exceções do BFF.
+ * FUNÇÃO: Guarda o status e o corpo do erro separados, em vez de uma mensagem já concatenada; o texto
+ * exibido ao frontend ("Erro: <corpo>") só é montado quando alguém lê a mensagem da exceção.
+ * LIMITE: Só os primeiros LIMITE_BYTES do corpo são lidos; acima disso 'truncado' fica true e a mensagem termina em "...".
+ */
+public record ErroDoMicrosservico(int status, String detalhe, boolean truncado) {
+
+    // Suficiente para as mensagens dos microsserviços; páginas de erro enormes (ex: de um proxy) não viram String inteira.
+    public static final int LIMITE_BYTES = 2048;
+
+    /**
+     * MÉTODO: de(int, InputStream)
+     * FUNÇÃO: Lê no máximo LIMITE_BYTES (+1, para saber se havia mais) do corpo. Quem chama fecha o InputStream.
+     */
+    public static ErroDoMicrosservico de(int status, InputStream corpo) throws IOException {
+        if (corpo == null) {
+            return new ErroDoMicrosservico(status, "", false);
+        }
+        byte[] lidos = corpo.readNBytes(LIMITE_BYTES + 1);
+        return de(status, lidos, lidos.length);
+    }
+
+    // Corpo já em memória (ex: cliente java.net.http): só a parte dentro do limite vira String.
+    public static ErroDoMicrosservico de(int status, byte[] corpo) {
+        return corpo == null ? new ErroDoMicrosservico(status, "", false) : de(status, corpo, corpo.length);
+    }
+
+    private static ErroDoMicrosservico de(int status, byte[] corpo, int tamanho) {
+        if (tamanho <= LIMITE_BYTES) {
+            return new ErroDoMicrosservico(status, new String(corpo, 0, tamanho, StandardCharsets.UTF_8), false);
+        }
+        // Recua até o início de um caractere UTF-8 (bytes 10xxxxxx são continuação), para não cortá-lo ao meio.
+        int fim = LIMITE_BYTES;
+        while (fim > 0 && (corpo[fim] & 0xC0) == 0x80) {
+            fim--;
+        }
+        return new ErroDoMicrosservico(status, new String(corpo, 0, fim, StandardCharsets.UTF_8), true);
+    }
+
+    public String mensagem() {
+        return truncado ? "Erro: " + detalhe + "..." : "Erro: " + detalhe;
+    }
+}
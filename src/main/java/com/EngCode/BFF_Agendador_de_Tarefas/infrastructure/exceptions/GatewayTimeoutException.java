@@ -0,0 +1,23 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions;
+// Define o pacote onde a exceção reside.
+
+// BLOCÃO 1: DEFINIÇÃO DA CLASSE
+// -------------------------------------------------------------------------
+public class GatewayTimeoutException extends RuntimeException {
+// Lançada quando o prazo (deadline) da requisição recebida pelo BFF se esgota antes ou durante a chamada
+// a um microsserviço. O GlobalExceptionHandler a mapeia para o Status 504 (Gateway Timeout).
+
+    // BLOCÃO 2: CONSTRUTORES (Formas de Lançar a Exceção)
+    // -------------------------------------------------------------------------
+
+    public GatewayTimeoutException(String mensagem) {
+        // Construtor Básico: Exemplo de uso: new GatewayTimeoutException("Prazo da requisição esgotado.");
+        super(mensagem);
+    }
+
+    public GatewayTimeoutException(String mensagem, Throwable throwable) {
+        // Construtor Completo: Preserva a causa original (ex: SocketTimeoutException do transporte).
+        super(mensagem, throwable);
+    }
+
+}
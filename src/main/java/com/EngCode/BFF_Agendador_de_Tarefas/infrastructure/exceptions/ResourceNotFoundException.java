@@ -11,6 +11,9 @@ public class ResourceNotFoundException extends RuntimeException {
 // mapeia esta exceção para o Status HTTP 404 (Not Found), informando o cliente
 // de forma clara sobre o erro.
 
+    // Erro estruturado que originou a exceção (nulo quando ela é criada pelo próprio BFF).
+    private final ErroDoMicrosservico erro;
+
     // BLOCÃO 2: CONSTRUTORES
     // -------------------------------------------------------------------------
 
@@ -19,6 +22,7 @@ public class ResourceNotFoundException extends RuntimeException {
         // Exemplo de uso: .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado."));
         super(mensagem);
         // Chama o construtor da classe pai (RuntimeException) para armazenar a mensagem.
+        this.erro = null;
     }
 
     public ResourceNotFoundException (String mensagem, Throwable throwable) {
@@ -26,6 +30,25 @@ public class ResourceNotFoundException extends RuntimeException {
         // CONCEITO: Permite que você lance uma exceção de negócio (ResourceNotFound)
         // mantendo o rastreamento do erro original de baixo nível (se houver).
         super(mensagem, throwable);
+        this.erro = null;
+    }
+
+    // BLOCÃO 3: ERRO ESPERADO DE UM MICROSSERVIÇO (sem stack trace)
+    // -------------------------------------------------------------------------
+
+    public ResourceNotFoundException(ErroDoMicrosservico erro) {
+        // Construtor Leve, para os 4xx dos microsserviços (ver MapeadorDeErros).
+        super(null, null, false, false);
+        this.erro = erro;
+    }
+
+    public ErroDoMicrosservico getErro() {
+        return erro;
+    }
+
+    @Override
+    public String getMessage() {
+        return erro == null ? super.getMessage() : erro.mensagem();
     }
 
 }
\ No newline at end of file
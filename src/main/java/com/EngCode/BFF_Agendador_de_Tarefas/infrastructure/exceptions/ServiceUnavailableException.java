@@ -0,0 +1,24 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions;
+// Define o pacote onde a exceção reside.
+
+// BLOCÃO 1: DEFINIÇÃO DA CLASSE
+// -------------------------------------------------------------------------
+public class ServiceUnavailableException extends RuntimeException {
+// Lançada quando o BFF recusa a chamada a um microsserviço SEM tentá-la: o circuito daquele destino
+// está aberto (falhas recentes demais) ou o limite de chamadas simultâneas (bulkhead) foi atingido.
+// O GlobalExceptionHandler a mapeia para o Status 503 (Service Unavailable).
+
+    // BLOCÃO 2: CONSTRUTORES (Formas de Lançar a Exceção)
+    // -------------------------------------------------------------------------
+
+    public ServiceUnavailableException(String mensagem) {
+        // Construtor Básico: Exemplo de uso: new ServiceUnavailableException("Circuito do serviço 'notificacao' aberto.");
+        super(mensagem);
+    }
+
+    public ServiceUnavailableException(String mensagem, Throwable throwable) {
+        // Construtor Completo: Preserva a causa original (rastreabilidade do erro).
+        super(mensagem, throwable);
+    }
+
+}
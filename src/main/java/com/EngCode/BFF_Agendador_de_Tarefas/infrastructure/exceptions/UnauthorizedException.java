@@ -11,6 +11,9 @@ public class UnauthorizedException extends RuntimeException {
 // Spring Security, que irá automaticamente mapeá-la para o fluxo de erro de segurança
 // (geralmente resultando em um HTTP 401 Unauthorized).
 
+    // Erro estruturado que originou a exceção (nulo quando ela é criada pelo próprio BFF).
+    private final ErroDoMicrosservico erro;
+
     // BLOCÃO 2: CONSTRUTORES (Formas de Lançar a Exceção)
     // -------------------------------------------------------------------------
 
@@ -19,6 +22,7 @@ public class UnauthorizedException extends RuntimeException {
         // Exemplo de uso: new UnauthorizedException("Token JWT inválido ou expirado.");
         super(mensagem);
         // Chama o construtor da classe pai (AuthenticationException) para armazenar a mensagem.
+        this.erro = null;
     }
 
     public UnauthorizedException (String mensagem, Throwable throwable) {
@@ -26,6 +30,25 @@ public class UnauthorizedException extends RuntimeException {
         super(mensagem, throwable);
         // FUNÇÃO: Permite que você lance sua exceção de segurança, mas preserve a exceção
         // original (ex: do cliente Feign ou do Java Security) para melhor rastreabilidade (debugging).
+        this.erro = null;
+    }
+
+    // BLOCÃO 3: ERRO ESPERADO DE UM MICROSSERVIÇO (sem stack trace)
+    // -------------------------------------------------------------------------
+
+    public UnauthorizedException(ErroDoMicrosservico erro) {
+        // Construtor Leve, para os 4xx dos microsserviços (ver MapeadorDeErros).
+        super(null, null, false, false);
+        this.erro = erro;
+    }
+
+    public ErroDoMicrosservico getErro() {
+        return erro;
+    }
+
+    @Override
+    public String getMessage() {
+        return erro == null ? super.getMessage() : erro.mensagem();
     }
 
 }
\ No newline at end of file
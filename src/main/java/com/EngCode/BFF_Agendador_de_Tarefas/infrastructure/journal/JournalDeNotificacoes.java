@@ -0,0 +1,305 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.journal;
+
+// BLOCÃO 1: IMPORTAÇÕES E FERRAMENTAS
+// -------------------------------------------------------------------------
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Journal local (append-only) do pipeline de notificações do CronService.
+ * FUNÇÃO: Registra, por ID de tarefa, a INTENÇÃO de envio, o ENVIO concluído e a CONFIRMAÇÃO do status
+ * (PATCH NOTIFICADO). Na inicialização o arquivo é relido, então:
+ * - ENVIADO sem CONFIRMAÇÃO: o e-mail NÃO é reenviado; só o PATCH de status é refeito.
+ * - INTENÇÃO sem ENVIO: o BFF caiu no meio do envio; a tarefa continua PENDENTE e volta na próxima busca.
+ * DURABILIDADE: INTENÇÃO e ENVIO só retornam depois do fsync, mas o fsync é compartilhado (group commit):
+ * um único 'force' cobre todas as escritas concorrentes feitas até ali.
+ * FORMATO DO REGISTRO: [tipo:1][tamanho do id:2][id UTF-8][crc32:4]. Um registro com CRC inválido
+ * (escrita interrompida) encerra a leitura e o arquivo é truncado nesse ponto.
+ */
+
+// BLOCÃO 2: ESTRUTURA E CONFIGURAÇÃO
+// -------------------------------------------------------------------------
+@Slf4j
+@Component
+public class JournalDeNotificacoes {
+
+    // Tipos de registro gravados no arquivo.
+    public enum EstadoNotificacao {
+        INTENCAO, ENVIADO, CONFIRMADO
+    }
+
+    @Value("${notificacao.journal.habilitado:false}")
+    private boolean habilitado;
+    @Value("${notificacao.journal.arquivo:./data/notificacoes.journal}")
+    private Path arquivo;
+    // A compactação só reescreve o arquivo quando ele passa deste tamanho.
+    @Value("${notificacao.journal.compactar-acima-de-bytes:1048576}")
+    private long compactarAcimaDeBytes;
+
+    // Estado das tarefas ainda não confirmadas (INTENCAO ou ENVIADO). Confirmadas saem do mapa.
+    private final Map<String, EstadoNotificacao> pendentes = new ConcurrentHashMap<>();
+
+    private FileChannel canal;
+    // Protege as escritas (ordem dos registros) e a troca do arquivo na compactação.
+    private final ReentrantLock lockDeEscrita = new ReentrantLock();
+    // Serializa os fsyncs: quem chega enquanto outro 'force' roda aproveita o próximo.
+    private final ReentrantLock lockDeSincronizacao = new ReentrantLock();
+    private volatile long sequenciaEscrita; // Registros escritos (só é alterada com o lockDeEscrita).
+    private volatile long sequenciaSincronizada; // Registros garantidamente em disco.
+
+    // BLOCÃO 3: INICIALIZAÇÃO (REPLAY) E ENCERRAMENTO
+    // -------------------------------------------------------------------------
+
+    @PostConstruct
+    void inicia() throws IOException {
+        if (!habilitado) {
+            return;
+        }
+        if (arquivo.getParent() != null) {
+            Files.createDirectories(arquivo.getParent());
+        }
+        long tamanhoValido = Files.exists(arquivo) ? reproduz() : 0;
+        canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        canal.truncate(tamanhoValido); // Descarta um eventual registro incompleto no final.
+        canal.position(tamanhoValido);
+        log.info("Journal de notificações aberto em {} ({} tarefas pendentes de confirmação).", arquivo, pendentes.size());
+    }
+
+    @PreDestroy
+    void encerra() throws IOException {
+        if (canal != null) {
+            sincroniza();
+            canal.close();
+        }
+    }
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    // BLOCÃO 4: CONSULTAS
+    // -------------------------------------------------------------------------
+
+    /**
+     * MÉTODO: estado(String)
+     * FUNÇÃO: Estado da tarefa no journal, ou 'null' se ela não tem trabalho em andamento.
+     */
+    public EstadoNotificacao estado(String id) {
+        return pendentes.get(id);
+    }
+
+    /**
+     * MÉTODO: enviadasSemConfirmacao()
+     * FUNÇÃO: IDs cujo e-mail já saiu, mas o PATCH de status não foi confirmado.
+     */
+    public List<String> enviadasSemConfirmacao() {
+        return pendentes.entrySet().stream()
+                .filter(entrada -> entrada.getValue() == EstadoNotificacao.ENVIADO)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // BLOCÃO 5: REGISTROS
+    // -------------------------------------------------------------------------
+
+    // Registra a intenção de envio das tarefas (durável: retorna depois do fsync).
+    public void registraIntencoes(Collection<String> ids) {
+        registra(EstadoNotificacao.INTENCAO, ids, true);
+    }
+
+    // Registra que o e-mail da tarefa foi entregue (durável: retorna depois do fsync).
+    public void registraEnvio(String id) {
+        registra(EstadoNotificacao.ENVIADO, List.of(id), true);
+    }
+
+    // Registra a confirmação do status. Não espera o fsync: perder este registro só repete um PATCH idempotente.
+    public void registraConfirmacoes(Collection<String> ids) {
+        registra(EstadoNotificacao.CONFIRMADO, ids, false);
+    }
+
+    private void registra(EstadoNotificacao tipo, Collection<String> ids, boolean duravel) {
+        if (!habilitado || ids.isEmpty()) {
+            return;
+        }
+        long sequencia;
+        lockDeEscrita.lock();
+        try {
+            ByteBuffer registros = ByteBuffer.allocate(ids.stream().mapToInt(id -> 7 + id.length() * 3).sum());
+            ids.forEach(id -> codifica(registros, tipo, id));
+            registros.flip();
+            while (registros.hasRemaining()) {
+                canal.write(registros);
+            }
+            sequencia = ++sequenciaEscrita;
+            ids.forEach(id -> aplica(tipo, id));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar no journal de notificações.", e);
+        } finally {
+            lockDeEscrita.unlock();
+        }
+        if (duravel) {
+            aguardaDurabilidade(sequencia);
+        }
+    }
+
+    /**
+     * MÉTODO: aguardaDurabilidade(long)
+     * FUNÇÃO: Group commit. Se outro fsync já cobriu a 'sequencia', retorna sem I/O; caso contrário
+     * faz um 'force' que também cobre tudo o que as outras threads escreveram até agora.
+     */
+    private void aguardaDurabilidade(long sequencia) {
+        if (sequenciaSincronizada >= sequencia) {
+            return;
+        }
+        lockDeSincronizacao.lock();
+        try {
+            if (sequenciaSincronizada >= sequencia) {
+                return;
+            }
+            // Tudo o que foi escrito até 'alvo' já está no canal: um único force cobre todas essas escritas.
+            long alvo = sequenciaEscrita;
+            canal.force(false);
+            sequenciaSincronizada = alvo;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao sincronizar o journal de notificações.", e);
+        } finally {
+            lockDeSincronizacao.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notificacao.journal.sincronizacao:PT1S}")
+    // Leva para o disco, em segundo plano, os registros não duráveis (confirmações).
+    public void sincroniza() {
+        if (!habilitado) {
+            return;
+        }
+        aguardaDurabilidade(sequenciaEscrita);
+    }
+
+    // BLOCÃO 6: COMPACTAÇÃO
+    // -------------------------------------------------------------------------
+
+    @Scheduled(fixedDelayString = "${notificacao.journal.compactacao:PT10M}")
+    // Reescreve o arquivo só com as tarefas ENVIADO ainda não confirmadas, evitando crescimento sem limite.
+    // Confirmadas somem e INTENÇÕES antigas também: elas não exigem nenhuma ação no replay
+    // (a tarefa continua PENDENTE no Agendamento e volta na próxima busca).
+    public void compacta() {
+        if (!habilitado) {
+            return;
+        }
+        lockDeEscrita.lock();
+        lockDeSincronizacao.lock();
+        try {
+            if (canal.size() < compactarAcimaDeBytes) {
+                return;
+            }
+            long tamanhoAnterior = canal.size();
+            Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".compactando");
+            try (FileChannel novo = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                pendentes.values().removeIf(estado -> estado == EstadoNotificacao.INTENCAO);
+                for (String id : pendentes.keySet()) {
+                    ByteBuffer registro = ByteBuffer.allocate(7 + id.length() * 3);
+                    codifica(registro, EstadoNotificacao.ENVIADO, id);
+                    registro.flip();
+                    while (registro.hasRemaining()) {
+                        novo.write(registro);
+                    }
+                }
+                novo.force(true);
+            }
+            canal.close();
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            canal = FileChannel.open(arquivo, StandardOpenOption.WRITE);
+            canal.position(canal.size());
+            sequenciaSincronizada = sequenciaEscrita;
+            log.info("Journal de notificações compactado: {} -> {} bytes.", tamanhoAnterior, canal.size());
+        } catch (IOException e) {
+            log.error("Falha ao compactar o journal de notificações: {}", e.getMessage());
+        } finally {
+            lockDeSincronizacao.unlock();
+            lockDeEscrita.unlock();
+        }
+    }
+
+    // BLOCÃO 7: CODIFICAÇÃO E REPLAY
+    // -------------------------------------------------------------------------
+
+    private static void codifica(ByteBuffer destino, EstadoNotificacao tipo, String id) {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        int inicio = destino.position();
+        destino.put((byte) tipo.ordinal());
+        destino.putShort((short) idBytes.length);
+        destino.put(idBytes);
+        CRC32 crc = new CRC32();
+        crc.update(destino.array(), inicio, destino.position() - inicio);
+        destino.putInt((int) crc.getValue());
+    }
+
+    private void aplica(EstadoNotificacao tipo, String id) {
+        if (tipo == EstadoNotificacao.CONFIRMADO) {
+            pendentes.remove(id);
+        } else {
+            pendentes.put(id, tipo);
+        }
+    }
+
+    // Relê o arquivo e reconstrói o mapa de pendentes. Retorna o tamanho da parte válida do arquivo.
+    private long reproduz() throws IOException {
+        long posicaoValida = 0;
+        try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(arquivo)))) {
+            while (true) {
+                int tipo = entrada.read();
+                if (tipo < 0) {
+                    break;
+                }
+                int tamanhoId = entrada.readUnsignedShort();
+                byte[] idBytes = entrada.readNBytes(tamanhoId);
+                int crcGravado = entrada.readInt();
+                if (idBytes.length != tamanhoId || tipo >= EstadoNotificacao.values().length) {
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(tipo);
+                crc.update(tamanhoId >>> 8);
+                crc.update(tamanhoId);
+                crc.update(idBytes);
+                if ((int) crc.getValue() != crcGravado) {
+                    break;
+                }
+                aplica(EstadoNotificacao.values()[tipo], new String(idBytes, StandardCharsets.UTF_8));
+                posicaoValida += 7 + tamanhoId;
+            }
+        } catch (EOFException e) {
+            // Registro incompleto no final do arquivo (queda durante a escrita): ignorado.
+        }
+        if (posicaoValida < Files.size(arquivo)) {
+            log.warn("Journal de notificações com final incompleto: {} bytes descartados.", Files.size(arquivo) - posicaoValida);
+        }
+        return posicaoValida;
+    }
+}
@@ -0,0 +1,94 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.json;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+
+/**
+ * Conversão direta (sem DateTimeFormatter) de LocalDateTime no formato brasileiro dos DTOs: 'dd-MM-yyyy HH:mm:ss'.
+ * FUNÇÃO: Escreve e lê os 19 caracteres fixos por posição, sem os objetos intermediários do formatter
+ * (Parsed, TemporalAccessor, StringBuilder). Usada pelo ModuloDeDataHora em todo campo com esse @JsonFormat.
+ * LIMITES: Só anos de 1 a 9999 e textos exatamente no formato; o resto (ex: espaços, dia 31 em fevereiro, que o
+ * formatter ajusta para o último dia do mês) devolve false/null e quem chama usa o formatter do Jackson.
+ */
+public final class CodecDataHora {
+
+    public static final String PADRAO = "dd-MM-yyyy HH:mm:ss";
+    public static final int TAMANHO = 19;
+
+    private CodecDataHora() {
+    }
+
+    /**
+     * MÉTODO: escreve(LocalDateTime, char[])
+     * FUNÇÃO: Preenche 'destino' (ao menos TAMANHO posições); false se o ano não cabe em 4 dígitos.
+     */
+    public static boolean escreve(LocalDateTime valor, char[] destino) {
+        int ano = valor.getYear();
+        if (ano < 1 || ano > 9999) {
+            return false;
+        }
+        doisDigitos(destino, 0, valor.getDayOfMonth());
+        destino[2] = '-';
+        doisDigitos(destino, 3, valor.getMonthValue());
+        destino[5] = '-';
+        doisDigitos(destino, 6, ano / 100);
+        doisDigitos(destino, 8, ano % 100);
+        destino[10] = ' ';
+        doisDigitos(destino, 11, valor.getHour());
+        destino[13] = ':';
+        doisDigitos(destino, 14, valor.getMinute());
+        destino[16] = ':';
+        doisDigitos(destino, 17, valor.getSecond()); // Frações de segundo ficam de fora, como no formatter.
+        return true;
+    }
+
+    /**
+     * MÉTODO: le(char[], int, int)
+     * FUNÇÃO: Lê o trecho [inicio, inicio + tamanho) de 'texto'; null se não for uma data/hora válida no formato.
+     */
+    public static LocalDateTime le(char[] texto, int inicio, int tamanho) {
+        if (tamanho != TAMANHO || texto[inicio + 2] != '-' || texto[inicio + 5] != '-' || texto[inicio + 10] != ' '
+                || texto[inicio + 13] != ':' || texto[inicio + 16] != ':') {
+            return null;
+        }
+        int dia = doisDigitos(texto, inicio);
+        int mes = doisDigitos(texto, inicio + 3);
+        int seculo = doisDigitos(texto, inicio + 6);
+        int anoDoSeculo = doisDigitos(texto, inicio + 8);
+        int hora = doisDigitos(texto, inicio + 11);
+        int minuto = doisDigitos(texto, inicio + 14);
+        int segundo = doisDigitos(texto, inicio + 17);
+        if ((dia | mes | seculo | anoDoSeculo | hora | minuto | segundo) < 0) {
+            return null; // Algum caractere não era dígito.
+        }
+        int ano = seculo * 100 + anoDoSeculo;
+        // Validação completa aqui, para LocalDateTime.of nunca lançar exceção no caminho rápido.
+        if (ano < 1 || mes < 1 || mes > 12 || dia < 1 || dia > diasDoMes(mes, ano) || hora > 23 || minuto > 59 || segundo > 59) {
+            return null;
+        }
+        return LocalDateTime.of(ano, mes, dia, hora, minuto, segundo);
+    }
+
+    private static int diasDoMes(int mes, int ano) {
+        return switch (mes) {
+            case 2 -> Year.isLeap(ano) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static void doisDigitos(char[] destino, int posicao, int valor) {
+        destino[posicao] = (char) ('0' + valor / 10);
+        destino[posicao + 1] = (char) ('0' + valor % 10);
+    }
+
+    // -1 se algum dos dois caracteres não for dígito.
+    private static int doisDigitos(char[] texto, int posicao) {
+        int dezena = texto[posicao] - '0';
+        int unidade = texto[posicao + 1] - '0';
+        if (dezena < 0 || dezena > 9 || unidade < 0 || unidade > 9) {
+            return -1;
+        }
+        return dezena * 10 + unidade;
+    }
+}
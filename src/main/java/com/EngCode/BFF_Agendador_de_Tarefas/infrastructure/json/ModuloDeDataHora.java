@@ -0,0 +1,131 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Módulo do Jackson (registrado pelo Spring Boot no ObjectMapper da aplicação, usado pelos controllers e pelos
+ * clientes Feign e java.net.http) com o caminho rápido das datas no formato dos DTOs.
+ * FUNÇÃO: Campos com @JsonFormat(pattern = "dd-MM-yyyy HH:mm:ss") (três por tarefa em TarefasDTOResponse) passam
+ * pelo CodecDataHora em vez do DateTimeFormatter. Os demais LocalDateTime seguem o serializador padrão do Jackson.
+ * COMPATIBILIDADE: O texto gerado é o mesmo do formatter; o que o codec não reconhece volta para o formatter
+ * (mesmas regras e mensagens de erro de antes).
+ */
+@Component
+public class ModuloDeDataHora extends SimpleModule {
+
+    public ModuloDeDataHora() {
+        super("ModuloDeDataHora");
+        addSerializer(LocalDateTime.class, new SerializadorDeDataHora(LocalDateTimeSerializer.INSTANCE));
+        addDeserializer(LocalDateTime.class, new DesserializadorDeDataHora(LocalDateTimeDeserializer.INSTANCE));
+    }
+
+    // Mesma regra para os dois lados: só o padrão dos DTOs tem caminho rápido.
+    private static boolean usaCodec(JsonFormat.Value formato) {
+        return formato != null && CodecDataHora.PADRAO.equals(formato.getPattern());
+    }
+
+    // BLOCÃO 1: ESCRITA
+    // -------------------------------------------------------------------------
+
+    static final class SerializadorDeDataHora extends StdSerializer<LocalDateTime> implements ContextualSerializer {
+
+        // Serializador do Jackson já contextualizado para o campo (usado fora do caminho rápido).
+        private final JsonSerializer<LocalDateTime> padrao;
+        private final boolean rapido;
+
+        SerializadorDeDataHora(JsonSerializer<LocalDateTime> padrao) {
+            this(padrao, false);
+        }
+
+        private SerializadorDeDataHora(JsonSerializer<LocalDateTime> padrao, boolean rapido) {
+            super(LocalDateTime.class);
+            this.padrao = padrao;
+            this.rapido = rapido;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provedor, BeanProperty propriedade) throws JsonMappingException {
+            JsonSerializer<LocalDateTime> contextual =
+                    (JsonSerializer<LocalDateTime>) LocalDateTimeSerializer.INSTANCE.createContextual(provedor, propriedade);
+            if (usaCodec(findFormatOverrides(provedor, propriedade, handledType()))) {
+                return new SerializadorDeDataHora(contextual, true);
+            }
+            return contextual;
+        }
+
+        @Override
+        public void serialize(LocalDateTime valor, JsonGenerator gerador, SerializerProvider provedor) throws IOException {
+            if (rapido) {
+                char[] texto = new char[CodecDataHora.TAMANHO];
+                if (CodecDataHora.escreve(valor, texto)) {
+                    gerador.writeString(texto, 0, CodecDataHora.TAMANHO);
+                    return;
+                }
+            }
+            padrao.serialize(valor, gerador, provedor);
+        }
+    }
+
+    // BLOCÃO 2: LEITURA
+    // -------------------------------------------------------------------------
+
+    static final class DesserializadorDeDataHora extends StdDeserializer<LocalDateTime> implements ContextualDeserializer {
+
+        private final JsonDeserializer<LocalDateTime> padrao;
+        private final boolean rapido;
+
+        DesserializadorDeDataHora(JsonDeserializer<LocalDateTime> padrao) {
+            this(padrao, false);
+        }
+
+        private DesserializadorDeDataHora(JsonDeserializer<LocalDateTime> padrao, boolean rapido) {
+            super(LocalDateTime.class);
+            this.padrao = padrao;
+            this.rapido = rapido;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonDeserializer<?> createContextual(DeserializationContext contexto, BeanProperty propriedade) throws JsonMappingException {
+            JsonDeserializer<LocalDateTime> contextual =
+                    (JsonDeserializer<LocalDateTime>) LocalDateTimeDeserializer.INSTANCE.createContextual(contexto, propriedade);
+            if (usaCodec(findFormatOverrides(contexto, propriedade, handledType()))) {
+                return new DesserializadorDeDataHora(contextual, true);
+            }
+            return contextual;
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser leitor, DeserializationContext contexto) throws IOException {
+            if (rapido && leitor.hasToken(JsonToken.VALUE_STRING)) {
+                // Lê direto do buffer do parser, sem criar a String do valor.
+                LocalDateTime valor = CodecDataHora.le(leitor.getTextCharacters(), leitor.getTextOffset(), leitor.getTextLength());
+                if (valor != null) {
+                    return valor;
+                }
+            }
+            return padrao.deserialize(leitor, contexto);
+        }
+    }
+}
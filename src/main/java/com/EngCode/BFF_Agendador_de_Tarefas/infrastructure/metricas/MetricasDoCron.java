@@ -0,0 +1,77 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.metricas;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Métricas do CronService (antes só havia as linhas de log de cada ciclo).
+ * MÉTRICAS:
+ * - bff.cron.ciclo: duração de cada ciclo agendado, com 'resultado' (sucesso/falha).
+ * - bff.cron.tarefas.buscadas / .enviadas / .falhas: tarefas lidas do Agendamento, e-mails enviados e falhas de envio
+ * (enviadas e falhas incluem os disparos do agendador em memória e as retentativas).
+ * - bff.cron.atraso: distância entre o envio e a 'dataEvento' da tarefa; 'situacao=atrasada' quando o e-mail saiu
+ * depois do evento (o que importa acompanhar) e 'situacao=antecipada' para a antecedência dos envios no prazo.
+ */
+@Component
+public class MetricasDoCron {
+
+    private final MeterRegistry registro;
+    private final Counter buscadas;
+    private final Counter enviadas;
+    private final Counter falhas;
+    private final Timer atrasadas;
+    private final Timer antecipadas;
+
+    public MetricasDoCron(MeterRegistry registro) {
+        this.registro = registro;
+        this.buscadas = registro.counter("bff.cron.tarefas.buscadas");
+        this.enviadas = registro.counter("bff.cron.tarefas.enviadas");
+        this.falhas = registro.counter("bff.cron.tarefas.falhas");
+        this.atrasadas = Timer.builder("bff.cron.atraso").tag("situacao", "atrasada").register(registro);
+        this.antecipadas = Timer.builder("bff.cron.atraso").tag("situacao", "antecipada").register(registro);
+    }
+
+    /**
+     * MÉTODO: cronometraCiclo(Runnable)
+     * FUNÇÃO: Executa o ciclo agendado medindo a duração; uma exceção é registrada como 'falha' e segue adiante.
+     */
+    public void cronometraCiclo(Runnable ciclo) {
+        Timer.Sample amostra = Timer.start(registro);
+        String resultado = "falha";
+        try {
+            ciclo.run();
+            resultado = "sucesso";
+        } finally {
+            amostra.stop(Timer.builder("bff.cron.ciclo")
+                    .description("Duração dos ciclos agendados de notificação")
+                    .tag("resultado", resultado)
+                    .register(registro));
+        }
+    }
+
+    public void registraBuscadas(int quantidade) {
+        buscadas.increment(quantidade);
+    }
+
+    public void registraEnvio(LocalDateTime dataEvento) {
+        enviadas.increment();
+        if (dataEvento == null) {
+            return;
+        }
+        Duration distancia = Duration.between(dataEvento, LocalDateTime.now());
+        if (distancia.isNegative()) {
+            antecipadas.record(distancia.negated());
+        } else {
+            atrasadas.record(distancia);
+        }
+    }
+
+    public void registraFalha() {
+        falhas.increment();
+    }
+}
@@ -0,0 +1,84 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.metricas;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config.MapeadorDeErros;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Métricas de cada chamada aos microsserviços, nas duas pilhas de cliente (Feign e java.net.http).
+ * MÉTRICAS (tags 'cliente' = usuario/agendador-tarefas/notificacao e 'metodo' = método do contrato, ex: buscaUsuarioPorEmail):
+ * - bff.cliente.chamadas: latência (até a chegada da resposta), com 'status' (código HTTP ou 'nenhum') e 'excecao';
+ * percentis e histograma em 'management.metrics.distribution.*'.
+ * - bff.cliente.erros: respostas >= 400 e falhas de transporte, com a exceção que o MapeadorDeErros gera para o status.
+ * - bff.cliente.em-andamento: chamadas em andamento por cliente (gauge).
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricasDosClientes {
+
+    private static final String SEM_STATUS = "nenhum";
+    private static final String SEM_EXCECAO = "nenhuma";
+
+    private final MeterRegistry registro;
+
+    // Um contador por cliente; o gauge lê o valor atual a cada coleta.
+    private final Map<String, AtomicInteger> emAndamento = new ConcurrentHashMap<>();
+
+    /**
+     * MÉTODO: inicia(String, String)
+     * FUNÇÃO: Começa a medir uma chamada; quem chama encerra a medição com resposta(status) ou falha(erro).
+     */
+    public Medicao inicia(String cliente, String metodo) {
+        AtomicInteger andamento = emAndamento.computeIfAbsent(cliente, nome ->
+                registro.gauge("bff.cliente.em-andamento", Tags.of("cliente", nome), new AtomicInteger()));
+        andamento.incrementAndGet();
+        return new Medicao(cliente, metodo, andamento, Timer.start(registro));
+    }
+
+    public final class Medicao {
+
+        private final String cliente;
+        private final String metodo;
+        private final AtomicInteger andamento;
+        private final Timer.Sample amostra;
+
+        private Medicao(String cliente, String metodo, AtomicInteger andamento, Timer.Sample amostra) {
+            this.cliente = cliente;
+            this.metodo = metodo;
+            this.andamento = andamento;
+            this.amostra = amostra;
+        }
+
+        // Resposta recebida (inclusive 4xx/5xx, que o FeingError ainda vai traduzir).
+        public void resposta(int status) {
+            String excecao = status >= 400 ? MapeadorDeErros.tipoDaExcecao(status).getSimpleName() : SEM_EXCECAO;
+            encerra(String.valueOf(status), excecao);
+        }
+
+        // Sem resposta: I/O, timeout, disjuntor aberto/bulkhead cheio (503) ou prazo esgotado (504).
+        public void falha(Throwable erro) {
+            Throwable causa = erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
+            encerra(SEM_STATUS, causa.getClass().getSimpleName());
+        }
+
+        private void encerra(String status, String excecao) {
+            andamento.decrementAndGet();
+            amostra.stop(Timer.builder("bff.cliente.chamadas")
+                    .description("Latência das chamadas aos microsserviços")
+                    .tags("cliente", cliente, "metodo", metodo, "status", status, "excecao", excecao)
+                    .register(registro));
+            if (!SEM_EXCECAO.equals(excecao)) {
+                registro.counter("bff.cliente.erros",
+                        "cliente", cliente, "metodo", metodo, "status", status, "excecao", excecao).increment();
+            }
+        }
+    }
+}
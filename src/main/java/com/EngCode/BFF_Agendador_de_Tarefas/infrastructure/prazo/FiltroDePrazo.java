@@ -0,0 +1,54 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.prazo;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Define o prazo (deadline) de cada requisição recebida pelo BFF (ver PrazoDaRequisicao).
+ * ORÇAMENTO: O cabeçalho 'X-Prazo-Ms' do frontend (limitado a 'prazo.maximo') ou, sem ele, 'prazo.padrao'.
+ */
+@Component
+public class FiltroDePrazo extends OncePerRequestFilter {
+
+    @Value("${prazo.habilitado:true}")
+    private boolean habilitado;
+    @Value("${prazo.padrao:PT10S}")
+    private Duration prazoPadrao;
+    @Value("${prazo.maximo:PT30S}")
+    private Duration prazoMaximo;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!habilitado) {
+            chain.doFilter(request, response);
+            return;
+        }
+        PrazoDaRequisicao.define(orcamento(request.getHeader(PrazoDaRequisicao.CABECALHO)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            PrazoDaRequisicao.limpa();
+        }
+    }
+
+    private Duration orcamento(String cabecalho) {
+        if (cabecalho == null || cabecalho.isBlank()) {
+            return prazoPadrao;
+        }
+        try {
+            Duration pedido = Duration.ofMillis(Long.parseLong(cabecalho.trim()));
+            return pedido.isNegative() || pedido.compareTo(prazoMaximo) > 0 ? prazoMaximo : pedido;
+        } catch (NumberFormatException e) {
+            return prazoPadrao; // Cabeçalho inválido: ignora.
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.prazo;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Prazo (deadline) da requisição HTTP em atendimento na thread atual.
+ * FUNÇÃO: O FiltroDePrazo define o prazo na entrada; as chamadas Feign feitas durante a requisição usam
+ * só o tempo que RESTA dele (timeouts menores e cabeçalho 'X-Prazo-Ms' repassado ao microsserviço),
+ * em vez de cada chamada esperar o timeout cheio do cliente.
+ * ESCOPO: ThreadLocal. Threads sem prazo (ex: CronService) mantêm os timeouts configurados do cliente.
+ */
+public final class PrazoDaRequisicao {
+
+    // Cabeçalho com o orçamento restante, em milissegundos (recebido do frontend e repassado aos microsserviços).
+    public static final String CABECALHO = "X-Prazo-Ms";
+
+    private static final ThreadLocal<Long> LIMITE_NANOS = new ThreadLocal<>();
+
+    private PrazoDaRequisicao() {
+    }
+
+    static void define(Duration orcamento) {
+        LIMITE_NANOS.set(System.nanoTime() + orcamento.toNanos());
+    }
+
+    static void limpa() {
+        LIMITE_NANOS.remove();
+    }
+
+    /**
+     * MÉTODO: propaga(Runnable)
+     * FUNÇÃO: Leva o prazo da thread atual para uma tarefa que rodará em outra thread (ex: executor assíncrono).
+     */
+    public static Runnable propaga(Runnable tarefa) {
+        Long limite = LIMITE_NANOS.get();
+        if (limite == null) {
+            return tarefa;
+        }
+        return () -> {
+            Long anterior = LIMITE_NANOS.get();
+            LIMITE_NANOS.set(limite);
+            try {
+                tarefa.run();
+            } finally {
+                if (anterior == null) {
+                    LIMITE_NANOS.remove();
+                } else {
+                    LIMITE_NANOS.set(anterior);
+                }
+            }
+        };
+    }
+
+    /**
+     * MÉTODO: restante()
+     * FUNÇÃO: Tempo que resta até o prazo (zero ou negativo se já passou); vazio se a thread não tem prazo.
+     */
+    public static Optional<Duration> restante() {
+        Long limite = LIMITE_NANOS.get();
+        return limite == null ? Optional.empty() : Optional.of(Duration.ofNanos(limite - System.nanoTime()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.UnauthorizedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Valida a chave dos endpoints administrativos do próprio BFF (/admin/**).
+ * FUNÇÃO: Esses endpoints não passam por nenhum microsserviço (que validaria o Token JWT),
+ * então o BFF exige a chave configurada em 'admin.chave' no cabeçalho 'X-Admin-Chave'.
+ */
+@Component
+public class AcessoAdministrativo {
+
+    public static final String CABECALHO = "X-Admin-Chave";
+
+    @Value("${admin.chave:}")
+    private String chave;
+
+    public void valida(String chaveInformada) {
+        // Sem chave configurada, os endpoints administrativos ficam fechados.
+        if (chave.isBlank() || chaveInformada == null || !MessageDigest.isEqual(
+                chave.getBytes(StandardCharsets.UTF_8), chaveInformada.getBytes(StandardCharsets.UTF_8))) {
+            throw new UnauthorizedException("Erro: Chave administrativa inválida.");
+        }
+    }
+}
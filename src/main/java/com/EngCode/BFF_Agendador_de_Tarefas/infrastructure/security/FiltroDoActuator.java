@@ -0,0 +1,55 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.UnauthorizedException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Exige a chave administrativa (cabeçalho 'X-Admin-Chave', AcessoAdministrativo) nos endpoints do Actuator.
+ * FUNÇÃO: As métricas do Prometheus expõem nomes de clientes, rotas, volumes e latências internas; elas ficam sob
+ * a mesma proteção dos endpoints /admin. O Prometheus envia o cabeçalho configurado no 'scrape_config'.
+ * EXCEÇÃO: '/actuator/health' continua aberto (usado por balanceadores e sondas).
+ * NOTA: Filtro de servlet (roda antes do Actuator); o erro é escrito aqui, como faria o GlobalExceptionHandler.
+ */
+@Component
+@RequiredArgsConstructor
+public class FiltroDoActuator extends OncePerRequestFilter {
+
+    private final AcessoAdministrativo acessoAdministrativo;
+
+    @Value("${management.endpoints.web.base-path:/actuator}")
+    private String caminhoBase;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String caminho = request.getRequestURI().substring(request.getContextPath().length());
+        boolean actuator = caminho.equals(caminhoBase) || caminho.startsWith(caminhoBase + "/");
+        return !actuator || caminho.equals(caminhoBase + "/health") || caminho.startsWith(caminhoBase + "/health/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            acessoAdministrativo.valida(request.getHeader(AcessoAdministrativo.CABECALHO));
+        } catch (UnauthorizedException e) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(e.getMessage());
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
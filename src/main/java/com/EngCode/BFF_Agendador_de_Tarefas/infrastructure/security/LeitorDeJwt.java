@@ -0,0 +1,70 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Lê as claims do payload de um Token JWT (Base64URL) repassado pelo frontend ou obtido no login de serviço.
+ * NOTA: NÃO valida a assinatura — quem valida é o Microsserviço de Usuário. As claims servem só para
+ * decisões locais do BFF (prazo do Token em cache, chave e invalidação de caches por usuário).
+ */
+@Component
+@RequiredArgsConstructor
+public class LeitorDeJwt {
+
+    private static final String PREFIXO_BEARER = "Bearer ";
+
+    private final ObjectMapper objectMapper;
+
+    // Claim 'sub' (no Microsserviço de Usuário, o e-mail do usuário).
+    public Optional<String> assunto(String token) {
+        return claim(token, "sub").filter(JsonNode::isTextual).map(JsonNode::asText);
+    }
+
+    // Claim 'exp' (segundos desde a época).
+    public Optional<Instant> expiracao(String token) {
+        return claim(token, "exp").filter(JsonNode::canConvertToLong).map(exp -> Instant.ofEpochSecond(exp.asLong()));
+    }
+
+    /**
+     * MÉTODO: hash(String)
+     * FUNÇÃO: SHA-256 (hexadecimal) do Token, para usá-lo em chaves de cache sem guardar o Token em si.
+     */
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(semPrefixo(token).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível na JVM.", e);
+        }
+    }
+
+    private Optional<JsonNode> claim(String token, String nome) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            String[] partes = semPrefixo(token).split("\\.");
+            String payload = new String(Base64.getUrlDecoder().decode(partes[1]), StandardCharsets.UTF_8);
+            return Optional.ofNullable(objectMapper.readTree(payload).get(nome));
+        } catch (Exception e) {
+            // Token malformado: sem claims (o microsserviço responderá 401 na chamada real).
+            return Optional.empty();
+        }
+    }
+
+    private static String semPrefixo(String token) {
+        String aparado = token.trim();
+        return aparado.startsWith(PREFIXO_BEARER) ? aparado.substring(PREFIXO_BEARER.length()) : aparado;
+    }
+}
@@ -0,0 +1,171 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roda de tempo avançada à mão (processaTick), sem o worker: cada chamada é um tick de 1s a partir de T0.
+ * A roda tem 8 baldes, então prazos acima de 8 ticks dão voltas.
+ */
+class AgendadorDeNotificacoesTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 15, 12, 0, 0);
+
+    private AgendadorDeNotificacoes agendador;
+    private long ticksProcessados;
+
+    // Tick em que cada tarefa disparou ('id@tick').
+    private final List<String> disparos = new ArrayList<>();
+
+    @BeforeEach
+    void preparaAgendador() {
+        agendador = new AgendadorDeNotificacoes();
+        ReflectionTestUtils.setField(agendador, "habilitado", true);
+        ReflectionTestUtils.setField(agendador, "antecedencia", Duration.ZERO);
+        ReflectionTestUtils.setField(agendador, "tick", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(agendador, "tamanhoRoda", 8);
+        ReflectionTestUtils.setField(agendador, "capacidadeMaxima", 100);
+        agendador.preparaRoda(T0.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    @Test
+    void disparaNoTickDoPrazo() {
+        assertThat(agendador.agenda(tarefa("a", 3))).isTrue();
+
+        avanca(10);
+
+        assertThat(disparos).containsExactly("a@3");
+        assertThat(agendador.getQuantidadeAgendada()).isZero();
+    }
+
+    @Test
+    void prazoMaiorQueUmaVoltaDisparaSoNaUltimaVolta() {
+        agendador.agenda(tarefa("longa", 19)); // Balde 3, duas voltas.
+        agendador.agenda(tarefa("curta", 3)); // Mesmo balde, nenhuma volta.
+
+        avanca(25);
+
+        assertThat(disparos).containsExactly("curta@3", "longa@19");
+    }
+
+    @Test
+    void reagendarParaDepoisDeUmaVoltaNaoDisparaNoPrazoAntigo() {
+        agendador.agenda(tarefa("a", 3));
+        avanca(2);
+
+        assertThat(agendador.agenda(tarefa("a", 12))).isTrue();
+        avanca(15);
+
+        assertThat(disparos).containsExactly("a@12");
+    }
+
+    @Test
+    void reagendarParaAntesDisparaNoPrazoNovo() {
+        agendador.agenda(tarefa("a", 20));
+        avanca(1);
+
+        agendador.agenda(tarefa("a", 5));
+        avanca(25);
+
+        assertThat(disparos).containsExactly("a@5");
+    }
+
+    @Test
+    void reagendarDepoisDeDescontarVoltasRecalculaAsVoltas() {
+        agendador.agenda(tarefa("a", 18)); // Balde 2: voltas descontadas nos ticks 2 e 10.
+        avanca(11);
+
+        agendador.agenda(tarefa("a", 26)); // Ainda no balde 2, agora com 1 volta a partir do tick 11.
+        avanca(20);
+
+        assertThat(disparos).containsExactly("a@26");
+    }
+
+    @Test
+    void cancelarDepoisDeDescontarUmaVoltaRemoveDaRoda() {
+        agendador.agenda(tarefa("a", 10));
+        agendador.agenda(tarefa("b", 10));
+        avanca(9); // A volta de ambas já foi descontada no tick 2.
+
+        agendador.cancela("a");
+        avanca(10);
+
+        assertThat(disparos).containsExactly("b@10");
+        assertThat(agendador.getQuantidadeAgendada()).isZero();
+    }
+
+    @Test
+    void cancelarNoMeioDoBaldeMantemAsOutrasEntradas() {
+        agendador.agenda(tarefa("a", 4));
+        agendador.agenda(tarefa("b", 4));
+        agendador.agenda(tarefa("c", 4));
+
+        agendador.cancela("b");
+        avanca(5);
+
+        assertThat(disparos).containsExactlyInAnyOrder("a@4", "c@4");
+    }
+
+    @Test
+    void prazoJaVencidoNaoEAgendadoERemoveAEntradaAntiga() {
+        agendador.agenda(tarefa("a", 10));
+        avanca(6);
+
+        assertThat(agendador.agenda(tarefa("a", 2))).isFalse();
+        avanca(10);
+
+        assertThat(disparos).isEmpty();
+        assertThat(agendador.getQuantidadeAgendada()).isZero();
+    }
+
+    @Test
+    void rodaCheiaRecusaTarefasNovasMasAceitaReagendamento() {
+        ReflectionTestUtils.setField(agendador, "capacidadeMaxima", 2);
+        agendador.agenda(tarefa("a", 3));
+        agendador.agenda(tarefa("b", 4));
+
+        assertThat(agendador.agenda(tarefa("c", 5))).isFalse();
+        assertThat(agendador.agenda(tarefa("a", 6))).isTrue();
+        avanca(8);
+
+        assertThat(disparos).containsExactly("b@4", "a@6");
+    }
+
+    @Test
+    void disparoEntregaSoAReferenciaDaTarefa() {
+        agendador.agenda(tarefa("a", 1));
+
+        List<AgendadorDeNotificacoes.TarefaAgendada> vencidas = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            vencidas.addAll(agendador.processaTick());
+        }
+
+        assertThat(vencidas).containsExactly(
+                new AgendadorDeNotificacoes.TarefaAgendada("a", T0.plusSeconds(1), "a@email.com"));
+    }
+
+    private void avanca(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            long tick = ticksProcessados++;
+            agendador.processaTick().forEach(agendada -> disparos.add(agendada.id() + "@" + tick));
+        }
+    }
+
+    private static TarefasDTOResponse tarefa(String id, int segundosDepoisDeT0) {
+        TarefasDTOResponse tarefa = new TarefasDTOResponse();
+        tarefa.setId(id);
+        tarefa.setEmailUsuario(id + "@email.com");
+        tarefa.setDataEvento(T0.plusSeconds(segundosDepoisDeT0));
+        return tarefa;
+    }
+}
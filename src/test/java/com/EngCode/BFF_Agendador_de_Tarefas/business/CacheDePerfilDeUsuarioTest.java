@@ -0,0 +1,172 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.UsuarioDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.UnauthorizedException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security.LeitorDeJwt;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Cache do perfil por (e-mail, Token) com Tokens JWT de teste (só o payload importa; a assinatura não é lida).
+ */
+class CacheDePerfilDeUsuarioTest {
+
+    private static final String EMAIL = "maria@email.com";
+
+    private final CacheDePerfilDeUsuario cache = new CacheDePerfilDeUsuario(new LeitorDeJwt(new ObjectMapper()));
+    private final ExecutorService threads = Executors.newFixedThreadPool(2);
+    private final AtomicInteger consultas = new AtomicInteger();
+
+    @BeforeEach
+    void iniciaCache() {
+        ReflectionTestUtils.setField(cache, "habilitado", true);
+        ReflectionTestUtils.setField(cache, "tamanhoMaximo", 100L);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(5));
+        cache.iniciaCache();
+    }
+
+    @AfterEach
+    void encerraThreads() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void cadaTokenSoLeOPerfilQueEleMesmoBuscou() {
+        String tokenA = token(EMAIL);
+        String tokenB = token(EMAIL);
+
+        assertThat(busca(tokenA, "perfil de A").getNome()).isEqualTo("perfil de A");
+        assertThat(busca(tokenB, "perfil de B").getNome()).isEqualTo("perfil de B"); // Não acerta a entrada de A.
+        assertThat(busca(tokenA, "nova consulta").getNome()).isEqualTo("perfil de A");
+        assertThat(busca(tokenB, "nova consulta").getNome()).isEqualTo("perfil de B");
+
+        assertThat(consultas.get()).isEqualTo(2);
+    }
+
+    @Test
+    void escritaComUmTokenInvalidaOPerfilEmTodosOsTokensDoEmail() {
+        String tokenA = token(EMAIL);
+        String tokenB = token(EMAIL);
+        String tokenDeOutroUsuario = token("joao@email.com");
+        busca(tokenA, "antigo");
+        busca(tokenB, "antigo");
+        cache.busca("joao@email.com", tokenDeOutroUsuario, () -> perfil("joao"));
+
+        cache.invalidaUsuarioDoToken(tokenA);
+
+        assertThat(busca(tokenA, "novo").getNome()).isEqualTo("novo");
+        assertThat(busca(tokenB, "novo").getNome()).isEqualTo("novo");
+        assertThat(cache.busca("joao@email.com", tokenDeOutroUsuario, () -> perfil("recarregado")).getNome()).isEqualTo("joao");
+    }
+
+    @Test
+    void emailComMaiusculasNaBuscaTambemEInvalidado() {
+        String tokenA = token(EMAIL);
+        cache.busca(" Maria@Email.com", tokenA, () -> perfil("antigo"));
+
+        cache.invalidaEmail(EMAIL);
+
+        assertThat(cache.busca(" Maria@Email.com", tokenA, () -> perfil("novo")).getNome()).isEqualTo("novo");
+    }
+
+    @Test
+    void tokenSemSubInvalidaSoAsEntradasDoProprioToken() {
+        String semSub = "Bearer " + parte("{\"alg\":\"none\"}") + "." + parte("{\"exp\":" + expiracao() + "}") + ".x";
+        String tokenB = token(EMAIL);
+        busca(semSub, "lido sem sub");
+        busca(tokenB, "lido por B");
+
+        cache.invalidaUsuarioDoToken(semSub);
+
+        assertThat(busca(semSub, "novo").getNome()).isEqualTo("novo");
+        assertThat(busca(tokenB, "novo").getNome()).isEqualTo("lido por B");
+    }
+
+    @Test
+    void erroDaConsultaNaoEGuardado() {
+        String tokenA = token(EMAIL);
+
+        assertThatThrownBy(() -> cache.busca(EMAIL, tokenA, () -> {
+            throw new UnauthorizedException("Token expirado.");
+        })).isInstanceOf(UnauthorizedException.class);
+
+        assertThat(busca(tokenA, "depois do erro").getNome()).isEqualTo("depois do erro");
+    }
+
+    @Test
+    void escritaDuranteUmaCargaNaoDeixaOPerfilAntigoNoCache() throws Exception {
+        String tokenA = token(EMAIL);
+        CountDownLatch carregando = new CountDownLatch(1);
+        CountDownLatch liberaCarga = new CountDownLatch(1);
+
+        // A carga lê o perfil antigo e só termina depois que a escrita já invalidou o e-mail.
+        Future<UsuarioDTOResponse> carga = threads.submit(() -> cache.busca(EMAIL, tokenA, () -> {
+            carregando.countDown();
+            aguarda(liberaCarga);
+            return perfil("antigo");
+        }));
+        assertThat(carregando.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> escrita = threads.submit(() -> cache.invalidaUsuarioDoToken(tokenA));
+        Thread.sleep(50); // A invalidação encontra a chave (indexada antes da carga) e espera a carga terminar.
+        liberaCarga.countDown();
+
+        assertThat(carga.get(5, TimeUnit.SECONDS).getNome()).isEqualTo("antigo"); // Quem já estava lendo vê o antigo.
+        escrita.get(5, TimeUnit.SECONDS);
+        assertThat(busca(tokenA, "novo").getNome()).isEqualTo("novo");
+    }
+
+    private UsuarioDTOResponse busca(String token, String nome) {
+        return cache.busca(EMAIL, token, () -> {
+            consultas.incrementAndGet();
+            return perfil(nome);
+        });
+    }
+
+    private static UsuarioDTOResponse perfil(String nome) {
+        return UsuarioDTOResponse.builder().nome(nome).email(EMAIL).build();
+    }
+
+    // Cada chamada gera um Token diferente (o 'jti' muda), como duas sessões do mesmo usuário.
+    private static final AtomicInteger SEQUENCIA = new AtomicInteger();
+
+    static String token(String email) {
+        String payload = "{\"sub\":\"" + email + "\",\"exp\":" + expiracao() + ",\"jti\":" + SEQUENCIA.incrementAndGet() + "}";
+        return "Bearer " + parte("{\"alg\":\"HS256\"}") + "." + parte(payload) + ".assinatura";
+    }
+
+    private static long expiracao() {
+        return Instant.now().plus(Duration.ofHours(1)).getEpochSecond();
+    }
+
+    private static String parte(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void aguarda(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new AssertionError("A carga não foi liberada.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+}
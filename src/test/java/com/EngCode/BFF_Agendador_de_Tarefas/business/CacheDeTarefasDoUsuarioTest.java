@@ -0,0 +1,168 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.enums.StatusNotificacaoEnum;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.security.LeitorDeJwt;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.EngCode.BFF_Agendador_de_Tarefas.business.CacheDePerfilDeUsuarioTest.token;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Write-through da lista de tarefas por (e-mail, Token): as escritas corrigem a lista guardada de cada Token do
+ * dono; 'consultas' conta as idas ao Microsserviço de Agendamento.
+ */
+class CacheDeTarefasDoUsuarioTest {
+
+    private static final String MARIA = "maria@email.com";
+    private static final String JOAO = "joao@email.com";
+
+    private final CacheDeTarefasDoUsuario cache = new CacheDeTarefasDoUsuario(new LeitorDeJwt(new ObjectMapper()));
+    private final ExecutorService threads = Executors.newFixedThreadPool(2);
+    private final AtomicInteger consultas = new AtomicInteger();
+
+    @BeforeEach
+    void iniciaCache() {
+        ReflectionTestUtils.setField(cache, "habilitado", true);
+        ReflectionTestUtils.setField(cache, "tarefasMaximas", 1000L);
+        ReflectionTestUtils.setField(cache, "ociosidade", Duration.ofMinutes(10));
+        cache.iniciaCache();
+    }
+
+    @AfterEach
+    void encerraThreads() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void gravacaoCorrigeAListaDeTodosOsTokensDoDonoSemNovaConsulta() {
+        String tokenA = token(MARIA);
+        String tokenB = token(MARIA);
+        String tokenDoJoao = token(JOAO);
+        busca(tokenA, tarefa("t1", MARIA, "original"));
+        busca(tokenB, tarefa("t1", MARIA, "original"));
+        busca(tokenDoJoao, tarefa("t9", JOAO, "do joao"));
+
+        cache.registraGravacao(tarefa("t1", MARIA, "alterada")); // PUT: substitui.
+        cache.registraGravacao(tarefa("t2", MARIA, "nova")); // POST: acrescenta.
+
+        for (String token : List.of(tokenA, tokenB)) {
+            assertThat(busca(token)).extracting(TarefasDTOResponse::getId, TarefasDTOResponse::getNomeTarefa)
+                    .containsExactly(tuple("t1", "alterada"), tuple("t2", "nova"));
+        }
+        assertThat(busca(tokenDoJoao)).extracting(TarefasDTOResponse::getId).containsExactly("t9");
+        assertThat(consultas.get()).isEqualTo(3);
+    }
+
+    @Test
+    void exclusaoRemoveATarefaDasListasDoDono() {
+        String tokenA = token(MARIA);
+        String tokenB = token(MARIA);
+        busca(tokenA, tarefa("t1", MARIA, "a"), tarefa("t2", MARIA, "b"));
+        busca(tokenB, tarefa("t1", MARIA, "a"), tarefa("t2", MARIA, "b"));
+
+        cache.registraExclusao("t1", tokenA);
+
+        assertThat(busca(tokenA)).extracting(TarefasDTOResponse::getId).containsExactly("t2");
+        assertThat(busca(tokenB)).extracting(TarefasDTOResponse::getId).containsExactly("t2");
+        assertThat(consultas.get()).isEqualTo(2);
+    }
+
+    @Test
+    void loteCorrigeAsDevolvidasEDescartaAsListasComIdsSemResposta() {
+        String tokenDaMaria = token(MARIA);
+        String tokenDoJoao = token(JOAO);
+        String tokenDaAna = token("ana@email.com");
+        busca(tokenDaMaria, tarefa("t1", MARIA, "a"));
+        busca(tokenDoJoao, tarefa("t2", JOAO, "b"));
+        busca(tokenDaAna, tarefa("t3", "ana@email.com", "c"));
+
+        // PATCH em lote de t1 e t2: só t1 voltou na resposta (t2 recusado ou sem dono conhecido).
+        TarefasDTOResponse t1Notificada = tarefa("t1", MARIA, "a");
+        t1Notificada.setStatusNotificacaoEnum(StatusNotificacaoEnum.NOTIFICADO);
+        cache.registraGravacoes(List.of("t1", "t2"), List.of(t1Notificada));
+
+        assertThat(busca(tokenDaMaria)).singleElement()
+                .extracting(TarefasDTOResponse::getStatusNotificacaoEnum).isEqualTo(StatusNotificacaoEnum.NOTIFICADO);
+        assertThat(busca(tokenDaAna)).extracting(TarefasDTOResponse::getId).containsExactly("t3");
+        assertThat(consultas.get()).isEqualTo(3);
+
+        // A lista com t2 foi descartada: a próxima leitura vai ao microsserviço.
+        busca(tokenDoJoao);
+        assertThat(consultas.get()).isEqualTo(4);
+    }
+
+    @Test
+    void gravacaoDuranteUmaCargaEntraNaListaGuardada() throws Exception {
+        String tokenA = token(MARIA);
+        CountDownLatch carregando = new CountDownLatch(1);
+        CountDownLatch liberaCarga = new CountDownLatch(1);
+
+        // A carga traz a lista de antes da gravação e só termina depois que a gravação já começou.
+        Future<List<TarefasDTOResponse>> carga = threads.submit(() -> cache.busca(tokenA, () -> {
+            carregando.countDown();
+            aguarda(liberaCarga);
+            return List.of(tarefa("t1", MARIA, "antiga"));
+        }));
+        assertThat(carregando.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> gravacao = threads.submit(() -> cache.registraGravacao(tarefa("t1", MARIA, "gravada")));
+        Thread.sleep(50); // A gravação encontra a chave (indexada antes da carga) e espera a carga terminar.
+        liberaCarga.countDown();
+
+        carga.get(5, TimeUnit.SECONDS);
+        gravacao.get(5, TimeUnit.SECONDS);
+        assertThat(busca(tokenA)).extracting(TarefasDTOResponse::getNomeTarefa).containsExactly("gravada");
+        assertThat(consultas.get()).isZero(); // A leitura acima veio do cache, já corrigida.
+    }
+
+    @Test
+    void tokenSemSubNaoUsaOCache() {
+        String semSub = "Bearer invalido";
+
+        busca(semSub, tarefa("t1", MARIA, "a"));
+        busca(semSub, tarefa("t1", MARIA, "a"));
+
+        assertThat(consultas.get()).isEqualTo(2);
+    }
+
+    private List<TarefasDTOResponse> busca(String token, TarefasDTOResponse... doMicrosservico) {
+        return cache.busca(token, () -> {
+            consultas.incrementAndGet();
+            return List.of(doMicrosservico);
+        });
+    }
+
+    private static TarefasDTOResponse tarefa(String id, String email, String nome) {
+        TarefasDTOResponse tarefa = new TarefasDTOResponse();
+        tarefa.setId(id);
+        tarefa.setEmailUsuario(email);
+        tarefa.setNomeTarefa(nome);
+        tarefa.setStatusNotificacaoEnum(StatusNotificacaoEnum.PENDENTE);
+        return tarefa;
+    }
+
+    private static void aguarda(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new AssertionError("A carga não foi liberada.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+}
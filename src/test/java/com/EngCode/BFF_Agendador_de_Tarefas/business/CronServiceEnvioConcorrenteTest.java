@@ -0,0 +1,194 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.assincrono.FabricaDeThreads;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.cluster.CoordenadorCluster;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.enums.StatusNotificacaoEnum;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.journal.JournalDeNotificacoes;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.metricas.MetricasDoCron;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Envio das notificações de um ciclo (processaTarefas) com os colaboradores simulados:
+ * limite de paralelismo, isolamento das falhas por tarefa e o PATCH de status só das enviadas.
+ */
+@ExtendWith(MockitoExtension.class)
+class CronServiceEnvioConcorrenteTest {
+
+    @Mock
+    private TarefasService tarefasService;
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private TokenServicoManager tokenServicoManager;
+    @Mock
+    private AgendadorDeNotificacoes agendadorDeNotificacoes;
+    @Mock
+    private JournalDeNotificacoes journalDeNotificacoes;
+    @Mock
+    private RetentativaDeNotificacoes retentativaDeNotificacoes;
+    @Mock
+    private CoordenadorCluster coordenadorCluster;
+    @Mock
+    private FabricaDeThreads fabricaDeThreads;
+    @Mock
+    private MetricasDoCron metricasDoCron;
+    @Mock
+    private AlteracoesNaJanelaDePolling alteracoesNaJanela;
+
+    private CronService cronService;
+
+    // IDs entregues ao PATCH em lote (NOTIFICADO), de todas as descargas.
+    private final List<String> marcadasComoNotificadas = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void preparaCronService() {
+        when(fabricaDeThreads.fabrica(anyString(), anyBoolean())).thenReturn(Executors.defaultThreadFactory());
+        lenient().when(coordenadorCluster.isDono(anyString())).thenReturn(true);
+        lenient().doAnswer(invocacao -> invocacao.<Function<String, ?>>getArgument(0).apply("token-servico"))
+                .when(tokenServicoManager).executaComToken(any());
+        lenient().doAnswer(invocacao -> {
+            List<String> ids = invocacao.getArgument(1);
+            marcadasComoNotificadas.addAll(ids);
+            return new TarefasService.ResultadoDoLote(List.of(), List.copyOf(ids), List.of(), List.of());
+        }).when(tarefasService).alteraStatusDasTarefasEmLoteDetalhado(eq(StatusNotificacaoEnum.NOTIFICADO), anyList(), anyString());
+
+        cronService = new CronService(tarefasService, emailService, tokenServicoManager, agendadorDeNotificacoes,
+                journalDeNotificacoes, retentativaDeNotificacoes, coordenadorCluster, fabricaDeThreads, metricasDoCron,
+                alteracoesNaJanela);
+        ReflectionTestUtils.setField(cronService, "envioConcorrente", true);
+        ReflectionTestUtils.setField(cronService, "paralelismo", 3);
+        ReflectionTestUtils.setField(cronService, "tamanhoLoteStatus", 4);
+    }
+
+    @AfterEach
+    void encerraCronService() {
+        cronService.encerraExecutorDeEnvio();
+    }
+
+    @Test
+    void envioConcorrenteNaoPassaDoParalelismo() {
+        cronService.iniciaExecutorDeEnvio();
+        AtomicInteger emAndamento = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        doAnswer(invocacao -> {
+            maximo.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            emAndamento.decrementAndGet();
+            return null;
+        }).when(emailService).enviaEmail(any());
+
+        processa(tarefas(12));
+
+        assertThat(maximo.get()).isBetween(2, 3);
+        assertThat(marcadasComoNotificadas).hasSize(12);
+    }
+
+    @Test
+    void falhaDeUmaTarefaNaoInterrompeAsOutras() {
+        cronService.iniciaExecutorDeEnvio();
+        doAnswer(invocacao -> {
+            if ("t2".equals(invocacao.<TarefasDTOResponse>getArgument(0).getId())) {
+                throw new IllegalStateException("Microsserviço de notificação indisponível.");
+            }
+            return null;
+        }).when(emailService).enviaEmail(any());
+
+        processa(tarefas(6));
+
+        assertThat(marcadasComoNotificadas).containsExactlyInAnyOrder("t0", "t1", "t3", "t4", "t5");
+        verify(retentativaDeNotificacoes).registraFalha(argThat(tarefa -> "t2".equals(tarefa.getId())), any());
+        verify(retentativaDeNotificacoes, never()).registraSucesso("t2");
+    }
+
+    @Test
+    void modoSequencialEnviaNaOrdemENaThreadDoCiclo() {
+        ReflectionTestUtils.setField(cronService, "envioConcorrente", false);
+        cronService.iniciaExecutorDeEnvio();
+        Thread threadDoCiclo = Thread.currentThread();
+        List<String> ordem = new ArrayList<>();
+        doAnswer(invocacao -> {
+            assertThat(Thread.currentThread()).isSameAs(threadDoCiclo);
+            ordem.add(invocacao.<TarefasDTOResponse>getArgument(0).getId());
+            return null;
+        }).when(emailService).enviaEmail(any());
+
+        processa(tarefas(5));
+
+        assertThat(ordem).containsExactly("t0", "t1", "t2", "t3", "t4");
+        assertThat(marcadasComoNotificadas).containsExactly("t0", "t1", "t2", "t3", "t4");
+    }
+
+    @Test
+    void tarefaQueMudouDeDonoAntesDoEnvioEIgnorada() {
+        cronService.iniciaExecutorDeEnvio();
+        when(coordenadorCluster.isDono("t1")).thenReturn(false);
+
+        processa(tarefas(3));
+
+        verify(emailService, never()).enviaEmail(argThat(tarefa -> "t1".equals(tarefa.getId())));
+        assertThat(marcadasComoNotificadas).containsExactlyInAnyOrder("t0", "t2");
+    }
+
+    @Test
+    void idRecusadoComQuatrocentosEQuatroEConfirmadoNoJournalSemPrenderOLote() {
+        ReflectionTestUtils.setField(cronService, "envioConcorrente", false);
+        cronService.iniciaExecutorDeEnvio();
+        // Lote t0..t3: t1 foi excluída depois do envio (404, definitivo); t2 pegou um 503 (transitório).
+        doAnswer(invocacao -> {
+            List<String> ids = invocacao.getArgument(1);
+            List<String> confirmados = ids.stream().filter(id -> !id.equals("t1") && !id.equals("t2")).toList();
+            return new TarefasService.ResultadoDoLote(List.of(), confirmados,
+                    ids.contains("t1") ? List.of("t1") : List.of(), ids.contains("t2") ? List.of("t2") : List.of());
+        }).when(tarefasService).alteraStatusDasTarefasEmLoteDetalhado(eq(StatusNotificacaoEnum.NOTIFICADO), anyList(), anyString());
+
+        Object resumo = processa(tarefas(4));
+
+        verify(journalDeNotificacoes).registraConfirmacoes(List.of("t0", "t3", "t1"));
+        assertThat(resumo).hasFieldOrPropertyWithValue("statusConfirmados", 3)
+                .hasFieldOrPropertyWithValue("falhasNoStatus", 1);
+    }
+
+    private Object processa(List<TarefasDTOResponse> tarefas) {
+        return ReflectionTestUtils.invokeMethod(cronService, "processaTarefas", tarefas);
+    }
+
+    private static List<TarefasDTOResponse> tarefas(int quantidade) {
+        return IntStream.range(0, quantidade).mapToObj(i -> {
+            TarefasDTOResponse tarefa = new TarefasDTOResponse();
+            tarefa.setId("t" + i);
+            tarefa.setEmailUsuario("usuario" + i + "@email.com");
+            tarefa.setDataEvento(LocalDateTime.now().plusMinutes(i));
+            tarefa.setStatusNotificacaoEnum(StatusNotificacaoEnum.PENDENTE);
+            return tarefa;
+        }).toList();
+    }
+}
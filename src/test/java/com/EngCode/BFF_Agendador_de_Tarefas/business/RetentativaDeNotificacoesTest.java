@@ -0,0 +1,182 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.FalhaNotificacaoDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Limites do backoff, posse da tarefa durante a retentativa e descarte da dead-letter.
+ * As esperas são de milissegundos, então a fila de atraso real é usada (sem relógio falso).
+ */
+class RetentativaDeNotificacoesTest {
+
+    private RetentativaDeNotificacoes retentativa;
+
+    @BeforeEach
+    void preparaRetentativa() {
+        retentativa = new RetentativaDeNotificacoes();
+        configura(5, Duration.ofMillis(1), Duration.ofMillis(4), 100);
+        retentativa.inicia();
+    }
+
+    @AfterEach
+    void encerraRetentativa() {
+        retentativa.encerra();
+    }
+
+    // BACKOFF
+    // -------------------------------------------------------------------------
+
+    @Test
+    void esperaDobraAteOLimiteEFicaEntreMetadeETodoOValor() {
+        configura(50, Duration.ofSeconds(10), Duration.ofMinutes(10), 100);
+
+        for (int tentativas = 1; tentativas <= 50; tentativas++) {
+            long limite = Math.min(10_000L << Math.min(tentativas - 1, 30), Duration.ofMinutes(10).toMillis());
+            for (int sorteio = 0; sorteio < 200; sorteio++) {
+                assertThat(espera(tentativas)).isBetween(limite / 2, limite);
+            }
+        }
+    }
+
+    @Test
+    void esperaNaoEstouraComMuitasTentativas() {
+        configura(Integer.MAX_VALUE, Duration.ofDays(1), Duration.ofDays(365), 100);
+
+        assertThat(espera(10_000)).isPositive().isLessThanOrEqualTo(Duration.ofDays(365).toMillis());
+    }
+
+    @Test
+    void esperaInicialZeradaAindaEsperaAlgo() {
+        configura(5, Duration.ZERO, Duration.ofSeconds(1), 100);
+
+        assertThat(espera(1)).isBetween(0L, 1L);
+    }
+
+    // POSSE E DEAD-LETTER
+    // -------------------------------------------------------------------------
+
+    @Test
+    void falhasSeguidasLevamADeadLetterDepoisDoMaximoDeTentativas() {
+        configura(3, Duration.ofMillis(1), Duration.ofMillis(2), 100);
+        AtomicInteger reenvios = new AtomicInteger();
+        retentativa.registraAcaoDeReenvio(tarefas -> {
+            reenvios.incrementAndGet();
+            throw new IllegalStateException("Serviço de e-mail fora do ar.");
+        });
+
+        retentativa.registraFalha(tarefa("t1"), new IllegalStateException("Primeira falha."));
+        aguarda(() -> !retentativa.listaFalhas().isEmpty());
+
+        List<FalhaNotificacaoDTOResponse> falhas = retentativa.listaFalhas();
+        assertThat(falhas).singleElement().satisfies(falha -> {
+            assertThat(falha.getIdTarefa()).isEqualTo("t1");
+            assertThat(falha.getTentativas()).isEqualTo(3);
+            assertThat(falha.getUltimoErro()).isEqualTo("Serviço de e-mail fora do ar.");
+        });
+        assertThat(reenvios.get()).isEqualTo(2); // A 1ª falha veio do ciclo; as outras duas dos reenvios.
+        assertThat(retentativa.controla("t1")).isTrue(); // Na dead-letter o ciclo continua sem enviá-la.
+    }
+
+    @Test
+    void reenvioQueTerminaSemRegistrarSucessoLiberaATarefa() throws InterruptedException {
+        CountDownLatch reenviada = new CountDownLatch(1);
+        // Ex: tarefa excluída ou já NOTIFICADO no recarregamento: nada é enviado, nada é registrado.
+        retentativa.registraAcaoDeReenvio(tarefas -> reenviada.countDown());
+
+        retentativa.registraFalha(tarefa("t1"), null);
+        assertThat(retentativa.controla("t1")).isTrue();
+
+        assertThat(reenviada.await(5, TimeUnit.SECONDS)).isTrue();
+        aguarda(() -> !retentativa.controla("t1"));
+    }
+
+    @Test
+    void deadLetterCheiaDescartaAFalhaMaisAntiga() {
+        configura(1, Duration.ofMillis(1), Duration.ofMillis(1), 2);
+
+        retentativa.registraFalha(tarefa("t1"), null);
+        retentativa.registraFalha(tarefa("t2"), null);
+        retentativa.registraFalha(tarefa("t3"), null);
+
+        assertThat(retentativa.listaFalhas()).extracting(FalhaNotificacaoDTOResponse::getIdTarefa).containsExactly("t2", "t3");
+        assertThat(retentativa.controla("t1")).isFalse(); // Descartada: volta para o ciclo agendado.
+    }
+
+    @Test
+    void novaFalhaDaMesmaTarefaVaiParaOFimDaDeadLetter() {
+        configura(1, Duration.ofMillis(1), Duration.ofMillis(1), 2);
+
+        retentativa.registraFalha(tarefa("t1"), null);
+        retentativa.registraFalha(tarefa("t2"), null);
+        retentativa.registraFalha(tarefa("t1"), null);
+        retentativa.registraFalha(tarefa("t3"), null);
+
+        assertThat(retentativa.listaFalhas()).extracting(FalhaNotificacaoDTOResponse::getIdTarefa).containsExactly("t1", "t3");
+    }
+
+    @Test
+    void reprocessarTiraDaDeadLetterEReenvia() throws InterruptedException {
+        configura(1, Duration.ofMillis(1), Duration.ofMillis(1), 10);
+        CountDownLatch reenviada = new CountDownLatch(1);
+        retentativa.registraAcaoDeReenvio(tarefas -> {
+            retentativa.registraSucesso(tarefas.get(0).getId());
+            reenviada.countDown();
+        });
+        retentativa.registraFalha(tarefa("t1"), null);
+
+        retentativa.reprocessa("t1");
+
+        assertThat(reenviada.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(retentativa.listaFalhas()).isEmpty();
+        aguarda(() -> !retentativa.controla("t1"));
+    }
+
+    @Test
+    void reprocessarOuDescartarTarefaForaDaDeadLetterFalha() {
+        assertThatThrownBy(() -> retentativa.reprocessa("inexistente")).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> retentativa.descarta("inexistente")).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private void configura(int maximoTentativas, Duration esperaInicial, Duration esperaMaxima, int capacidadeFilaMorta) {
+        ReflectionTestUtils.setField(retentativa, "maximoTentativas", maximoTentativas);
+        ReflectionTestUtils.setField(retentativa, "esperaInicial", esperaInicial);
+        ReflectionTestUtils.setField(retentativa, "esperaMaxima", esperaMaxima);
+        ReflectionTestUtils.setField(retentativa, "capacidadeFilaMorta", capacidadeFilaMorta);
+    }
+
+    private long espera(int tentativas) {
+        Long espera = ReflectionTestUtils.invokeMethod(retentativa, "calculaEspera", tentativas);
+        return espera;
+    }
+
+    private static void aguarda(BooleanSupplier condicao) {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condição não atingida em 5 s").isLessThan(limite);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private static TarefasDTOResponse tarefa(String id) {
+        TarefasDTOResponse tarefa = new TarefasDTOResponse();
+        tarefa.setId(id);
+        tarefa.setEmailUsuario(id + "@email.com");
+        return tarefa;
+    }
+}
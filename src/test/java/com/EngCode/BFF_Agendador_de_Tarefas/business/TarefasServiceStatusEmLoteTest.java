@@ -0,0 +1,113 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.business;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.business.dto.out.TarefasDTOResponse;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.TarefasClient;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.enums.StatusNotificacaoEnum;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.BusinessException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ResourceNotFoundException;
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PATCH de status em lote atendido com um PATCH por ID (padrão, sem /lote no Agendamento):
+ * cada ID sai classificado, e um ID com erro definitivo não impede os demais.
+ */
+@ExtendWith(MockitoExtension.class)
+class TarefasServiceStatusEmLoteTest {
+
+    private static final StatusNotificacaoEnum NOTIFICADO = StatusNotificacaoEnum.NOTIFICADO;
+
+    @Mock
+    private TarefasClient tarefasClient;
+    @Mock
+    private AgendadorDeNotificacoes agendadorDeNotificacoes;
+    @Mock
+    private CacheDeTarefasDoUsuario cacheDeTarefas;
+    @Mock
+    private CoalescedorDeChamadas coalescedor;
+    @Mock
+    private ExecucaoAssincrona execucaoAssincrona;
+    @Mock
+    private AlteracoesNaJanelaDePolling alteracoesNaJanela;
+    @InjectMocks
+    private TarefasService tarefasService;
+
+    @BeforeEach
+    void respondeOsIds() {
+        lenient().when(tarefasClient.alteraStatusDeNotificacao(eq(NOTIFICADO), anyString(), anyString()))
+                .thenAnswer(invocacao -> tarefa(invocacao.getArgument(1)));
+    }
+
+    @Test
+    void idComQuatrocentosEQuatroERecusadoEOsOutrosConfirmados() {
+        when(tarefasClient.alteraStatusDeNotificacao(NOTIFICADO, "t2", "token"))
+                .thenThrow(new ResourceNotFoundException("Tarefa não encontrada."));
+
+        TarefasService.ResultadoDoLote resultado =
+                tarefasService.alteraStatusDasTarefasEmLoteDetalhado(NOTIFICADO, List.of("t1", "t2", "t3"), "token");
+
+        assertThat(resultado.confirmados()).containsExactly("t1", "t3");
+        assertThat(resultado.recusados()).containsExactly("t2");
+        assertThat(resultado.comFalha()).isEmpty();
+        assertThat(resultado.atualizadas()).extracting(TarefasDTOResponse::getId).containsExactly("t1", "t3");
+        verify(agendadorDeNotificacoes).cancela("t1");
+        verify(agendadorDeNotificacoes, never()).cancela("t2");
+        verify(cacheDeTarefas).registraGravacoes(List.of("t1", "t2", "t3"), resultado.atualizadas());
+    }
+
+    @Test
+    void erroTransitorioFicaEmComFalha() {
+        when(tarefasClient.alteraStatusDeNotificacao(NOTIFICADO, "t1", "token"))
+                .thenThrow(new BusinessException("Erro 503."));
+
+        TarefasService.ResultadoDoLote resultado =
+                tarefasService.alteraStatusDasTarefasEmLoteDetalhado(NOTIFICADO, List.of("t1", "t2"), "token");
+
+        assertThat(resultado.confirmados()).containsExactly("t2");
+        assertThat(resultado.recusados()).isEmpty();
+        assertThat(resultado.comFalha()).containsExactly("t1");
+    }
+
+    @Test
+    void tokenExpiradoInterrompeOLoteParaSerRenovado() {
+        when(tarefasClient.alteraStatusDeNotificacao(NOTIFICADO, "t1", "token"))
+                .thenThrow(new UnauthorizedException("Token expirado."));
+
+        assertThatThrownBy(() -> tarefasService.alteraStatusDasTarefasEmLoteDetalhado(NOTIFICADO, List.of("t1", "t2"), "token"))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void varianteSemDetalheContinuaFalhandoQuandoAlgumIdFalha() {
+        when(tarefasClient.alteraStatusDeNotificacao(NOTIFICADO, "t2", "token"))
+                .thenThrow(new ResourceNotFoundException("Tarefa não encontrada."));
+
+        assertThatThrownBy(() -> tarefasService.alteraStatusDasTarefasEmLote(NOTIFICADO, List.of("t1", "t2"), "token"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("1 de 2");
+    }
+
+    private static TarefasDTOResponse tarefa(String id) {
+        TarefasDTOResponse tarefa = new TarefasDTOResponse();
+        tarefa.setId(id);
+        tarefa.setEmailUsuario(id + "@email.com");
+        tarefa.setStatusNotificacaoEnum(NOTIFICADO);
+        return tarefa;
+    }
+}
@@ -0,0 +1,218 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Hedge dos GETs com um transporte falso: as tentativas rodam no pool do hedge, a segunda só sai depois do atraso
+ * (fixo em 20 ms aqui, sem amostras suficientes para o percentil), vale a primeira com sucesso e nenhuma é interrompida.
+ */
+class ClienteComHedgeTest {
+
+    private static final ClienteComHedge.Configuracao CONFIGURACAO =
+            new ClienteComHedge.Configuracao(95, Duration.ofMillis(1), Duration.ofMillis(20), 100, 64);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ScheduledThreadPoolExecutor agendador = new ScheduledThreadPoolExecutor(1);
+
+    // Threads em que o transporte foi chamado, na ordem das chamadas.
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private final AtomicInteger chamadas = new AtomicInteger();
+
+    @AfterEach
+    void encerraThreads() {
+        executor.shutdownNow();
+        agendador.shutdownNow();
+    }
+
+    @Test
+    void getRapidoTerminaSemHedge() throws IOException {
+        ClienteComHedge cliente = hedge((tentativa, request) -> resposta(request, 200, "principal", null));
+
+        try (Response response = cliente.execute(get(), new Request.Options())) {
+            assertThat(corpo(response)).isEqualTo("principal");
+        }
+
+        assertThat(threads).hasSize(1).doesNotContain(Thread.currentThread());
+        assertThat(cliente.estatisticas().getHedgesDisparados()).isZero();
+        assertThat(agendador.getQueue()).isEmpty(); // Gatilho cancelado e removido da fila.
+    }
+
+    @Test
+    void principalQueFalhaDepoisDoAtrasoUsaARespostaDaSegunda() throws IOException {
+        ClienteComHedge cliente = hedge((tentativa, request) -> {
+            if (tentativa == 1) {
+                dorme(100);
+                throw new SocketTimeoutException("Read timed out");
+            }
+            return resposta(request, 200, "segunda", null);
+        });
+
+        try (Response response = cliente.execute(get(), new Request.Options())) {
+            assertThat(corpo(response)).isEqualTo("segunda");
+        }
+
+        assertThat(threads).hasSize(2).doesNotContain(Thread.currentThread());
+        assertThat(cliente.estatisticas().getHedgesDisparados()).isEqualTo(1);
+        assertThat(cliente.estatisticas().getHedgesVencedores()).isEqualTo(1);
+    }
+
+    @Test
+    void principal5xxAntesDaSegundaEsperaASegundaEFechaAPrincipal() throws IOException {
+        CountDownLatch principalFechada = new CountDownLatch(1);
+        ClienteComHedge cliente = hedge((tentativa, request) -> {
+            if (tentativa == 1) {
+                dorme(40); // Depois do atraso (o hedge já saiu), mas antes da segunda.
+                return resposta(request, 503, "principal", principalFechada);
+            }
+            dorme(80);
+            return resposta(request, 200, "segunda", null);
+        });
+
+        try (Response response = cliente.execute(get(), new Request.Options())) {
+            assertThat(response.status()).isEqualTo(200);
+            assertThat(corpo(response)).isEqualTo("segunda");
+        }
+        assertThat(principalFechada.getCount()).isZero();
+    }
+
+    @Test
+    void segundaMaisRapidaVenceSemEsperarAPrincipalQueEFechadaDepois() throws Exception {
+        CountDownLatch liberaPrincipal = new CountDownLatch(1);
+        CountDownLatch principalFechada = new CountDownLatch(1);
+        ClienteComHedge cliente = hedge((tentativa, request) -> {
+            if (tentativa == 1) {
+                // Perdedora: termina sozinha (sem interrupção), só depois de quem chamou já ter a resposta.
+                aguarda(liberaPrincipal);
+                return resposta(request, 200, "principal", principalFechada);
+            }
+            return resposta(request, 200, "segunda", null);
+        });
+
+        try (Response response = cliente.execute(get(), new Request.Options())) {
+            assertThat(corpo(response)).isEqualTo("segunda");
+        }
+        liberaPrincipal.countDown();
+
+        assertThat(principalFechada.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cliente.estatisticas().getHedgesDisparados()).isEqualTo(1);
+        assertThat(cliente.estatisticas().getHedgesVencedores()).isEqualTo(1);
+    }
+
+    @Test
+    void poolLotadoRodaAPrincipalNaThreadDeQuemChamou() throws IOException {
+        executor.shutdown(); // Rejeita tudo, como o pool sem fila quando lotado.
+        ClienteComHedge cliente = hedge((tentativa, request) -> resposta(request, 200, "principal", null));
+
+        try (Response response = cliente.execute(get(), new Request.Options())) {
+            assertThat(corpo(response)).isEqualTo("principal");
+        }
+
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void asDuasFalhandoPrevaleceOErroDaPrincipal() {
+        ClienteComHedge cliente = hedge((tentativa, request) -> {
+            dorme(tentativa == 1 ? 60 : 10);
+            throw new IOException("falha " + tentativa);
+        });
+
+        assertThatThrownBy(() -> cliente.execute(get(), new Request.Options()))
+                .isInstanceOf(IOException.class)
+                .hasMessage("falha 1")
+                .satisfies(erro -> assertThat(erro.getSuppressed()).hasSize(1));
+    }
+
+    @Test
+    void metodosQueNaoSaoGetNuncaTemHedge() throws IOException {
+        ClienteComHedge cliente = hedge((tentativa, request) -> {
+            dorme(60);
+            return resposta(request, 200, "post", null);
+        });
+        Request post = Request.create(Request.HttpMethod.POST, "http://destino/tarefas", Map.of(),
+                "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
+
+        try (Response response = cliente.execute(post, new Request.Options())) {
+            assertThat(corpo(response)).isEqualTo("post");
+        }
+
+        assertThat(chamadas.get()).isEqualTo(1);
+        assertThat(cliente.estatisticas().getRequisicoesGet()).isZero();
+    }
+
+    // Transporte falso: recebe o número da tentativa (1 = principal) e a requisição.
+    private interface Transporte {
+        Response responde(int tentativa, Request request) throws IOException;
+    }
+
+    private ClienteComHedge hedge(Transporte transporte) {
+        Client delegado = (request, options) -> {
+            threads.add(Thread.currentThread());
+            return transporte.responde(chamadas.incrementAndGet(), request);
+        };
+        agendador.setRemoveOnCancelPolicy(true);
+        return new ClienteComHedge("teste", delegado, executor, agendador, CONFIGURACAO);
+    }
+
+    private static Request get() {
+        return Request.create(Request.HttpMethod.GET, "http://destino/tarefas", Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    // Resposta cujo corpo avisa 'fechada' quando a resposta é fechada (conexão devolvida ao pool).
+    private static Response resposta(Request request, int status, String corpo, CountDownLatch fechada) {
+        byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+        ByteArrayInputStream entrada = new ByteArrayInputStream(bytes) {
+            @Override
+            public void close() {
+                if (fechada != null) {
+                    fechada.countDown();
+                }
+            }
+        };
+        return Response.builder().request(request).status(status).headers(Map.of()).body(entrada, bytes.length).build();
+    }
+
+    private static String corpo(Response response) throws IOException {
+        return new String(response.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static void aguarda(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new AssertionError("A tentativa não foi liberada.");
+            }
+        } catch (InterruptedException e) {
+            throw new AssertionError("A tentativa não deveria ser interrompida.", e);
+        }
+    }
+
+    private static void dorme(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new AssertionError("A tentativa não deveria ser interrompida.", e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.client.config;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.exceptions.ServiceUnavailableException;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Bulkhead de UMA vaga (sem espera): a vaga só volta quando o corpo da resposta é fechado, como no repasse em que
+ * o Spring copia o corpo depois que os cabeçalhos já voltaram.
+ */
+class ClienteProtegidoTest {
+
+    private final DisjuntorDoCliente disjuntor = new DisjuntorDoCliente("teste",
+            new DisjuntorDoCliente.Configuracao(10, 5, 50, Duration.ofSeconds(30), 1, 1, Duration.ZERO));
+
+    @Test
+    void vagaSoVoltaQuandoOCorpoRepassadoEFechado() throws IOException {
+        ClienteProtegido cliente = new ClienteProtegido((request, options) -> resposta(request, "[]"), disjuntor);
+
+        Response repasse = cliente.execute(get(), new Request.Options());
+        InputStream corpo = repasse.body().asInputStream(); // O que o RepasseDeResposta entrega ao Spring.
+
+        assertThatThrownBy(() -> cliente.execute(get(), new Request.Options()))
+                .isInstanceOf(ServiceUnavailableException.class); // Corpo ainda sendo copiado: vaga ocupada.
+        assertThat(new String(corpo.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("[]");
+        corpo.close();
+
+        cliente.execute(get(), new Request.Options()).close(); // Vaga devolvida.
+    }
+
+    @Test
+    void fecharOCorpoEAMesmaRespostaDevolveAVagaUmaVezSo() throws IOException {
+        ClienteProtegido cliente = new ClienteProtegido((request, options) -> resposta(request, "{}"), disjuntor);
+
+        Response primeira = cliente.execute(get(), new Request.Options());
+        primeira.body().asInputStream().close();
+        primeira.close(); // Segundo fechamento: não pode criar uma vaga a mais.
+
+        Response segunda = cliente.execute(get(), new Request.Options());
+        assertThatThrownBy(() -> cliente.execute(get(), new Request.Options()))
+                .isInstanceOf(ServiceUnavailableException.class);
+        segunda.close();
+    }
+
+    @Test
+    void respostaSemCorpoDevolveAVagaNaHora() throws IOException {
+        ClienteProtegido cliente = new ClienteProtegido((request, options) ->
+                Response.builder().request(request).status(204).headers(Map.of()).build(), disjuntor);
+
+        cliente.execute(get(), new Request.Options());
+
+        assertThat(cliente.execute(get(), new Request.Options()).status()).isEqualTo(204);
+    }
+
+    @Test
+    void erroDeTransporteDevolveAVagaNaHora() throws IOException {
+        int[] chamadas = {0};
+        ClienteProtegido cliente = new ClienteProtegido((request, options) -> {
+            if (chamadas[0]++ == 0) {
+                throw new ConnectException("Connection refused");
+            }
+            return resposta(request, "{}");
+        }, disjuntor);
+
+        assertThatThrownBy(() -> cliente.execute(get(), new Request.Options())).isInstanceOf(ConnectException.class);
+
+        cliente.execute(get(), new Request.Options()).close();
+    }
+
+    private static Request get() {
+        return Request.create(Request.HttpMethod.GET, "http://destino/tarefas", Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private static Response resposta(Request request, String corpo) {
+        byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+        return Response.builder().request(request).status(200).headers(Map.of())
+                .body(new ByteArrayInputStream(bytes), null).build(); // Sem tamanho, como uma resposta em chunks.
+    }
+}
@@ -0,0 +1,85 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Quanto do espaço de chaves troca de dono quando um nó entra ou sai (deve ficar perto de 1/N, e só
+ * envolvendo o nó que entrou/saiu) e como as chaves se distribuem com os nós virtuais padrão.
+ */
+class AnelDeHashConsistenteTest {
+
+    private static final int NOS_VIRTUAIS = 128;
+    private static final List<String> CHAVES = IntStream.range(0, 50_000).mapToObj(i -> "tarefa-" + i).toList();
+
+    @Test
+    void entradaDeUmNoMoveCercaDeUmQuintoDasChavesESoParaEle() {
+        AnelDeHashConsistente antes = new AnelDeHashConsistente(List.of("no-1", "no-2", "no-3", "no-4"), NOS_VIRTUAIS);
+        AnelDeHashConsistente depois = new AnelDeHashConsistente(List.of("no-1", "no-2", "no-3", "no-4", "no-5"), NOS_VIRTUAIS);
+
+        long movidas = 0;
+        for (String chave : CHAVES) {
+            if (!antes.donoDe(chave).equals(depois.donoDe(chave))) {
+                movidas++;
+                assertThat(depois.donoDe(chave)).isEqualTo("no-5");
+            }
+        }
+
+        assertThat((double) movidas / CHAVES.size()).isCloseTo(1.0 / 5, within(0.05));
+    }
+
+    @Test
+    void saidaDeUmNoMoveSoAsChavesDele() {
+        AnelDeHashConsistente antes = new AnelDeHashConsistente(List.of("no-1", "no-2", "no-3", "no-4", "no-5"), NOS_VIRTUAIS);
+        AnelDeHashConsistente depois = new AnelDeHashConsistente(List.of("no-1", "no-2", "no-4", "no-5"), NOS_VIRTUAIS);
+
+        long movidas = 0;
+        for (String chave : CHAVES) {
+            if (!antes.donoDe(chave).equals(depois.donoDe(chave))) {
+                movidas++;
+                assertThat(antes.donoDe(chave)).isEqualTo("no-3");
+            } else {
+                assertThat(antes.donoDe(chave)).isNotEqualTo("no-3");
+            }
+        }
+
+        assertThat((double) movidas / CHAVES.size()).isCloseTo(1.0 / 5, within(0.05));
+    }
+
+    @Test
+    void chavesSeDistribuemPertoDaMediaEntreOsNos() {
+        List<String> membros = List.of("no-1", "no-2", "no-3", "no-4");
+        AnelDeHashConsistente anel = new AnelDeHashConsistente(membros, NOS_VIRTUAIS);
+
+        Map<String, Integer> porNo = new HashMap<>();
+        CHAVES.forEach(chave -> porNo.merge(anel.donoDe(chave), 1, Integer::sum));
+
+        double media = (double) CHAVES.size() / membros.size();
+        assertThat(porNo).containsOnlyKeys(membros);
+        porNo.values().forEach(quantidade -> assertThat(quantidade / media).isCloseTo(1.0, within(0.25)));
+    }
+
+    @Test
+    void donoNaoDependeDaOrdemDosMembros() {
+        AnelDeHashConsistente anel = new AnelDeHashConsistente(List.of("no-1", "no-2", "no-3"), NOS_VIRTUAIS);
+        AnelDeHashConsistente outraOrdem = new AnelDeHashConsistente(List.of("no-3", "no-1", "no-2"), NOS_VIRTUAIS);
+
+        CHAVES.subList(0, 1000).forEach(chave -> assertThat(outraOrdem.donoDe(chave)).isEqualTo(anel.donoDe(chave)));
+    }
+
+    @Test
+    void anelVazioNaoTemDonoEUmNoSoEDonoDeTudo() {
+        AnelDeHashConsistente vazio = new AnelDeHashConsistente(List.of(), NOS_VIRTUAIS);
+        AnelDeHashConsistente unico = new AnelDeHashConsistente(List.of("no-1"), NOS_VIRTUAIS);
+
+        assertThat(vazio.donoDe("tarefa-1")).isNull();
+        CHAVES.subList(0, 1000).forEach(chave -> assertThat(unico.donoDe(chave)).isEqualTo("no-1"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.cluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Dois nós no mesmo diretório, com o heartbeat chamado à mão (o agendado fica para daqui a uma hora).
+ * A carência é trocada entre "longa" e zero para simular o tempo passando.
+ */
+class CoordenadorPorArquivoTest {
+
+    private static final Duration CARENCIA_LONGA = Duration.ofHours(1);
+    private static final List<String> CHAVES = IntStream.range(0, 2_000).mapToObj(i -> "tarefa-" + i).toList();
+
+    @TempDir
+    Path diretorio;
+
+    private final List<CoordenadorPorArquivo> abertos = new ArrayList<>();
+
+    @AfterEach
+    void saiDoCluster() throws IOException {
+        for (CoordenadorPorArquivo coordenador : abertos) {
+            coordenador.sai();
+        }
+    }
+
+    @Test
+    void noRecemChegadoSoAssumeAFatiaDepoisDaCarencia() throws IOException {
+        CoordenadorPorArquivo no1 = entra("no-1");
+        assertThat(donas(no1)).isEmpty(); // Nem o primeiro nó age antes da carência.
+
+        carencia(no1, Duration.ZERO);
+        assertThat(donas(no1)).hasSameSizeAs(CHAVES);
+
+        CoordenadorPorArquivo no2 = entra("no-2");
+        no1.atualizaMembros(); // no-1 vê no-2 e entrega a fatia dele na hora.
+        carencia(no1, CARENCIA_LONGA);
+
+        List<String> doNo1 = donas(no1);
+        assertThat(doNo1).isNotEmpty().hasSizeLessThan(CHAVES.size());
+        assertThat(donas(no2)).isEmpty(); // Carência: no-1 pode não ter visto a mudança ainda.
+
+        carencia(no2, Duration.ZERO);
+        List<String> doNo2 = donas(no2);
+        assertThat(doNo2).doesNotContainAnyElementsOf(doNo1);
+        assertThat(doNo1.size() + doNo2.size()).isEqualTo(CHAVES.size());
+    }
+
+    @Test
+    void noSemHeartbeatRecenteNaoEDonoDeNada() throws IOException {
+        CoordenadorPorArquivo no1 = entra("no-1");
+        carencia(no1, Duration.ZERO);
+        assertThat(donas(no1)).hasSameSizeAs(CHAVES);
+
+        // Último heartbeat gravado há mais da metade da expiração (ex: pausa longa do processo).
+        ReflectionTestUtils.setField(no1, "ultimoHeartbeat", System.nanoTime() - Duration.ofSeconds(11).toNanos());
+
+        assertThat(donas(no1)).isEmpty();
+    }
+
+    @Test
+    void depoisDeUmaConcessaoVencidaTodaAFatiaPassaPelaCarencia() throws IOException {
+        CoordenadorPorArquivo no1 = entra("no-1");
+        carencia(no1, Duration.ZERO);
+        no1.atualizaMembros();
+        carencia(no1, CARENCIA_LONGA);
+        assertThat(donas(no1)).hasSameSizeAs(CHAVES);
+
+        ReflectionTestUtils.setField(no1, "ultimoHeartbeat", System.nanoTime() - Duration.ofSeconds(11).toNanos());
+        no1.atualizaMembros(); // Heartbeat volta, mas os outros podem ter assumido a fatia nesse intervalo.
+
+        assertThat(donas(no1)).isEmpty();
+    }
+
+    private CoordenadorPorArquivo entra(String idNo) throws IOException {
+        CoordenadorPorArquivo coordenador = new CoordenadorPorArquivo();
+        ReflectionTestUtils.setField(coordenador, "diretorio", diretorio);
+        ReflectionTestUtils.setField(coordenador, "idNo", idNo);
+        ReflectionTestUtils.setField(coordenador, "expiracao", Duration.ofSeconds(20));
+        ReflectionTestUtils.setField(coordenador, "nosVirtuais", 128);
+        ReflectionTestUtils.setField(coordenador, "heartbeat", Duration.ofHours(1));
+        ReflectionTestUtils.setField(coordenador, "carencia", CARENCIA_LONGA);
+        coordenador.entra();
+        abertos.add(coordenador);
+        return coordenador;
+    }
+
+    private static void carencia(CoordenadorPorArquivo coordenador, Duration carencia) {
+        ReflectionTestUtils.setField(coordenador, "carencia", carencia);
+    }
+
+    private static List<String> donas(CoordenadorPorArquivo coordenador) {
+        return CHAVES.stream().filter(coordenador::isDono).toList();
+    }
+}
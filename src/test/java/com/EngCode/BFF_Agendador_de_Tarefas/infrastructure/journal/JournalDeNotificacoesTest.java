@@ -0,0 +1,172 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.journal;
+
+import com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.journal.JournalDeNotificacoes.EstadoNotificacao;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replay do journal depois de uma queda: o arquivo é gravado por uma instância, alterado à mão
+ * (registro final cortado ou corrompido) e relido por outra instância.
+ */
+class JournalDeNotificacoesTest {
+
+    @TempDir
+    Path diretorio;
+
+    // Tamanho de um registro com id ASCII: tipo (1) + tamanho do id (2) + id + crc (4).
+    private static int tamanhoDoRegistro(String id) {
+        return 7 + id.length();
+    }
+
+    @Test
+    void replayReconstroiOEstadoDasTarefas() throws IOException {
+        Path arquivo = diretorio.resolve("notificacoes.journal");
+        JournalDeNotificacoes journal = abre(arquivo);
+        journal.registraIntencoes(List.of("t1", "t2", "t3"));
+        journal.registraEnvio("t1");
+        journal.registraEnvio("t2");
+        journal.registraConfirmacoes(List.of("t2"));
+        journal.encerra();
+
+        JournalDeNotificacoes relido = abre(arquivo);
+
+        assertThat(relido.estado("t1")).isEqualTo(EstadoNotificacao.ENVIADO);
+        assertThat(relido.estado("t2")).isNull();
+        assertThat(relido.estado("t3")).isEqualTo(EstadoNotificacao.INTENCAO);
+        assertThat(relido.enviadasSemConfirmacao()).containsExactly("t1");
+        relido.encerra();
+    }
+
+    @Test
+    void registroFinalCortadoEDescartadoEOArquivoTruncado() throws IOException {
+        Path arquivo = diretorio.resolve("notificacoes.journal");
+        JournalDeNotificacoes journal = abre(arquivo);
+        journal.registraIntencoes(List.of("t1"));
+        journal.registraEnvio("t1");
+        journal.encerra();
+        long tamanhoValido = Files.size(arquivo);
+
+        // Queda no meio da escrita do ENVIO de 't2': só parte do registro chegou ao disco.
+        byte[] completo = registroDeOutraInstancia(EstadoNotificacao.ENVIADO, "t2");
+        Files.write(arquivo, Arrays.copyOf(completo, completo.length - 3), StandardOpenOption.APPEND);
+
+        JournalDeNotificacoes relido = abre(arquivo);
+
+        assertThat(relido.estado("t1")).isEqualTo(EstadoNotificacao.ENVIADO);
+        assertThat(relido.estado("t2")).isNull();
+        assertThat(Files.size(arquivo)).isEqualTo(tamanhoValido);
+        relido.encerra();
+    }
+
+    @Test
+    void registroFinalCortadoLogoAposOTipoEDescartado() throws IOException {
+        Path arquivo = diretorio.resolve("notificacoes.journal");
+        JournalDeNotificacoes journal = abre(arquivo);
+        journal.registraEnvio("t1");
+        journal.encerra();
+        long tamanhoValido = Files.size(arquivo);
+
+        Files.write(arquivo, new byte[]{(byte) EstadoNotificacao.CONFIRMADO.ordinal()}, StandardOpenOption.APPEND);
+
+        JournalDeNotificacoes relido = abre(arquivo);
+
+        assertThat(relido.estado("t1")).isEqualTo(EstadoNotificacao.ENVIADO);
+        assertThat(Files.size(arquivo)).isEqualTo(tamanhoValido);
+        relido.encerra();
+    }
+
+    @Test
+    void registroFinalComCrcInvalidoEDescartado() throws IOException {
+        Path arquivo = diretorio.resolve("notificacoes.journal");
+        JournalDeNotificacoes journal = abre(arquivo);
+        journal.registraIntencoes(List.of("t1", "t2"));
+        journal.registraEnvio("t1");
+        journal.registraEnvio("t2");
+        journal.encerra();
+
+        // Um byte do id do último registro (ENVIO de 't2') foi corrompido.
+        byte[] conteudo = Files.readAllBytes(arquivo);
+        conteudo[conteudo.length - 5] ^= 0x01;
+        Files.write(arquivo, conteudo);
+
+        JournalDeNotificacoes relido = abre(arquivo);
+
+        assertThat(relido.estado("t1")).isEqualTo(EstadoNotificacao.ENVIADO);
+        assertThat(relido.estado("t2")).isEqualTo(EstadoNotificacao.INTENCAO);
+        assertThat(Files.size(arquivo)).isEqualTo(conteudo.length - tamanhoDoRegistro("t2"));
+        relido.encerra();
+    }
+
+    @Test
+    void tipoDesconhecidoNoFinalEDescartado() throws IOException {
+        Path arquivo = diretorio.resolve("notificacoes.journal");
+        JournalDeNotificacoes journal = abre(arquivo);
+        journal.registraEnvio("t1");
+        journal.registraEnvio("t2");
+        journal.encerra();
+
+        byte[] conteudo = Files.readAllBytes(arquivo);
+        conteudo[conteudo.length - tamanhoDoRegistro("t2")] = 42;
+        Files.write(arquivo, conteudo);
+
+        JournalDeNotificacoes relido = abre(arquivo);
+
+        assertThat(relido.enviadasSemConfirmacao()).containsExactly("t1");
+        relido.encerra();
+    }
+
+    @Test
+    void escritasDepoisDoReplayContinuamDoPontoValido() throws IOException {
+        Path arquivo = diretorio.resolve("notificacoes.journal");
+        JournalDeNotificacoes journal = abre(arquivo);
+        journal.registraEnvio("t1");
+        journal.encerra();
+        byte[] completo = registroDeOutraInstancia(EstadoNotificacao.ENVIADO, "t2");
+        Files.write(arquivo, Arrays.copyOf(completo, 4), StandardOpenOption.APPEND);
+
+        // Sem o truncamento, o registro novo ficaria atrás do lixo e seria perdido no próximo replay.
+        JournalDeNotificacoes relido = abre(arquivo);
+        relido.registraConfirmacoes(List.of("t1"));
+        relido.registraEnvio("t3");
+        relido.encerra();
+
+        JournalDeNotificacoes terceiro = abre(arquivo);
+
+        assertThat(terceiro.estado("t1")).isNull();
+        assertThat(terceiro.enviadasSemConfirmacao()).containsExactly("t3");
+        terceiro.encerra();
+    }
+
+    private static JournalDeNotificacoes abre(Path arquivo) throws IOException {
+        JournalDeNotificacoes journal = new JournalDeNotificacoes();
+        ReflectionTestUtils.setField(journal, "habilitado", true);
+        ReflectionTestUtils.setField(journal, "arquivo", arquivo);
+        ReflectionTestUtils.setField(journal, "compactarAcimaDeBytes", Long.MAX_VALUE);
+        journal.inicia();
+        return journal;
+    }
+
+    // Bytes exatos de um registro, gravado por uma instância descartável em outro arquivo.
+    private byte[] registroDeOutraInstancia(EstadoNotificacao tipo, String id) throws IOException {
+        Path outro = Files.createTempFile(diretorio, "registro", ".journal");
+        Files.delete(outro);
+        JournalDeNotificacoes journal = abre(outro);
+        switch (tipo) {
+            case INTENCAO -> journal.registraIntencoes(List.of(id));
+            case ENVIADO -> journal.registraEnvio(id);
+            case CONFIRMADO -> journal.registraConfirmacoes(List.of(id));
+        }
+        journal.encerra();
+        return Files.readAllBytes(outro);
+    }
+}
@@ -0,0 +1,116 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.json;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CodecDataHora contra o DateTimeFormatter do mesmo padrão: o que o codec escreve ou lê tem de ser idêntico ao
+ * formatter; o que ele recusa (false/null) é o que fica para o formatter resolver.
+ */
+class CodecDataHoraTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(CodecDataHora.PADRAO);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "29-02-2024 23:59:59", // 29/02 em ano bissexto.
+            "29-02-2000 00:00:00", // Bissexto secular (divisível por 400).
+            "28-02-1900 12:30:05", // 1900 não é bissexto.
+            "01-01-0001 00:00:00", // Menor ano aceito.
+            "31-12-9999 23:59:59", // Maior ano aceito.
+            "05-07-2025 08:09:10"
+    })
+    void leEEscreveComoOFormatter(String texto) {
+        LocalDateTime esperado = LocalDateTime.parse(texto, FORMATTER);
+
+        assertThat(le(texto)).isEqualTo(esperado);
+        assertThat(escreve(esperado)).isEqualTo(FORMATTER.format(esperado)).isEqualTo(texto);
+    }
+
+    @Test
+    void escritaIgnoraFracoesDeSegundoComoOFormatter() {
+        LocalDateTime valor = LocalDateTime.of(2025, 3, 4, 5, 6, 7, 890_000_000);
+
+        assertThat(escreve(valor)).isEqualTo(FORMATTER.format(valor));
+    }
+
+    @Test
+    void vinteENoveDeFevereiroForaDoBissextoFicaParaOAjusteSmartDoFormatter() {
+        String texto = "29-02-2023 10:00:00";
+
+        assertThat(le(texto)).isNull();
+        assertThat(LocalDateTime.parse(texto, FORMATTER)).isEqualTo(LocalDateTime.of(2023, 2, 28, 10, 0));
+    }
+
+    @Test
+    void trintaEUmDeFevereiroFicaParaOAjusteSmartDoFormatter() {
+        String texto = "31-02-2024 10:00:00";
+
+        assertThat(le(texto)).isNull();
+        assertThat(LocalDateTime.parse(texto, FORMATTER)).isEqualTo(LocalDateTime.of(2024, 2, 29, 10, 0));
+    }
+
+    @Test
+    void anoAcimaDeNoveMilNovecentosENoventaENoveFicaParaOFormatter() {
+        LocalDateTime valor = LocalDateTime.of(10000, 1, 1, 0, 0);
+
+        assertThat(CodecDataHora.escreve(valor, new char[CodecDataHora.TAMANHO])).isFalse();
+        assertThat(FORMATTER.format(valor)).isEqualTo("01-01-+10000 00:00:00");
+        assertThat(le("01-01-+10000 00:00:00")).isNull();
+    }
+
+    @Test
+    void anoZeroEAnteriorFicamParaOFormatter() {
+        assertThat(CodecDataHora.escreve(LocalDateTime.of(0, 1, 1, 0, 0), new char[CodecDataHora.TAMANHO])).isFalse();
+        assertThat(le("01-01-0000 00:00:00")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0a-01-2025 10:00:00", // Letra no dia.
+            "01-01-2O25 10:00:00", // Letra O no lugar do zero.
+            "01-01-2025 1:00:00 ", // Posições certas, hora com espaço.
+            "+1-01-2025 10:00:00", // Sinal.
+            "01/01/2025 10:00:00", // Separador errado.
+            "01-01-2025T10:00:00",
+            "1-01-2025 10:00:00", // Curto.
+            "01-01-2025 10:00:000", // Longo.
+            "01-01-2025 10:00"
+    })
+    void textoForaDoFormatoNaoELidoEOFormatterTambemRecusa(String texto) {
+        assertThat(le(texto)).isNull();
+        assertThatThrownBy(() -> LocalDateTime.parse(texto, FORMATTER)).isInstanceOf(DateTimeParseException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"01-13-2025 10:00:00", "00-01-2025 10:00:00", "01-01-2025 24:00:00", "01-01-2025 10:60:00",
+            "31-04-2025 10:00:00"})
+    void camposForaDaFaixaNaoSaoLidos(String texto) {
+        assertThat(le(texto)).isNull();
+    }
+
+    @Test
+    void leOTrechoIndicadoDoBuffer() {
+        char[] buffer = "{\"d\":\"05-07-2025 08:09:10\"}".toCharArray();
+
+        assertThat(CodecDataHora.le(buffer, 6, CodecDataHora.TAMANHO)).isEqualTo(LocalDateTime.of(2025, 7, 5, 8, 9, 10));
+    }
+
+    private static LocalDateTime le(String texto) {
+        return CodecDataHora.le(texto.toCharArray(), 0, texto.length());
+    }
+
+    private static String escreve(LocalDateTime valor) {
+        char[] texto = new char[CodecDataHora.TAMANHO];
+        assertThat(CodecDataHora.escreve(valor, texto)).isTrue();
+        return new String(texto);
+    }
+}
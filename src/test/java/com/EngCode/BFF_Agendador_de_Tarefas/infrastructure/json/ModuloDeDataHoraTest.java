@@ -0,0 +1,94 @@
+package com.EngCode.BFF_Agendador_de_Tarefas.infrastructure.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ModuloDeDataHora contra o ObjectMapper sem ele (só o JavaTimeModule, como antes): mesmo JSON na escrita e mesmos
+ * valores na leitura, tanto nos campos com o @JsonFormat dos DTOs quanto nos sem anotação.
+ */
+class ModuloDeDataHoraTest {
+
+    private final ObjectMapper comModulo = mapper(true);
+    private final ObjectMapper semModulo = mapper(false);
+
+    static class Evento {
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = CodecDataHora.PADRAO)
+        public LocalDateTime anotada;
+        public LocalDateTime semAnotacao;
+    }
+
+    @Test
+    void idaEVoltaIgualAoJacksonPadrao() throws Exception {
+        Evento evento = evento(LocalDateTime.of(2024, 2, 29, 23, 59, 59), LocalDateTime.of(2025, 7, 5, 8, 9, 10, 123_000_000));
+
+        String json = comModulo.writeValueAsString(evento);
+        Evento lido = comModulo.readValue(json, Evento.class);
+
+        assertThat(json).isEqualTo(semModulo.writeValueAsString(evento))
+                .contains("\"anotada\":\"29-02-2024 23:59:59\"")
+                .contains("\"semAnotacao\":\"2025-07-05T08:09:10.123\"");
+        assertThat(lido.anotada).isEqualTo(evento.anotada);
+        assertThat(lido.semAnotacao).isEqualTo(evento.semAnotacao);
+    }
+
+    @Test
+    void anosNosLimitesEAcimaDeNoveMilNovecentosENoventaENoveIguaisAoJacksonPadrao() throws Exception {
+        for (int ano : new int[]{1, 9999, 10000}) {
+            Evento evento = evento(LocalDateTime.of(ano, 1, 1, 0, 0), null);
+
+            String json = comModulo.writeValueAsString(evento);
+
+            assertThat(json).isEqualTo(semModulo.writeValueAsString(evento));
+            assertThat(comModulo.readValue(json, Evento.class).anotada)
+                    .isEqualTo(semModulo.readValue(json, Evento.class).anotada)
+                    .isEqualTo(evento.anotada);
+        }
+    }
+
+    @Test
+    void diaInexistenteDeFevereiroLidoComOAjusteDoFormatter() throws Exception {
+        for (String data : new String[]{"29-02-2023 10:00:00", "31-02-2024 10:00:00"}) {
+            String json = "{\"anotada\":\"" + data + "\"}";
+
+            assertThat(comModulo.readValue(json, Evento.class).anotada)
+                    .isEqualTo(semModulo.readValue(json, Evento.class).anotada);
+        }
+    }
+
+    @Test
+    void textoForaDoFormatoFalhaComoNoJacksonPadrao() {
+        String json = "{\"anotada\":\"2025-01-01 10:00:00\"}";
+
+        assertThatThrownBy(() -> semModulo.readValue(json, Evento.class)).isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> comModulo.readValue(json, Evento.class)).isInstanceOf(InvalidFormatException.class);
+    }
+
+    private static Evento evento(LocalDateTime anotada, LocalDateTime semAnotacao) {
+        Evento evento = new Evento();
+        evento.anotada = anotada;
+        evento.semAnotacao = semAnotacao;
+        return evento;
+    }
+
+    // Como o ObjectMapper do Spring Boot: datas como texto; o ModuloDeDataHora entra depois do JavaTimeModule.
+    private static ObjectMapper mapper(boolean comModulo) {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (comModulo) {
+            builder.addModule(new ModuloDeDataHora());
+        }
+        return builder.build();
+    }
+}